@@ -39,6 +39,7 @@ public enum ErrorCode {
     BOOK_NOT_FOUND(HttpStatus.NOT_FOUND, "B006", "존재하지 않는 소설입니다."),
     SENTENCE_NOT_FOUND(HttpStatus.NOT_FOUND, "B007", "존재하지 않는 문장입니다."),
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "B008", "존재하지 않는 카테고리입니다."),
+    APPEND_QUEUE_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "B009", "문장이 저장되지 않았습니다. 잠시 후 다시 시도해주세요."),
 
     // Member (member-service)
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "M001", "이미 존재하는 이메일입니다."),
@@ -2,6 +2,7 @@ package com.team2.commonmodule.feign;
 
 import com.team2.commonmodule.feign.dto.BookReactionInfoDto;
 import com.team2.commonmodule.feign.dto.MemberReactionStatsDto;
+import com.team2.commonmodule.feign.dto.MyVotesDto;
 import com.team2.commonmodule.feign.dto.SentenceReactionInfoDto;
 import com.team2.commonmodule.response.ApiResponse;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -27,11 +28,27 @@ public interface ReactionServiceClient {
                         @RequestBody List<Long> sentenceIds,
                         @RequestParam(value = "userId", required = false) Long userId);
 
+        /**
+         * 문장-소설 매핑 등록 (문장 투표 알림 채널 계산용 Projection)
+         *
+         * @param sentenceBookIds 문장 ID → 소설 ID
+         */
+        @PostMapping("/internal/reactions/sentences/books")
+        ApiResponse<Void> registerSentenceBooks(@RequestBody Map<Long, Long> sentenceBookIds);
+
         @GetMapping("/internal/reactions/books/{bookId}/stats")
         ApiResponse<BookReactionInfoDto> getBookReactionStats(
                         @PathVariable("bookId") Long bookId,
                         @RequestParam(value = "userId", required = false) Long userId);
 
+        /**
+         * 한 소설에 대한 사용자의 소설/문장 투표 상태 (한 번의 쿼리)
+         */
+        @GetMapping("/internal/reactions/books/{bookId}/my-votes")
+        ApiResponse<MyVotesDto> getMyVotes(
+                        @PathVariable("bookId") Long bookId,
+                        @RequestParam("userId") Long userId);
+
         @GetMapping("/internal/members/{userId}/stats")
         ApiResponse<MemberReactionStatsDto> getMemberReactionStats(
                         @PathVariable("userId") Long userId);
@@ -0,0 +1,41 @@
+package com.team2.commonmodule.feign.cache;
+
+import com.team2.commonmodule.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 회원 정보 캐시 무효화 컨트롤러 (내부 통신용)
+ *
+ * <p>
+ * member-service가 닉네임 변경/회원 탈퇴 후 각 서비스 인스턴스에 직접 호출합니다.
+ * </p>
+ *
+ * @author 정진호
+ */
+@Hidden // Swagger UI에서 숨김 처리
+@RestController
+@RequestMapping("/internal/cache/members")
+@RequiredArgsConstructor
+public class MemberCacheInternalController {
+
+    private final MemberInfoCache memberInfoCache;
+
+    /**
+     * 회원 정보 캐시 무효화
+     *
+     * @param userIds 무효화할 회원 ID 목록
+     */
+    @PostMapping("/invalidate")
+    public ResponseEntity<ApiResponse<Void>> invalidate(@RequestBody List<Long> userIds) {
+        memberInfoCache.invalidate(userIds);
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+}
@@ -0,0 +1,126 @@
+package com.team2.commonmodule.feign.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team2.commonmodule.feign.MemberServiceClient;
+import com.team2.commonmodule.feign.dto.MemberBatchInfoDto;
+import com.team2.commonmodule.feign.dto.MemberInfoDto;
+import com.team2.commonmodule.response.ApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 회원 정보 Near Cache
+ *
+ * <p>
+ * member-service의 {@code /internal/members/**} 조회 결과를 서비스 인스턴스 로컬에 보관합니다.
+ * 일괄 조회 시에는 캐시에 없는 회원만 {@link MemberServiceClient#getMembersBatch}로 가져옵니다.
+ * </p>
+ *
+ * <p>
+ * 닉네임 변경/회원 탈퇴 시 member-service가
+ * {@code POST /internal/cache/members/invalidate}로 해당 항목을 즉시 무효화하며,
+ * 누락되더라도 TTL(member.cache.ttl-seconds)이 지나면 다시 조회됩니다.
+ * 적중/미스/제거 지표는 Actuator의 {@code cache.*} 메트릭(cache=member-info)으로 노출됩니다.
+ * </p>
+ *
+ * @author 정진호
+ */
+@Slf4j
+@Component
+public class MemberInfoCache {
+
+    private final MemberServiceClient memberServiceClient;
+    private final Cache<Long, MemberInfoDto> cache;
+
+    public MemberInfoCache(MemberServiceClient memberServiceClient,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${member.cache.max-size:10000}") long maxSize,
+            @Value("${member.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.memberServiceClient = memberServiceClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "member-info"));
+    }
+
+    /**
+     * 단일 회원 정보 조회
+     *
+     * @param userId 회원 ID
+     * @return 회원 정보 (없으면 null, 캐시하지 않음)
+     */
+    public MemberInfoDto get(Long userId) {
+        return cache.get(userId, this::fetch);
+    }
+
+    /**
+     * 단일 회원 닉네임 조회
+     *
+     * @param userId 회원 ID
+     * @return 닉네임 (없으면 null)
+     */
+    public String getNickname(Long userId) {
+        MemberInfoDto member = get(userId);
+        return member != null ? member.getUserNicknm() : null;
+    }
+
+    /**
+     * 여러 회원 정보 일괄 조회 (캐시 미스만 원격 조회)
+     *
+     * @param userIds 회원 ID 목록
+     * @return userId → 회원 정보 (존재하지 않는 회원은 제외)
+     */
+    public Map<Long, MemberInfoDto> getAll(Collection<Long> userIds) {
+        return cache.getAll(userIds, this::fetchAll);
+    }
+
+    /**
+     * 여러 회원 닉네임 일괄 조회
+     *
+     * @param userIds 회원 ID 목록
+     * @return userId → 닉네임 (존재하지 않는 회원은 제외)
+     */
+    public Map<Long, String> getNicknames(Collection<Long> userIds) {
+        Map<Long, String> nicknames = new HashMap<>();
+        getAll(userIds).forEach((userId, member) -> nicknames.put(userId, member.getUserNicknm()));
+        return nicknames;
+    }
+
+    /**
+     * 회원 정보 무효화 (닉네임 변경, 탈퇴 등)
+     *
+     * @param userIds 무효화할 회원 ID 목록
+     */
+    public void invalidate(Collection<Long> userIds) {
+        cache.invalidateAll(userIds);
+        log.debug("Member info cache invalidated: {}", userIds);
+    }
+
+    private MemberInfoDto fetch(Long userId) {
+        ApiResponse<MemberInfoDto> response = memberServiceClient.getMemberInfo(userId);
+        return response != null ? response.getData() : null;
+    }
+
+    private Map<Long, MemberInfoDto> fetchAll(Set<? extends Long> userIds) {
+        ApiResponse<MemberBatchInfoDto> response = memberServiceClient.getMembersBatch(new ArrayList<>(userIds));
+        Map<Long, MemberInfoDto> members = new HashMap<>();
+        if (response != null && response.getData() != null && response.getData().getMembers() != null) {
+            response.getData().getMembers().forEach(member -> members.put(member.getUserId(), member));
+        }
+        return members;
+    }
+}
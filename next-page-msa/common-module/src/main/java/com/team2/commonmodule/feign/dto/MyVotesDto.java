@@ -0,0 +1,28 @@
+package com.team2.commonmodule.feign.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 한 소설에 대한 내 투표 상태 (소설 뷰어 공유 응답에 덮어쓰는 사용자별 정보)
+ *
+ * <p>
+ * reaction-service의 /api/reactions/me/votes 응답이며, story-service는 뷰어 조회 시 Feign으로 함께 받아옵니다.
+ * </p>
+ *
+ * @author 정병진
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MyVotesDto {
+    private Long bookId;
+    private String bookVote; // 소설 투표 (LIKE/DISLIKE/null)
+    private List<Long> likedSentenceIds; // 좋아요한 문장 ID
+    private List<Long> dislikedSentenceIds; // 싫어요한 문장 ID
+}
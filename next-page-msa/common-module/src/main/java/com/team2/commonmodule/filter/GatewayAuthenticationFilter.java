@@ -22,7 +22,7 @@ import java.util.Collections;
  * MSA 환경에서 Gateway가 JWT를 검증한 후 다음 헤더를 설정합니다:
  * - X-User-Id: 사용자 ID
  * - X-User-Email: 사용자 이메일
- * - X-User-Nickname: 사용자 닉네임
+ * - X-User-Nickname: 사용자 닉네임 (UTF-8 URL 인코딩, SecurityUtil.getCurrentUserNickname()으로 디코딩)
  * - X-User-Role: 사용자 역할 (USER, ADMIN)
  *
  * @author 정진호
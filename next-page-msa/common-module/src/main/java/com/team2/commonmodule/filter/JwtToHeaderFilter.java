@@ -18,6 +18,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.crypto.SecretKey;
 import java.io.IOException;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 
@@ -96,7 +97,8 @@ public class JwtToHeaderFilter extends OncePerRequestFilter {
                 ((HeaderMapRequestWrapper) wrappedRequest).addHeader(HEADER_USER_ID, userId);
                 ((HeaderMapRequestWrapper) wrappedRequest).addHeader(HEADER_USER_EMAIL, userEmail);
                 if (userNickname != null) {
-                    ((HeaderMapRequestWrapper) wrappedRequest).addHeader(HEADER_USER_NICKNAME, userNickname);
+                    ((HeaderMapRequestWrapper) wrappedRequest).addHeader(HEADER_USER_NICKNAME,
+                            URLEncoder.encode(userNickname, StandardCharsets.UTF_8));
                 }
                 if (userRole != null) {
                     ((HeaderMapRequestWrapper) wrappedRequest).addHeader(HEADER_USER_ROLE, userRole);
@@ -0,0 +1,49 @@
+package com.team2.commonmodule.response;
+
+import com.team2.commonmodule.util.SecurityUtil;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+
+/**
+ * Gateway 응답 캐시(gateway.response-cache)와 브라우저 재검증을 위한 Cache-Control 헤더
+ *
+ * <p>
+ * Cache-Control을 명시하지 않은 응답에는 Spring Security가 기본값(no-cache, no-store)을 붙이므로
+ * Gateway가 캐시하지 못합니다. 캐시 대상 GET 응답은 아래 값 중 하나를 반드시 지정해야 합니다.
+ * </p>
+ *
+ * <ul>
+ * <li>{@link #shared()}: 사용자와 무관한 응답 - public (Gateway는 로그인 요청이어도 캐시/제공)</li>
+ * <li>{@link #viewer(boolean)}: 공유 응답이 아니면 익명 요청만 Gateway 캐시 허용, 로그인 사용자 응답은 no-store</li>
+ * </ul>
+ * 브라우저는 max-age=0으로 매번 ETag 재검증합니다.
+ *
+ * @author 정진호
+ */
+public final class ResponseCacheControl {
+
+    private ResponseCacheControl() {
+        // 유틸리티 클래스이므로 인스턴스 생성 방지
+    }
+
+    /**
+     * 사용자와 무관한 응답
+     */
+    public static CacheControl shared() {
+        return CacheControl.maxAge(Duration.ZERO).cachePublic();
+    }
+
+    /**
+     * 사용자에 따라 달라질 수 있는 응답 (myVote 등)
+     *
+     * @param shared 사용자별 필드를 채우지 않은 공유 응답인지
+     */
+    public static CacheControl viewer(boolean shared) {
+        if (shared) {
+            return shared();
+        }
+        // 익명 요청의 응답은 모든 익명 사용자에게 같으므로 Gateway 캐시 허용 (public이 아니므로 로그인 요청에는 제공 안 됨)
+        return SecurityUtil.isAuthenticated() ? CacheControl.noStore() : CacheControl.maxAge(Duration.ZERO);
+    }
+}
@@ -0,0 +1,41 @@
+package com.team2.commonmodule.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset 페이징 커서 (정렬 키 값 + 동률 구분 ID)
+ *
+ * 응답의 nextCursor는 "정렬 키 값\nID"를 URL-safe Base64(패딩 없음)로 인코딩한 문자열입니다.
+ * 정렬 키 값(예: 제목)에 줄바꿈이 있어도 마지막 줄바꿈을 구분자로 사용하므로 복원할 수 있습니다.
+ *
+ * @param sortValue 정렬 키 값 (created_at, 제목 등의 문자열 표현)
+ * @param id        동률 구분 키 (book_id, comment_id 등)
+ * @author 정진호
+ */
+public record KeysetCursor(String sortValue, Long id) {
+
+    private static final char SEPARATOR = '\n';
+
+    /**
+     * 다음 페이지 커서 생성
+     */
+    public static String encode(Object sortValue, Long id) {
+        String raw = String.valueOf(sortValue) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 복원
+     *
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new KeysetCursor(raw.substring(0, separator), Long.valueOf(raw.substring(separator + 1)));
+    }
+}
@@ -1,6 +1,8 @@
 package com.team2.commonmodule.util;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.security.core.Authentication;
@@ -13,7 +15,7 @@ import org.springframework.security.core.GrantedAuthority;
  * Gateway에서 JWT 검증 후 다음 헤더를 설정합니다:
  * - X-User-Id: 사용자 ID
  * - X-User-Email: 사용자 이메일
- * - X-User-Nickname: 사용자 닉네임
+ * - X-User-Nickname: 사용자 닉네임 (UTF-8 URL 인코딩)
  * - X-User-Role: 사용자 역할 (USER, ADMIN)
  *
  * @author 정진호 (MSA 전환 수정)
@@ -84,6 +86,7 @@ public class SecurityUtil {
 
     /**
      * Gateway에서 전달된 사용자 닉네임을 반환합니다.
+     * 헤더 값은 UTF-8 URL 인코딩되어 있으며, 디코딩할 수 없는 값은 그대로 반환합니다.
      *
      * @return 사용자 닉네임 (헤더가 없으면 null)
      */
@@ -92,7 +95,15 @@ public class SecurityUtil {
         if (request == null) {
             return null;
         }
-        return request.getHeader(HEADER_USER_NICKNAME);
+        String nickname = request.getHeader(HEADER_USER_NICKNAME);
+        if (nickname == null) {
+            return null;
+        }
+        try {
+            return URLDecoder.decode(nickname, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return nickname;
+        }
     }
 
     /**
@@ -0,0 +1,20 @@
+package com.team2.commonmodule.websocket.codec;
+
+/**
+ * 압축(Compact) 형식으로 전송할 수 있는 WebSocket 메시지
+ *
+ * <p>
+ * Compact 형식은 필드 이름 없이 값만 정해진 순서로 담은 JSON 배열이며, 첫 원소는 메시지 종류 태그입니다.
+ * SockJS(텍스트 전용) 전송에서도 그대로 사용할 수 있습니다.
+ * 필드 순서는 클라이언트 디코더(frontend/src/utils/stompCodec.js)와 맞춰야 하며, 태그는 서비스 간에 겹치지 않아야 합니다.
+ * </p>
+ *
+ * @author Next-Page Team
+ */
+public interface CompactEncodable {
+
+    /**
+     * 태그와 필드 값을 정해진 순서로 반환합니다.
+     */
+    Object[] toCompact();
+}
@@ -0,0 +1,112 @@
+package com.team2.commonmodule.websocket.codec;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.util.MimeType;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 구독별 메시지 형식 협상 (clientOutboundChannel 인터셉터)
+ *
+ * <p>
+ * 클라이언트가 SUBSCRIBE 프레임의 content-type 헤더에 application/vnd.nextpage.compact+json을 지정하면
+ * 그 구독으로 가는 {@link EncodedPayload}는 Compact 본문으로, 나머지는 JSON 본문으로 보냅니다.
+ * 응답 MESSAGE 프레임의 content-type으로 클라이언트가 형식을 구분합니다.
+ * </p>
+ *
+ * <ul>
+ * <li>헤더를 보내지 않는 기존 클라이언트는 계속 JSON을 받습니다.</li>
+ * <li>지표: {metricPrefix}.websocket.payload.bytes{format=json|compact} (구독자에게 전송된 본문 크기)</li>
+ * </ul>
+ *
+ * @author Next-Page Team
+ */
+public class CompactFormatNegotiator implements ChannelInterceptor {
+
+    /** 세션 ID → Compact 형식을 요청한 구독 ID */
+    private final Map<String, Set<String>> compactSubscriptions = new ConcurrentHashMap<>();
+    private final DistributionSummary jsonBytes;
+    private final DistributionSummary compactBytes;
+
+    /**
+     * @param metricPrefix 지표 이름 접두사 (예: story, reaction)
+     */
+    public CompactFormatNegotiator(String metricPrefix, MeterRegistry meterRegistry) {
+        this.jsonBytes = payloadSummary(metricPrefix, meterRegistry, "json");
+        this.compactBytes = payloadSummary(metricPrefix, meterRegistry, "compact");
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        MimeType contentType = accessor.getContentType();
+        if (contentType == null || !CompactMessagePublisher.COMPACT_TYPE.equalsTypeAndSubtype(contentType)
+                || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        compactSubscriptions.computeIfAbsent(accessor.getSessionId(), id -> ConcurrentHashMap.newKeySet())
+                .add(accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Set<String> subscriptions = accessor.getSessionId() != null
+                ? compactSubscriptions.get(accessor.getSessionId())
+                : null;
+        if (subscriptions != null && accessor.getSubscriptionId() != null) {
+            subscriptions.remove(accessor.getSubscriptionId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        compactSubscriptions.remove(event.getSessionId());
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!(message.getPayload() instanceof EncodedPayload payload)) {
+            return message;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        Set<String> subscriptions = sessionId != null ? compactSubscriptions.get(sessionId) : null;
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+        boolean compact = subscriptions != null && subscriptionId != null && subscriptions.contains(subscriptionId);
+
+        MessageHeaderAccessor accessor = MessageHeaderAccessor.getMutableAccessor(message);
+        byte[] body;
+        if (compact) {
+            body = payload.compact();
+            accessor.setContentType(CompactMessagePublisher.COMPACT_TYPE);
+            compactBytes.record(body.length);
+        } else {
+            body = payload.json();
+            jsonBytes.record(body.length);
+        }
+        return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+    }
+
+    private static DistributionSummary payloadSummary(String metricPrefix, MeterRegistry meterRegistry,
+            String format) {
+        return DistributionSummary.builder(metricPrefix + ".websocket.payload.bytes")
+                .description("구독자에게 전송된 WebSocket 메시지 본문 크기")
+                .baseUnit("bytes")
+                .tag("format", format)
+                .register(meterRegistry);
+    }
+}
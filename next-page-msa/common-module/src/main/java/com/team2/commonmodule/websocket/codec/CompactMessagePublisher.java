@@ -0,0 +1,95 @@
+package com.team2.commonmodule.websocket.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고빈도 WebSocket 메시지 발행기 (JSON / Compact 형식)
+ *
+ * <p>
+ * 메시지를 발행 시점에 한 번만 직렬화하여 브로커로 보냅니다.
+ * websocket.compact.enabled=true 이면 JSON과 Compact 본문을 함께 만들어 {@link EncodedPayload}로 보내고,
+ * 구독 시 content-type 헤더로 Compact 형식을 요청한 구독자에게만 Compact 본문이 전달됩니다.
+ * </p>
+ *
+ * <ul>
+ * <li>relay 브로커 모드에서는 외부 브로커가 바이트 본문만 받으므로 항상 JSON으로 보냅니다.</li>
+ * <li>지표: {metricPrefix}.websocket.serialize{format=json|compact} (메시지당 직렬화 시간)</li>
+ * </ul>
+ *
+ * @author Next-Page Team
+ */
+@Slf4j
+public class CompactMessagePublisher {
+
+    public static final MimeType COMPACT_TYPE = MimeType.valueOf("application/vnd.nextpage.compact+json");
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final Timer jsonTimer;
+    private final Timer compactTimer;
+    private final boolean compactEnabled;
+
+    /**
+     * @param metricPrefix 지표 이름 접두사 (예: story, reaction)
+     * @param enabled      websocket.compact.enabled
+     * @param brokerMode   websocket.broker.mode (simple | relay)
+     */
+    public CompactMessagePublisher(String metricPrefix, SimpMessagingTemplate messagingTemplate,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry, boolean enabled, String brokerMode) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.jsonTimer = serializeTimer(metricPrefix, meterRegistry, "json");
+        this.compactTimer = serializeTimer(metricPrefix, meterRegistry, "compact");
+        this.compactEnabled = enabled && !"relay".equalsIgnoreCase(brokerMode);
+        if (enabled && !compactEnabled) {
+            log.info("Compact STOMP payloads are disabled in relay broker mode");
+        }
+    }
+
+    /**
+     * 메시지를 한 번 직렬화하여 발행합니다.
+     *
+     * @param destination 목적지 (/topic/...)
+     * @param payload     메시지
+     */
+    public void convertAndSend(String destination, CompactEncodable payload) {
+        byte[] json = serialize(payload, jsonTimer);
+        Object body = compactEnabled ? new EncodedPayload(json, serialize(payload.toCompact(), compactTimer)) : json;
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+    }
+
+    private byte[] serialize(Object value, Timer timer) {
+        long started = System.nanoTime();
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new MessageConversionException("Failed to serialize STOMP payload", e);
+        } finally {
+            timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer serializeTimer(String metricPrefix, MeterRegistry meterRegistry, String format) {
+        return Timer.builder(metricPrefix + ".websocket.serialize")
+                .description("WebSocket 메시지 직렬화 시간 (메시지당 한 번)")
+                .tag("format", format)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,16 @@
+package com.team2.commonmodule.websocket.codec;
+
+/**
+ * 한 번 직렬화된 메시지 본문 (JSON / Compact)
+ *
+ * <p>
+ * 브로커는 구독자마다 이 객체를 그대로 전달하고, {@link CompactFormatNegotiator}가 구독별로 협상된
+ * 형식의 바이트를 골라 보냅니다. 구독자 수와 관계없이 직렬화는 형식별 한 번입니다.
+ * </p>
+ *
+ * @param json    application/json 본문
+ * @param compact application/vnd.nextpage.compact+json 본문
+ * @author Next-Page Team
+ */
+public record EncodedPayload(byte[] json, byte[] compact) {
+}
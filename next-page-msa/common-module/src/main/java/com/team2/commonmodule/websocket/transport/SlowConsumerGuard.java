@@ -0,0 +1,229 @@
+package com.team2.commonmodule.websocket.transport;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 느린 구독자(Slow Consumer) 처리 정책
+ *
+ * <p>
+ * 세션마다 현재 전송(sendMessage)이 언제 시작됐는지 기록하고, 한 프레임 전송이 slow-send-ms 이상
+ * 끝나지 않는 세션을 "느린 세션"으로 봅니다. 느린 세션으로 가는 메시지 중 droppable-destinations에
+ * 해당하는 프레임(입력 상태, 투표 수처럼 곧 다음 값으로 대체되는 알림)은 clientOutboundChannel에서 버려,
+ * 세션 송신 버퍼가 중요한 메시지(새 문장, 댓글)로만 채워지도록 합니다.
+ * 느린 상태에서 연속으로 disconnect-after-drops개를 버리면 연결을 끊습니다.
+ * </p>
+ *
+ * <ul>
+ * <li>버리지 않는 프레임이 밀리는 경우는 Spring 송신 제한(send-time-limit-ms, send-buffer-size-limit)에 걸려 연결이 끊깁니다.</li>
+ * <li>SockJS polling 전송은 전송이 즉시 끝나므로 느린 세션으로 판단되지 않습니다. (SockJS 메시지 캐시 제한으로 처리)</li>
+ * <li>지표: {metricPrefix}.websocket.frames.dropped{pattern}, {metricPrefix}.websocket.disconnects{reason=slow-consumer|send-limit}</li>
+ * </ul>
+ *
+ * <p>
+ * 각 서비스의 설정 클래스에서 Bean으로 등록하고, clientOutboundChannel 인터셉터와 WebSocket 핸들러 데코레이터로 함께 등록합니다.
+ * </p>
+ *
+ * @author Next-Page Team
+ */
+@Slf4j
+public class SlowConsumerGuard implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /** 세션 ID(= simpSessionId) → 전송 상태 */
+    private final Map<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+    /** 버릴 수 있는 목적지 패턴 → 버린 프레임 수 */
+    private final Map<String, Counter> droppedCounters = new LinkedHashMap<>();
+    private final Counter slowConsumerDisconnects;
+    private final Counter sendLimitDisconnects;
+
+    private final boolean enabled;
+    private final long slowSendNanos;
+    private final int disconnectAfterDrops;
+
+    /** 연결 종료는 전송 중인 세션의 잠금을 기다릴 수 있으므로 브로커 스레드와 분리 */
+    private final ExecutorService closeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "slow-consumer-close");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param metricPrefix          지표 이름 접두사 (예: story, reaction)
+     * @param slowSendMs            한 프레임 전송이 이 시간 이상 걸리고 있으면 느린 세션
+     * @param disconnectAfterDrops  느린 상태에서 연속으로 버린 프레임 수가 이 값에 이르면 연결 종료
+     * @param droppableDestinations 느린 세션에 버릴 수 있는 목적지 패턴 (Ant 스타일)
+     */
+    public SlowConsumerGuard(String metricPrefix, MeterRegistry meterRegistry, boolean enabled, long slowSendMs,
+            int disconnectAfterDrops, String[] droppableDestinations) {
+        this.enabled = enabled;
+        this.slowSendNanos = TimeUnit.MILLISECONDS.toNanos(slowSendMs);
+        this.disconnectAfterDrops = disconnectAfterDrops;
+        for (String pattern : droppableDestinations) {
+            droppedCounters.put(pattern.trim(), Counter.builder(metricPrefix + ".websocket.frames.dropped")
+                    .description("느린 세션으로 가지 않고 버려진 프레임 수")
+                    .tag("pattern", pattern.trim())
+                    .register(meterRegistry));
+        }
+        this.slowConsumerDisconnects = disconnectCounter(metricPrefix, meterRegistry, "slow-consumer");
+        this.sendLimitDisconnects = disconnectCounter(metricPrefix, meterRegistry, "send-limit");
+    }
+
+    public void shutdown() {
+        closeExecutor.shutdownNow();
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                TrackedSession tracked = new TrackedSession(session);
+                sessions.put(session.getId(), tracked);
+                super.afterConnectionEstablished(tracked);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                super.handleMessage(tracked(session), message);
+            }
+
+            @Override
+            public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+                super.handleTransportError(tracked(session), exception);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                TrackedSession tracked = sessions.remove(session.getId());
+                // 송신 시간/버퍼 제한 초과 시 Spring이 SESSION_NOT_RELIABLE로 종료
+                if (tracked != null && !tracked.closing.get()
+                        && CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    sendLimitDisconnects.increment();
+                }
+                super.afterConnectionClosed(tracked != null ? tracked : session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * clientOutboundChannel 전송 전: 느린 세션으로 가는 버릴 수 있는 프레임이면 null을 반환하여 버립니다.
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        TrackedSession session = sessionId != null ? sessions.get(sessionId) : null;
+        if (session == null) {
+            return message;
+        }
+        if (!session.isSlow(System.nanoTime(), slowSendNanos)) {
+            if (session.consecutiveDrops.get() != 0) {
+                session.consecutiveDrops.set(0);
+            }
+            return message;
+        }
+
+        Counter dropped = droppedCounter(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        if (dropped == null) {
+            return message;
+        }
+        dropped.increment();
+        if (session.consecutiveDrops.incrementAndGet() >= disconnectAfterDrops
+                && session.closing.compareAndSet(false, true)) {
+            slowConsumerDisconnects.increment();
+            closeExecutor.execute(() -> close(session));
+        }
+        return null;
+    }
+
+    private Counter droppedCounter(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        for (Map.Entry<String, Counter> entry : droppedCounters.entrySet()) {
+            if (pathMatcher.match(entry.getKey(), destination)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private WebSocketSession tracked(WebSocketSession session) {
+        TrackedSession tracked = sessions.get(session.getId());
+        return tracked != null ? tracked : session;
+    }
+
+    private static void close(TrackedSession session) {
+        try {
+            log.info("Closing slow WebSocket session {}", session.getId());
+            session.getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("Failed to close slow WebSocket session {}: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    private static Counter disconnectCounter(String metricPrefix, MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(metricPrefix + ".websocket.disconnects")
+                .description("서버가 끊은 WebSocket 연결 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전송 시작 시각을 기록하는 세션 (Spring의 ConcurrentWebSocketSessionDecorator 안쪽에서 실제 전송을 감쌈)
+     */
+    private static final class TrackedSession extends WebSocketSessionDecorator {
+
+        /** 진행 중인 전송의 시작 시각 (0: 전송 중 아님) */
+        private volatile long sendStartedNanos;
+        private final AtomicInteger consecutiveDrops = new AtomicInteger();
+        private final AtomicBoolean closing = new AtomicBoolean();
+
+        TrackedSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            sendStartedNanos = System.nanoTime() | 1; // 0과 구분
+            try {
+                super.sendMessage(message);
+            } finally {
+                sendStartedNanos = 0;
+            }
+        }
+
+        boolean isSlow(long now, long slowSendNanos) {
+            long started = sendStartedNanos;
+            return started != 0 && now - started >= slowSendNanos;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.team2.commonmodule.websocket.transport;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * STOMP 채널(clientInboundChannel / clientOutboundChannel) 전용 실행기
+ *
+ * <p>
+ * Spring 기본값은 채널마다 큐와 최대 스레드 수가 사실상 무제한인 스레드 풀이라,
+ * 느린 클라이언트 때문에 전송이 밀리면 큐가 끝없이 쌓입니다. 여기서는 채널별로 크기를 제한합니다.
+ * </p>
+ *
+ * <ul>
+ * <li>pool (기본): core-size/max-size 스레드, queue-capacity 크기의 큐. 큐가 가득 차면 해당 메시지는 거부됩니다.</li>
+ * <li>virtual: 메시지마다 가상 스레드에서 처리하며, 동시 처리 수가 concurrency-limit에 이르면 보내는 쪽이 대기합니다.
+ * 가상 스레드는 Java 21 이상에서만 지원되므로, 그보다 낮은 런타임에서는 경고를 남기고 pool로 동작합니다.</li>
+ * <li>지표: {metricPrefix}.websocket.channel.pending{channel} (대기+처리 중 메시지 수),
+ * {metricPrefix}.websocket.channel.rejected{channel}</li>
+ * </ul>
+ *
+ * <p>
+ * 각 서비스의 설정 클래스에서 Bean으로 등록합니다. (websocket 의존성이 없는 서비스도 common-module을 스캔하므로 @Component 아님)
+ * 내부 실행기는 Bean으로 등록하지 않습니다. (Spring Boot 기본 applicationTaskExecutor 자동 설정에 영향을 주지 않도록)
+ * </p>
+ *
+ * @author Next-Page Team
+ */
+@Slf4j
+public class StompChannelExecutors {
+
+    /** 가상 스레드(SimpleAsyncTaskExecutor#setVirtualThreads)를 지원하는 최소 Java 버전 */
+    private static final int VIRTUAL_THREADS_MIN_VERSION = 21;
+
+    private final ThreadPoolTaskExecutor inboundPool;
+    private final ThreadPoolTaskExecutor outboundPool;
+    private final SimpleAsyncTaskExecutor inboundVirtual;
+    private final SimpleAsyncTaskExecutor outboundVirtual;
+
+    /**
+     * @param metricPrefix 지표 이름 접두사 (예: story, reaction)
+     * @param executorType pool | virtual (websocket.channel.executor)
+     */
+    public StompChannelExecutors(String metricPrefix, MeterRegistry meterRegistry, Environment environment,
+            String executorType) {
+        boolean virtual = "virtual".equalsIgnoreCase(executorType);
+        if (virtual && Runtime.version().feature() < VIRTUAL_THREADS_MIN_VERSION) {
+            log.warn("websocket.channel.executor=virtual requires Java {}+ (running {}), falling back to pool",
+                    VIRTUAL_THREADS_MIN_VERSION, Runtime.version().feature());
+            virtual = false;
+        }
+        if (virtual) {
+            this.inboundPool = null;
+            this.outboundPool = null;
+            this.inboundVirtual = virtualExecutor(metricPrefix, "inbound", environment, meterRegistry);
+            this.outboundVirtual = virtualExecutor(metricPrefix, "outbound", environment, meterRegistry);
+        } else {
+            this.inboundPool = poolExecutor(metricPrefix, "inbound", environment, meterRegistry);
+            this.outboundPool = poolExecutor(metricPrefix, "outbound", environment, meterRegistry);
+            this.inboundVirtual = null;
+            this.outboundVirtual = null;
+        }
+        log.info("STOMP channel executors: {}", virtual ? "virtual" : "pool");
+    }
+
+    public Executor inbound() {
+        return inboundPool != null ? inboundPool : inboundVirtual;
+    }
+
+    public Executor outbound() {
+        return outboundPool != null ? outboundPool : outboundVirtual;
+    }
+
+    public void shutdown() {
+        if (inboundPool != null) {
+            inboundPool.shutdown();
+            outboundPool.shutdown();
+        } else {
+            inboundVirtual.close();
+            outboundVirtual.close();
+        }
+    }
+
+    private static ThreadPoolTaskExecutor poolExecutor(String metricPrefix, String channel, Environment environment,
+            MeterRegistry meterRegistry) {
+        String prefix = "websocket.channel." + channel + ".";
+        AtomicInteger pending = pendingGauge(metricPrefix, channel, meterRegistry);
+        Counter rejected = rejectedCounter(metricPrefix, channel, meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(environment.getProperty(prefix + "core-size", Integer.class, 8));
+        executor.setMaxPoolSize(environment.getProperty(prefix + "max-size", Integer.class, 16));
+        executor.setQueueCapacity(environment.getProperty(prefix + "queue-capacity", Integer.class, 10000));
+        executor.setThreadNamePrefix("stomp-" + channel + "-");
+        executor.setDaemon(true);
+        executor.setTaskDecorator(countPending(pending));
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            // 거부된 작업은 실행되지 않으므로 대기 수에서 바로 제외
+            pending.decrementAndGet();
+            rejected.increment();
+            throw new RejectedExecutionException("STOMP " + channel + " channel queue is full");
+        });
+        executor.initialize();
+        return executor;
+    }
+
+    private static SimpleAsyncTaskExecutor virtualExecutor(String metricPrefix, String channel,
+            Environment environment, MeterRegistry meterRegistry) {
+        String prefix = "websocket.channel." + channel + ".";
+        AtomicInteger pending = pendingGauge(metricPrefix, channel, meterRegistry);
+        rejectedCounter(metricPrefix, channel, meterRegistry); // virtual 모드는 거부 없이 대기하므로 항상 0
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("stomp-" + channel + "-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(environment.getProperty(prefix + "concurrency-limit", Integer.class, 1000));
+        executor.setTaskDecorator(countPending(pending));
+        return executor;
+    }
+
+    private static TaskDecorator countPending(AtomicInteger pending) {
+        return task -> {
+            pending.incrementAndGet();
+            return () -> {
+                try {
+                    task.run();
+                } finally {
+                    pending.decrementAndGet();
+                }
+            };
+        };
+    }
+
+    private static AtomicInteger pendingGauge(String metricPrefix, String channel, MeterRegistry meterRegistry) {
+        AtomicInteger pending = new AtomicInteger();
+        Gauge.builder(metricPrefix + ".websocket.channel.pending", pending, AtomicInteger::get)
+                .description("STOMP 채널에서 대기 중이거나 처리 중인 메시지 수")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        return pending;
+    }
+
+    private static Counter rejectedCounter(String metricPrefix, String channel, MeterRegistry meterRegistry) {
+        return Counter.builder(metricPrefix + ".websocket.channel.rejected")
+                .description("큐가 가득 차 거부된 STOMP 채널 메시지 수")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+}
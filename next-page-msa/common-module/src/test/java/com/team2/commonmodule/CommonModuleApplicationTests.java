@@ -1,11 +1,17 @@
 package com.team2.commonmodule;
 
+import com.team2.commonmodule.feign.MemberServiceClient;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 @SpringBootTest
 class CommonModuleApplicationTests {
 
+  // Feign 클라이언트는 사용하는 서비스에서 활성화하므로 테스트에서는 대역으로 둠
+  @MockitoBean
+  private MemberServiceClient memberServiceClient;
+
   @Test
   void contextLoads() {
   }
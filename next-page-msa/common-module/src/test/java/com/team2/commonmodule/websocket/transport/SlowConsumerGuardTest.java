@@ -0,0 +1,143 @@
+package com.team2.commonmodule.websocket.transport;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 전송이 멈춘 세션으로 가는 버릴 수 있는 프레임이 버려지고, 계속 느리면 연결이 끊기는지 검증합니다.
+ */
+class SlowConsumerGuardTest {
+
+    private static final long SLOW_SEND_MS = 50;
+    private static final int DISCONNECT_AFTER_DROPS = 3;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MessageChannel outboundChannel = mock(MessageChannel.class);
+    private final ExecutorService sender = Executors.newSingleThreadExecutor();
+    private final CountDownLatch releaseSend = new CountDownLatch(1);
+
+    private SlowConsumerGuard guard;
+    private WebSocketSession session;
+    private WebSocketSession tracked;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        guard = new SlowConsumerGuard("test", meterRegistry, true, SLOW_SEND_MS, DISCONNECT_AFTER_DROPS,
+                new String[] { "/topic/typing/**" });
+
+        session = mock(WebSocketSession.class);
+        given(session.getId()).willReturn("s1");
+        willAnswer(invocation -> releaseSend.await(5, TimeUnit.SECONDS)).given(session).sendMessage(any());
+
+        WebSocketHandler handler = mock(WebSocketHandler.class);
+        guard.decorate(handler).afterConnectionEstablished(session);
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(captor.capture());
+        tracked = captor.getValue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSend.countDown();
+        sender.shutdownNow();
+        guard.shutdown();
+    }
+
+    @Test
+    @DisplayName("전송이 끝나지 않는 세션이 아니면 모든 프레임을 그대로 보낸다")
+    void fastSessionReceivesEverything() {
+        // when
+        Message<?> result = guard.preSend(message("/topic/typing/1"), outboundChannel);
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(droppedFrames()).isZero();
+    }
+
+    @Test
+    @DisplayName("느린 세션에는 버릴 수 있는 프레임만 버리고 나머지는 보낸다")
+    void slowSessionDropsOnlyDroppableFrames() throws Exception {
+        // given
+        startStalledSend();
+
+        // when
+        Message<?> typing = guard.preSend(message("/topic/typing/1"), outboundChannel);
+        Message<?> sentence = guard.preSend(message("/topic/sentences/1"), outboundChannel);
+
+        // then
+        assertThat(typing).isNull();
+        assertThat(sentence).isNotNull();
+        assertThat(droppedFrames()).isEqualTo(1);
+        verify(session, never()).close(any());
+    }
+
+    @Test
+    @DisplayName("느린 상태에서 연속으로 disconnect-after-drops개를 버리면 연결을 끊는다")
+    void slowConsumerIsDisconnected() throws Exception {
+        // given
+        startStalledSend();
+
+        // when
+        for (int i = 0; i < DISCONNECT_AFTER_DROPS + 2; i++) {
+            assertThat(guard.preSend(message("/topic/typing/1"), outboundChannel)).isNull();
+        }
+
+        // then
+        verify(session, timeout(1000).times(1)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(droppedFrames()).isEqualTo(DISCONNECT_AFTER_DROPS + 2);
+        assertThat(meterRegistry.get("test.websocket.disconnects").tag("reason", "slow-consumer").counter().count())
+                .isEqualTo(1);
+    }
+
+    /**
+     * 클라이언트가 읽지 않아 한 프레임 전송이 slow-send-ms 이상 끝나지 않는 상태를 만듭니다.
+     */
+    private void startStalledSend() throws InterruptedException {
+        CountDownLatch sending = new CountDownLatch(1);
+        sender.submit(() -> {
+            sending.countDown();
+            tracked.sendMessage(new TextMessage("frame"));
+            return null;
+        });
+        assertThat(sending.await(1, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(SLOW_SEND_MS * 3);
+    }
+
+    private double droppedFrames() {
+        return meterRegistry.get("test.websocket.frames.dropped").counter().count();
+    }
+
+    private static Message<byte[]> message(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId("s1");
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
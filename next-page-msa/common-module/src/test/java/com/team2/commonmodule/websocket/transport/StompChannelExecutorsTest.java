@@ -0,0 +1,86 @@
+package com.team2.commonmodule.websocket.transport;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * STOMP 채널 실행기의 큐 크기 제한과, 가상 스레드를 지원하지 않는 런타임에서의 대체 동작을 검증합니다.
+ */
+class StompChannelExecutorsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("큐가 가득 차면 메시지를 거부하고 거부 수를 기록한다")
+    void rejectsWhenQueueIsFull() throws Exception {
+        // given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("websocket.channel.outbound.core-size", "1")
+                .withProperty("websocket.channel.outbound.max-size", "1")
+                .withProperty("websocket.channel.outbound.queue-capacity", "1");
+        StompChannelExecutors executors = new StompChannelExecutors("test", meterRegistry, environment, "pool");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Executor outbound = executors.outbound();
+
+        try {
+            // when
+            outbound.execute(() -> {
+                started.countDown();
+                await(release);
+            });
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+            outbound.execute(() -> await(release));
+
+            // then
+            assertThatThrownBy(() -> outbound.execute(() -> { }))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(meterRegistry.get("test.websocket.channel.rejected").tag("channel", "outbound")
+                    .counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("test.websocket.channel.pending").tag("channel", "outbound")
+                    .gauge().value()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            executors.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("virtual을 요청해도 Java 21 미만에서는 예외 없이 스레드 풀로 동작한다")
+    void virtualFallsBackToPoolBeforeJava21() {
+        // when
+        StompChannelExecutors executors = new StompChannelExecutors("test", meterRegistry, new MockEnvironment(),
+                "virtual");
+
+        // then
+        try {
+            Class<?> expected = Runtime.version().feature() >= 21
+                    ? SimpleAsyncTaskExecutor.class
+                    : ThreadPoolTaskExecutor.class;
+            assertThat(executors.inbound()).isInstanceOf(expected);
+            assertThat(executors.outbound()).isInstanceOf(expected);
+        } finally {
+            executors.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -34,14 +34,16 @@ CREATE TABLE `books` (
     `current_sequence` INT NOT NULL DEFAULT 1 COMMENT '현재 문장 순서 (1부터 시작)',
     `max_sequence` INT NOT NULL DEFAULT 20 COMMENT '최대 문장 개수 (도달 시 자동 완결)',
     `last_writer_user_id` BIGINT NULL COMMENT '마지막 작성자 ID (연속 작성 방지)',
+    `version` BIGINT NOT NULL DEFAULT 0 COMMENT '낙관적 락 버전 (문장 작성 충돌 감지)',
     `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     `updated_at` DATETIME NULL ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
     PRIMARY KEY (`book_id`),
-    INDEX `idx_writer_id` (`writer_id`),
-    INDEX `idx_category_id` (`category_id`),
-    INDEX `idx_status` (`status`),
-    INDEX `idx_created_at` (`created_at` DESC),
-    INDEX `idx_category_status` (`category_id`, `status`),
+    -- 목록 조회 Keyset 페이징용 (정렬 키, book_id) 복합 인덱스
+    INDEX `idx_created_book` (`created_at`, `book_id`),
+    INDEX `idx_title_book` (`title`, `book_id`),
+    INDEX `idx_status_created_book` (`status`, `created_at`, `book_id`),
+    INDEX `idx_category_status_created_book` (`category_id`, `status`, `created_at`, `book_id`),
+    INDEX `idx_writer_created_book` (`writer_id`, `created_at`, `book_id`),
     CONSTRAINT `fk_books_category` FOREIGN KEY (`category_id`) REFERENCES `categories` (`category_id`) ON UPDATE CASCADE ON DELETE RESTRICT
 ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '릴레이 소설 방 (Aggregate Root)';
 
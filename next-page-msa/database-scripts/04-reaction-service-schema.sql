@@ -9,6 +9,12 @@
 USE next_page_reaction;
 
 -- 기존 테이블 삭제 (재실행 시 충돌 방지)
+DROP TABLE IF EXISTS `sentence_books`;
+
+DROP TABLE IF EXISTS `sentence_vote_counts`;
+
+DROP TABLE IF EXISTS `book_vote_counts`;
+
 DROP TABLE IF EXISTS `sentence_votes`;
 
 DROP TABLE IF EXISTS `book_votes`;
@@ -27,10 +33,9 @@ CREATE TABLE `comments` (
     `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '작성일시',
     `updated_at` DATETIME NULL ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
     PRIMARY KEY (`comment_id`),
-    INDEX `idx_book_id` (`book_id`),
+    INDEX `idx_book_deleted_created` (`book_id`, `deleted_at`, `created_at`),
     INDEX `idx_writer_id` (`writer_id`),
-    INDEX `idx_parent_id` (`parent_id`),
-    INDEX `idx_book_created` (`book_id`, `created_at` DESC),
+    INDEX `idx_parent_deleted_created` (`parent_id`, `deleted_at`, `created_at`),
     INDEX `idx_deleted_at` (`deleted_at`),
     CONSTRAINT `fk_comments_parent` FOREIGN KEY (`parent_id`) REFERENCES `comments` (`comment_id`) ON UPDATE CASCADE ON DELETE CASCADE
 ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '소설 댓글/대댓글 (Reaction Service)';
@@ -45,7 +50,7 @@ CREATE TABLE `book_votes` (
     `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '투표일시',
     PRIMARY KEY (`vote_id`),
     UNIQUE KEY `uk_book_voter` (`book_id`, `voter_id`),
-    INDEX `idx_book_id` (`book_id`),
+    INDEX `idx_book_type` (`book_id`, `vote_type`),
     INDEX `idx_voter_id` (`voter_id`),
     INDEX `idx_vote_type` (`vote_type`),
     CONSTRAINT `chk_book_vote_type` CHECK (
@@ -63,14 +68,43 @@ CREATE TABLE `sentence_votes` (
     `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '투표일시',
     PRIMARY KEY (`vote_id`),
     UNIQUE KEY `uk_sentence_voter` (`sentence_id`, `voter_id`),
-    INDEX `idx_sentence_id` (`sentence_id`),
-    INDEX `idx_voter_id` (`voter_id`),
+    INDEX `idx_sentence_type` (`sentence_id`, `vote_type`),
+    INDEX `idx_voter_sentence_type` (`voter_id`, `sentence_id`, `vote_type`),
     INDEX `idx_vote_type` (`vote_type`),
     CONSTRAINT `chk_sentence_vote_type` CHECK (
         `vote_type` IN ('LIKE', 'DISLIKE')
     )
 ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '문장 투표 (1인 1투표)';
 
+-- 4. 소설 투표 집계 테이블 (Book Vote Counts)
+-- book_votes 변경과 같은 트랜잭션에서 증감 (조회/브로드캐스트 시 COUNT(*) 대신 PK 조회)
+CREATE TABLE `book_vote_counts` (
+    `book_id` BIGINT NOT NULL COMMENT '소설 ID (PK)',
+    `like_count` BIGINT NOT NULL DEFAULT 0 COMMENT '좋아요 수',
+    `dislike_count` BIGINT NOT NULL DEFAULT 0 COMMENT '싫어요 수',
+    `reconcile_version` BIGINT NOT NULL DEFAULT 0 COMMENT '재계산 버전 (메모리 집계 증감 반영 조건)',
+    `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '마지막 변경일시',
+    PRIMARY KEY (`book_id`)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '소설 투표 집계';
+
+-- 5. 문장 투표 집계 테이블 (Sentence Vote Counts)
+CREATE TABLE `sentence_vote_counts` (
+    `sentence_id` BIGINT NOT NULL COMMENT '문장 ID (PK)',
+    `like_count` BIGINT NOT NULL DEFAULT 0 COMMENT '좋아요 수',
+    `dislike_count` BIGINT NOT NULL DEFAULT 0 COMMENT '싫어요 수',
+    `reconcile_version` BIGINT NOT NULL DEFAULT 0 COMMENT '재계산 버전 (메모리 집계 증감 반영 조건)',
+    `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '마지막 변경일시',
+    PRIMARY KEY (`sentence_id`)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '문장 투표 집계';
+
+-- 6. 문장-소설 매핑 테이블 (Sentence Books)
+-- story-service의 sentences(sentence_id, book_id) 복제본 (문장 투표 알림 채널 계산용, 문장 작성 시 story-service가 전달)
+CREATE TABLE `sentence_books` (
+    `sentence_id` BIGINT NOT NULL COMMENT '문장 ID (PK, Story Service)',
+    `book_id` BIGINT NOT NULL COMMENT '소설 ID (Story Service)',
+    PRIMARY KEY (`sentence_id`)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '문장-소설 매핑 (Projection)';
+
 -- 샘플 데이터: 댓글 (개발/테스트용)
 -- book_id, writer_id는 각각 Story Service, Member Service의 ID와 매핑
 INSERT INTO
@@ -146,6 +180,17 @@ VALUES (1, 2, 'LIKE', NOW()),
     (3, 2, 'LIKE', NOW()),
     (4, 1, 'LIKE', NOW());
 
+-- 샘플 데이터: 투표 집계 (위 투표 데이터 기준)
+INSERT INTO book_vote_counts (book_id, like_count, dislike_count)
+SELECT book_id, SUM(vote_type = 'LIKE'), SUM(vote_type = 'DISLIKE')
+FROM book_votes
+GROUP BY book_id;
+
+INSERT INTO sentence_vote_counts (sentence_id, like_count, dislike_count)
+SELECT sentence_id, SUM(vote_type = 'LIKE'), SUM(vote_type = 'DISLIKE')
+FROM sentence_votes
+GROUP BY sentence_id;
+
 -- 스키마 확인
 SHOW TABLES;
 
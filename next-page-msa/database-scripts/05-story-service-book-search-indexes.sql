@@ -0,0 +1,24 @@
+-- ================================================
+-- Story Service: 소설 목록 Keyset 페이징 인덱스 (마이그레이션)
+-- ================================================
+-- 담당자: 정진호
+-- 대상: 03-story-service-schema.sql 적용 이전에 생성된 next_page_story.books
+-- 내용: 단일 컬럼 인덱스를 (필터, 정렬 키, book_id) 복합 인덱스로 교체
+-- ================================================
+
+USE next_page_story;
+
+ALTER TABLE `books`
+    ADD INDEX `idx_created_book` (`created_at`, `book_id`),
+    ADD INDEX `idx_title_book` (`title`, `book_id`),
+    ADD INDEX `idx_status_created_book` (`status`, `created_at`, `book_id`),
+    ADD INDEX `idx_category_status_created_book` (`category_id`, `status`, `created_at`, `book_id`),
+    ADD INDEX `idx_writer_created_book` (`writer_id`, `created_at`, `book_id`);
+
+-- 위 복합 인덱스의 선두 컬럼과 겹치는 기존 인덱스 제거
+ALTER TABLE `books`
+    DROP INDEX `idx_writer_id`,
+    DROP INDEX `idx_category_id`,
+    DROP INDEX `idx_status`,
+    DROP INDEX `idx_created_at`,
+    DROP INDEX `idx_category_status`;
@@ -0,0 +1,53 @@
+-- ================================================
+-- Reaction Service: 투표 집계 테이블 (마이그레이션)
+-- ================================================
+-- 담당자: 정병진
+-- 대상: 04-reaction-service-schema.sql 적용 이전에 생성된 next_page_reaction
+-- 내용: book_vote_counts / sentence_vote_counts 생성 및 기존 투표 기준 초기 집계,
+--       집계 재계산용 (대상 ID, vote_type) 복합 인덱스로 교체
+-- ================================================
+
+USE next_page_reaction;
+
+CREATE TABLE IF NOT EXISTS `book_vote_counts` (
+    `book_id` BIGINT NOT NULL COMMENT '소설 ID (PK)',
+    `like_count` BIGINT NOT NULL DEFAULT 0 COMMENT '좋아요 수',
+    `dislike_count` BIGINT NOT NULL DEFAULT 0 COMMENT '싫어요 수',
+    `reconcile_version` BIGINT NOT NULL DEFAULT 0 COMMENT '재계산 버전 (메모리 집계 증감 반영 조건)',
+    `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '마지막 변경일시',
+    PRIMARY KEY (`book_id`)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '소설 투표 집계';
+
+CREATE TABLE IF NOT EXISTS `sentence_vote_counts` (
+    `sentence_id` BIGINT NOT NULL COMMENT '문장 ID (PK)',
+    `like_count` BIGINT NOT NULL DEFAULT 0 COMMENT '좋아요 수',
+    `dislike_count` BIGINT NOT NULL DEFAULT 0 COMMENT '싫어요 수',
+    `reconcile_version` BIGINT NOT NULL DEFAULT 0 COMMENT '재계산 버전 (메모리 집계 증감 반영 조건)',
+    `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '마지막 변경일시',
+    PRIMARY KEY (`sentence_id`)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '문장 투표 집계';
+
+ALTER TABLE `book_votes`
+    ADD INDEX `idx_book_type` (`book_id`, `vote_type`),
+    DROP INDEX `idx_book_id`;
+
+ALTER TABLE `sentence_votes`
+    ADD INDEX `idx_sentence_type` (`sentence_id`, `vote_type`),
+    DROP INDEX `idx_sentence_id`;
+
+-- 초기 집계 (이후 보정은 애플리케이션의 VoteCountReconciler가 수행)
+INSERT INTO book_vote_counts (book_id, like_count, dislike_count)
+SELECT book_id, SUM(vote_type = 'LIKE'), SUM(vote_type = 'DISLIKE')
+FROM book_votes
+GROUP BY book_id
+ON DUPLICATE KEY UPDATE
+    like_count = VALUES(like_count),
+    dislike_count = VALUES(dislike_count);
+
+INSERT INTO sentence_vote_counts (sentence_id, like_count, dislike_count)
+SELECT sentence_id, SUM(vote_type = 'LIKE'), SUM(vote_type = 'DISLIKE')
+FROM sentence_votes
+GROUP BY sentence_id
+ON DUPLICATE KEY UPDATE
+    like_count = VALUES(like_count),
+    dislike_count = VALUES(dislike_count);
@@ -0,0 +1,22 @@
+-- ================================================
+-- Reaction Service: 문장-소설 매핑 테이블 (마이그레이션)
+-- ================================================
+-- 담당자: 정병진
+-- 대상: 04-reaction-service-schema.sql 적용 이전에 생성된 next_page_reaction
+-- 내용: sentence_books 생성 및 기존 문장 기준 초기 적재
+--       (이후 매핑은 문장 작성 시 story-service가 /internal/reactions/sentences/books로 전달)
+-- ================================================
+
+USE next_page_reaction;
+
+CREATE TABLE IF NOT EXISTS `sentence_books` (
+    `sentence_id` BIGINT NOT NULL COMMENT '문장 ID (PK, Story Service)',
+    `book_id` BIGINT NOT NULL COMMENT '소설 ID (Story Service)',
+    PRIMARY KEY (`sentence_id`)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '문장-소설 매핑 (Projection)';
+
+-- 초기 적재 (같은 MySQL 인스턴스에서 next_page_story를 읽을 수 있는 계정으로 실행)
+-- 적재하지 않아도 매핑이 없는 문장은 최초 투표 시 story-service에서 조회해 채워집니다.
+INSERT IGNORE INTO sentence_books (sentence_id, book_id)
+SELECT sentence_id, book_id
+FROM next_page_story.sentences;
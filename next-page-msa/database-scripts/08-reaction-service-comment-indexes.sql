@@ -0,0 +1,18 @@
+-- ================================================
+-- Reaction Service: 댓글 Keyset 페이징 인덱스 (마이그레이션)
+-- ================================================
+-- 담당자: 정병진
+-- 대상: 04-reaction-service-schema.sql 적용 이전에 생성된 next_page_reaction.comments
+-- 내용: 최상위 댓글/대댓글 페이지 조회용 (대상, deleted_at, created_at) 복합 인덱스로 교체
+--       (InnoDB 보조 인덱스에는 PK comment_id가 포함되므로 (created_at, comment_id) 정렬을 그대로 사용)
+-- ================================================
+
+USE next_page_reaction;
+
+-- fk_comments_parent는 새 인덱스의 선두 컬럼(parent_id)을 사용하므로 같은 문장에서 교체
+ALTER TABLE `comments`
+    ADD INDEX `idx_book_deleted_created` (`book_id`, `deleted_at`, `created_at`),
+    ADD INDEX `idx_parent_deleted_created` (`parent_id`, `deleted_at`, `created_at`),
+    DROP INDEX `idx_book_id`,
+    DROP INDEX `idx_book_created`,
+    DROP INDEX `idx_parent_id`;
@@ -0,0 +1,14 @@
+-- ================================================
+-- Reaction Service: 사용자별 문장 투표 인덱스 (마이그레이션)
+-- ================================================
+-- 담당자: 정병진
+-- 대상: 04-reaction-service-schema.sql 적용 이전에 생성된 next_page_reaction.sentence_votes
+-- 내용: GET /api/reactions/me/votes?bookId= 조회용 (voter_id, sentence_id, vote_type) 커버링 인덱스로 교체
+--       (voter_id 단독 조회는 새 인덱스의 선두 컬럼으로 처리)
+-- ================================================
+
+USE next_page_reaction;
+
+ALTER TABLE `sentence_votes`
+    ADD INDEX `idx_voter_sentence_type` (`voter_id`, `sentence_id`, `vote_type`),
+    DROP INDEX `idx_voter_id`;
@@ -0,0 +1,14 @@
+-- ================================================
+-- Story Service: 소설 낙관적 락 버전 컬럼 (마이그레이션)
+-- ================================================
+-- 담당자: 정진호
+-- 대상: 03-story-service-schema.sql 적용 이전에 생성된 next_page_story.books
+-- 내용: 문장 작성 충돌 감지용 books.version 추가 (Book 엔티티의 @Version)
+--       기존 행은 0부터 시작
+-- ================================================
+
+USE next_page_story;
+
+ALTER TABLE `books`
+    ADD COLUMN IF NOT EXISTS `version` BIGINT NOT NULL DEFAULT 0 COMMENT '낙관적 락 버전 (문장 작성 충돌 감지)'
+        AFTER `last_writer_user_id`;
@@ -0,0 +1,19 @@
+-- ================================================
+-- Reaction Service: 투표 집계 재계산 버전 컬럼 (마이그레이션)
+-- ================================================
+-- 담당자: 정병진
+-- 대상: 04/06 스크립트 적용 이후 reconcile_version 컬럼이 없는 next_page_reaction
+-- 내용: book_vote_counts / sentence_vote_counts.reconcile_version 추가
+--       재계산마다 1씩 증가하며, 메모리 집계기(reaction.vote.aggregator)는 증감을 기록할 때 읽은 버전과
+--       같을 때만 반영하므로 재계산에 이미 포함된 투표가 다시 더해지지 않습니다. 기존 행은 0부터 시작
+-- ================================================
+
+USE next_page_reaction;
+
+ALTER TABLE `book_vote_counts`
+    ADD COLUMN IF NOT EXISTS `reconcile_version` BIGINT NOT NULL DEFAULT 0 COMMENT '재계산 버전 (메모리 집계 증감 반영 조건)'
+        AFTER `dislike_count`;
+
+ALTER TABLE `sentence_vote_counts`
+    ADD COLUMN IF NOT EXISTS `reconcile_version` BIGINT NOT NULL DEFAULT 0 COMMENT '재계산 버전 (메모리 집계 증감 반영 조건)'
+        AFTER `dislike_count`;
@@ -0,0 +1,68 @@
+-- ================================================
+-- 소설 목록 페이징 벤치마크 (OFFSET vs Keyset)
+-- ================================================
+-- 로컬/스테이징 DB 전용입니다. 운영 DB에서 실행하지 마세요.
+-- 1) 데이터 생성: books 1,000,000건 (MariaDB Sequence 엔진 사용)
+-- 2) 1페이지 vs 5000페이지(size 10) 지연 비교
+-- ================================================
+
+USE next_page_story;
+
+-- ------------------------------------------------
+-- 1. 데이터 생성
+-- ------------------------------------------------
+SET @books := 1000000;
+
+INSERT INTO books (writer_id, category_id, title, status, current_sequence, max_sequence, created_at)
+SELECT
+    1 + (seq MOD 5000),
+    ELT(1 + (seq MOD 6), 'THRILLER', 'ROMANCE', 'FANTASY', 'MYSTERY', 'SF', 'DAILY'),
+    CONCAT('벤치마크 소설 ', LPAD(seq, 7, '0')),
+    IF(seq MOD 3 = 0, 'COMPLETED', 'WRITING'),
+    1 + (seq MOD 20),
+    20,
+    NOW() - INTERVAL (seq MOD 31536000) SECOND
+FROM seq_1_to_1000000
+WHERE seq <= @books;
+
+ANALYZE TABLE books;
+
+-- ------------------------------------------------
+-- 2. OFFSET 페이징 (기존 방식): 1페이지 vs 5000페이지
+-- ------------------------------------------------
+ANALYZE
+SELECT book_id, title, created_at FROM books
+WHERE status = 'WRITING'
+ORDER BY created_at DESC, book_id DESC
+LIMIT 11 OFFSET 0;
+
+ANALYZE
+SELECT book_id, title, created_at FROM books
+WHERE status = 'WRITING'
+ORDER BY created_at DESC, book_id DESC
+LIMIT 11 OFFSET 49990;
+
+-- ------------------------------------------------
+-- 3. Keyset 페이징: 5000페이지 직전 행을 커서로 사용
+-- ------------------------------------------------
+SELECT created_at, book_id INTO @cursor_created_at, @cursor_book_id
+FROM books
+WHERE status = 'WRITING'
+ORDER BY created_at DESC, book_id DESC
+LIMIT 1 OFFSET 49989;
+
+ANALYZE
+SELECT book_id, title, created_at FROM books
+WHERE status = 'WRITING'
+  AND (created_at < @cursor_created_at
+       OR (created_at = @cursor_created_at AND book_id < @cursor_book_id))
+ORDER BY created_at DESC, book_id DESC
+LIMIT 11;
+
+-- 비교 항목: r_rows(실제 읽은 행 수), r_total_time_ms
+-- OFFSET 방식은 페이지가 깊어질수록 r_rows가 증가하고, Keyset 방식은 페이지와 무관하게 일정합니다.
+
+-- ------------------------------------------------
+-- 4. 정리
+-- ------------------------------------------------
+-- DELETE FROM books WHERE title LIKE '벤치마크 소설 %';
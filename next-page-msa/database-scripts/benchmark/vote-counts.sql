@@ -0,0 +1,72 @@
+-- ================================================
+-- 투표 수 조회 벤치마크 (COUNT(*) vs 집계 테이블)
+-- ================================================
+-- 로컬/스테이징 DB 전용입니다. 운영 DB에서 실행하지 마세요.
+-- 1) 데이터 생성: book_id = 900000001 소설에 투표 1,000,000건 (MariaDB Sequence 엔진 사용)
+-- 2) 투표 1건마다 실행되던 COUNT 2회 vs 집계 테이블 PK 조회 비교
+-- ================================================
+
+USE next_page_reaction;
+
+SET @bench_book_id := 900000001;
+
+-- ------------------------------------------------
+-- 1. 데이터 생성 (좋아요 80%, 싫어요 20%)
+-- ------------------------------------------------
+INSERT INTO book_votes (book_id, voter_id, vote_type, created_at)
+SELECT
+    @bench_book_id,
+    seq,
+    IF(seq MOD 5 = 0, 'DISLIKE', 'LIKE'),
+    NOW()
+FROM seq_1_to_1000000;
+
+INSERT INTO book_vote_counts (book_id, like_count, dislike_count)
+SELECT book_id, SUM(vote_type = 'LIKE'), SUM(vote_type = 'DISLIKE')
+FROM book_votes
+WHERE book_id = @bench_book_id
+GROUP BY book_id
+ON DUPLICATE KEY UPDATE
+    like_count = VALUES(like_count),
+    dislike_count = VALUES(dislike_count);
+
+ANALYZE TABLE book_votes, book_vote_counts;
+
+-- ------------------------------------------------
+-- 2. 기존 방식: 투표/조회마다 COUNT 2회
+-- ------------------------------------------------
+ANALYZE
+SELECT COUNT(*) FROM book_votes WHERE book_id = @bench_book_id AND vote_type = 'LIKE';
+
+ANALYZE
+SELECT COUNT(*) FROM book_votes WHERE book_id = @bench_book_id AND vote_type = 'DISLIKE';
+
+-- ------------------------------------------------
+-- 3. 집계 테이블: PK 조회 1회 + 투표 시 UPSERT 1회
+-- ------------------------------------------------
+ANALYZE
+SELECT like_count, dislike_count FROM book_vote_counts WHERE book_id = @bench_book_id;
+
+START TRANSACTION;
+INSERT INTO book_vote_counts (book_id, like_count, dislike_count, updated_at)
+VALUES (@bench_book_id, 1, 0, NOW())
+ON DUPLICATE KEY UPDATE like_count = GREATEST(like_count + 1, 0), updated_at = NOW();
+ROLLBACK;
+
+-- 비교 항목: r_rows(실제 읽은 행 수), r_total_time_ms
+-- COUNT 방식은 투표 수에 비례해 r_rows가 증가하고(약 800,000 / 200,000), 집계 테이블은 항상 1행입니다.
+
+-- ------------------------------------------------
+-- 4. 재계산 비용 (VoteCountReconciler 1개 구간과 동일한 쿼리)
+-- ------------------------------------------------
+ANALYZE
+SELECT book_id, SUM(vote_type = 'LIKE'), SUM(vote_type = 'DISLIKE')
+FROM book_votes
+WHERE book_id BETWEEN @bench_book_id AND @bench_book_id
+GROUP BY book_id;
+
+-- ------------------------------------------------
+-- 5. 정리
+-- ------------------------------------------------
+-- DELETE FROM book_votes WHERE book_id = @bench_book_id;
+-- DELETE FROM book_vote_counts WHERE book_id = @bench_book_id;
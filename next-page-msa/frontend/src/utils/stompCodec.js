@@ -0,0 +1,38 @@
+/**
+ * STOMP 메시지 형식 (JSON / Compact) 디코더
+ *
+ * 구독 시 COMPACT_HEADERS를 함께 보내면 서버가 지원하는 메시지(문장, 소설, 입력 상태, 투표)를
+ * 필드 이름 없는 JSON 배열(Compact)로 보냅니다. 메시지의 content-type으로 형식을 구분하므로
+ * 헤더를 무시하는 서버나 Compact를 지원하지 않는 목적지는 기존 JSON 그대로 처리됩니다.
+ * 배열의 필드 순서는 서버의 toCompact() 구현과 같아야 합니다.
+ */
+export const COMPACT_TYPE = 'application/vnd.nextpage.compact+json'
+
+export const COMPACT_HEADERS = { 'content-type': COMPACT_TYPE }
+
+const toVote = ([targetType, targetId, upvotes, downvotes]) => ({ targetType, targetId, upvotes, downvotes })
+
+// 태그(첫 원소) → 기존 JSON과 같은 모양의 객체
+const decoders = {
+  S: ([, bookId, sentenceId, sequenceNo, writerNickname, content]) =>
+    ({ bookId, sentenceId, sequenceNo, writerNickname, content }),
+  B: ([, bookId, title, categoryName, writerNickname]) => ({ bookId, title, categoryName, writerNickname }),
+  T: ([, bookId, typers, source, ttlMs]) => ({ bookId, typers, source, ttlMs }),
+  V: ([, ...vote]) => toVote(vote),
+  VB: ([, updates]) => ({ targetType: 'BATCH', updates: updates.map(toVote) })
+}
+
+/**
+ * STOMP 메시지 본문을 객체로 변환합니다.
+ * @param {object} message - @stomp/stompjs 메시지
+ * @returns {object} JSON 형식과 같은 필드를 가진 객체
+ */
+export function decodeStomp(message) {
+  const body = JSON.parse(message.body)
+  const contentType = message.headers['content-type'] || ''
+  if (!contentType.startsWith(COMPACT_TYPE) || !Array.isArray(body)) {
+    return body
+  }
+  const decode = decoders[body[0]]
+  return decode ? decode(body) : body
+}
@@ -0,0 +1,73 @@
+package com.team2.gatewayserver.filter;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 인증 경로 벤치마크
+ *
+ * <p>
+ * 같은 Access Token으로 반복 요청할 때 필터 1회 처리 시간을 검증 캐시 사용/미사용으로 비교합니다.
+ * (다운스트림 호출은 제외, 요청 변경 + 헤더 주입까지 포함)
+ * </p>
+ *
+ * <pre>
+ * ./gradlew :gateway-server:jmh
+ * </pre>
+ *
+ * @author Next-Page Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "next-page-benchmark-secret-key-must-be-at-least-256-bits-long";
+
+    @Param({ "false", "true" })
+    public boolean cacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+    private final GatewayFilterChain chain = exchange -> Mono.empty();
+
+    @Setup
+    public void setUp() {
+        JwtTokenVerifier verifier = new JwtTokenVerifier(new SimpleMeterRegistry(), SECRET, cacheEnabled, 100_000, 300);
+        filter = new JwtAuthenticationFilter(verifier);
+
+        String token = Jwts.builder()
+                .subject("1")
+                .claim("email", "bench@nextpage.com")
+                .claim("nickname", "벤치마크")
+                .claim("role", "USER")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+        authorization = "Bearer " + token;
+    }
+
+    @Benchmark
+    public void filterAuthenticatedRequest() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/books/1").header("Authorization", authorization));
+        filter.filter(exchange, chain).block();
+    }
+}
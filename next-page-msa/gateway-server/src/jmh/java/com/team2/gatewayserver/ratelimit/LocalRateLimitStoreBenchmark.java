@@ -0,0 +1,60 @@
+package com.team2.gatewayserver.ratelimit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 Token Bucket 판정 비용 벤치마크
+ *
+ * <p>
+ * 요청 1건당 RateLimitFilter가 추가하는 판정 시간을 측정합니다.
+ * keys=1 은 한 사용자에게 요청이 몰리는 경우(같은 stripe 경합), keys=100000 은 다수 사용자가 고르게 요청하는 경우입니다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew :gateway-server:jmh
+ * </pre>
+ *
+ * @author Next-Page Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LocalRateLimitStoreBenchmark {
+
+    @Param({ "1", "100000" })
+    public int keys;
+
+    private LocalRateLimitStore store;
+    private String[] keyNames;
+
+    @Setup
+    public void setUp() {
+        store = new LocalRateLimitStore(64, 0);
+        keyNames = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            keyNames[i] = "public-read:user:" + i;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        store.shutdown();
+    }
+
+    @Benchmark
+    public RateLimitDecision consume() {
+        String key = keyNames[ThreadLocalRandom.current().nextInt(keys)];
+        return store.consume(key, 200, 100, 1, System.nanoTime());
+    }
+}
@@ -0,0 +1,18 @@
+package com.team2.gatewayserver.cache;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 캐시된 업스트림 응답 (200, JSON 본문)
+ *
+ * @param contentType  응답 Content-Type
+ * @param cacheControl 업스트림 Cache-Control (없으면 null, 캐시 응답에도 그대로 전달)
+ * @param shared       업스트림이 public으로 표시한 응답 (로그인 사용자 요청에도 제공 가능)
+ * @param body         응답 본문
+ * @param etag         본문 해시 기반 강한 ETag (따옴표 포함)
+ * @param ttlNanos     캐시 유지 시간
+ * @author Next-Page Team
+ */
+public record CachedResponse(MediaType contentType, String cacheControl, boolean shared, byte[] body, String etag,
+        long ttlNanos) {
+}
@@ -0,0 +1,147 @@
+package com.team2.gatewayserver.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gateway 공개 GET 응답 저장소
+ *
+ * <p>
+ * 키는 요청 경로와 원본 쿼리 문자열입니다. 항목마다 규칙의 TTL로 만료되며,
+ * 전체 크기는 본문 bytes 합계(max-bytes) 기준으로 제한됩니다.
+ * </p>
+ *
+ * <p>
+ * 쓰기 요청으로 무효화될 때마다 세대(generation)가 올라갑니다. 업스트림 조회를 시작한 뒤 무효화가 일어났다면
+ * 그 응답은 이미 낡았을 수 있으므로 {@link #put}에서 저장하지 않습니다.
+ * 무효화는 이 인스턴스에만 적용되며, 다른 Gateway 인스턴스의 캐시는 TTL로 정리됩니다.
+ * </p>
+ *
+ * <ul>
+ * <li>지표: cache.gets{cache=gateway-response,result=hit|miss}, gateway.response.cache.bytes</li>
+ * </ul>
+ *
+ * @author Next-Page Team
+ */
+@Component
+public class ResponseCache {
+
+    /** 키/헤더 등 항목당 고정 메모리 추정치 */
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Cache<String, CachedResponse> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxBytes())
+                .weigher((String key, CachedResponse response) ->
+                        ENTRY_OVERHEAD_BYTES + key.length() * 2 + response.body().length)
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+                        return response.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse response, long currentTime,
+                            long currentDuration) {
+                        return response.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse response, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway-response");
+        Gauge.builder("gateway.response.cache.bytes", cache,
+                c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("캐시된 응답의 추정 메모리 (bytes)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 현재 세대 (업스트림 조회 시작 시점에 읽어 {@link #put}에 전달)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 응답 본문으로 캐시 항목을 만들고, 조회 시작 후 무효화가 없었다면 저장합니다.
+     *
+     * @return 만들어진 항목 (저장 여부와 무관하게 대기 중인 요청에 전달 가능)
+     */
+    public CachedResponse put(String key, long startedGeneration, MediaType contentType, String cacheControl,
+            boolean shared, byte[] body, long ttlSeconds) {
+        CachedResponse response = new CachedResponse(contentType, cacheControl, shared, body, etag(body),
+                TimeUnit.SECONDS.toNanos(ttlSeconds));
+        if (generation.get() == startedGeneration) {
+            cache.put(key, response);
+        }
+        return response;
+    }
+
+    /**
+     * 컬렉션 목록(/api/books?...)과, id가 있으면 해당 리소스 하위 키(/api/books/{id}/...)를 제거합니다.
+     *
+     * @param collection 컬렉션 경로 (예: /api/books)
+     * @param id         리소스 ID 경로 세그먼트 (없으면 null)
+     */
+    public void invalidate(String collection, String id) {
+        generation.incrementAndGet();
+        String resource = id != null ? collection + "/" + id : null;
+        cache.asMap().keySet().removeIf(key -> {
+            String path = pathOf(key);
+            return path.equals(collection)
+                    || (resource != null && (path.equals(resource) || path.startsWith(resource + "/")));
+        });
+    }
+
+    public static String key(String path, String rawQuery) {
+        return rawQuery == null || rawQuery.isEmpty() ? path : path + "?" + rawQuery;
+    }
+
+    private static String pathOf(String key) {
+        int query = key.indexOf('?');
+        return query < 0 ? key : key.substring(0, query);
+    }
+
+    private static String etag(byte[] body) {
+        byte[] digest = SHA_256.get().digest(body);
+        // 128bit면 충돌 걱정 없이 헤더를 짧게 유지할 수 있음
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16))
+                + "\"";
+    }
+}
@@ -0,0 +1,53 @@
+package com.team2.gatewayserver.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gateway 공개 GET 응답 캐시 설정 (gateway.response-cache)
+ *
+ * <p>
+ * rules의 경로에 일치하는 GET 요청만 캐시합니다. (Authorization 헤더가 있으면 Cache-Control: public 응답만)
+ * 같은 경로 접두어(/api/books 등)로 들어온 쓰기 요청이 성공하면 관련 캐시를 즉시 제거합니다.
+ * </p>
+ *
+ * @author Next-Page Team
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    /** 전체 캐시 본문 크기 상한 (bytes) */
+    private long maxBytes = 32 * 1024 * 1024;
+
+    /** 응답 1건 본문 크기 상한 (초과 시 캐시하지 않음) */
+    private int maxEntryBytes = 1024 * 1024;
+
+    /** 같은 키의 업스트림 응답을 기다리는 최대 시간 (초과 시 직접 업스트림 호출) */
+    private long coalesceTimeoutMs = 3000;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /** 규칙 이름 (지표 태그) */
+        private String name;
+
+        /** 캐시할 경로 패턴 (PathPattern 문법, 쿼리 문자열은 키에 포함) */
+        private List<String> paths = new ArrayList<>();
+
+        /** 캐시 유지 시간 (초) */
+        private long ttlSeconds;
+    }
+}
@@ -0,0 +1,24 @@
+package com.team2.gatewayserver.config;
+
+import com.team2.gatewayserver.ratelimit.LocalRateLimitStore;
+import com.team2.gatewayserver.ratelimit.RateLimitProperties;
+import com.team2.gatewayserver.ratelimit.RateLimitStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Gateway 요청 한도 저장소 설정
+ * 다른 {@link RateLimitStore} Bean(분산 저장소)이 없으면 인스턴스 로컬 저장소를 사용합니다.
+ *
+ * @author Next-Page Team
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(RateLimitStore.class)
+    public LocalRateLimitStore localRateLimitStore(RateLimitProperties properties) {
+        return new LocalRateLimitStore(properties.getStripes(), properties.getSweepSeconds());
+    }
+}
@@ -1,11 +1,8 @@
 package com.team2.gatewayserver.filter;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
@@ -29,10 +26,13 @@ import java.util.List;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    /** 검증된 사용자 ID (exchange attribute, 이후 필터에서 사용) */
+    public static final String USER_ID_ATTRIBUTE = "gateway.authenticatedUserId";
+
+    private final JwtTokenVerifier jwtTokenVerifier;
 
     private static final List<String> EXCLUDED_PATHS = List.of(
             "/api/auth/login",
@@ -72,34 +72,29 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
             try {
-                Claims claims = Jwts.parser()
-                        .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes()))
-                        .build()
-                        .parseSignedClaims(token)
-                        .getPayload();
-
-                String userId = claims.getSubject(); // 토큰의 Subject에서 userId 추출
-                String email = claims.get("email", String.class);
-                String nickname = claims.get("nickname", String.class);
-                String role = claims.get("role", String.class);
+                // 미리 만든 Parser로 검증, 최근 검증된 토큰은 캐시에서 바로 반환
+                JwtTokenVerifier.VerifiedToken verified = jwtTokenVerifier.verify(token);
+                String userId = verified.userId(); // 토큰의 Subject에서 userId 추출
 
                 if (userId == null || userId.isEmpty()) {
-                    log.error("Gateway Filter - UserId (Subject) is missing in token! Claims: {}", claims);
+                    log.error("Gateway Filter - UserId (Subject) is missing in token!");
                     return onError(exchange, "Invalid Token: User ID missing", HttpStatus.UNAUTHORIZED);
                 }
 
-                log.info("Gateway Filter - JWT validated successfully for user: {} ({})", email, userId);
+                log.debug("Gateway Filter - JWT validated successfully for user: {}", userId);
 
                 ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
                         .header("X-User-Id", userId)
-                        .header("X-User-Email", email)
-                        .header("X-User-Nickname", nickname)
-                        .header("X-User-Role", role)
+                        .header("X-User-Email", verified.email())
+                        // 한글 닉네임은 헤더에 그대로 실을 수 없으므로 UTF-8 URL 인코딩된 값
+                        .header("X-User-Nickname", verified.encodedNickname())
+                        .header("X-User-Role", verified.role())
                         .build();
 
                 log.debug("Gateway Filter - Injected headers - X-User-Id: {}, X-User-Email: {}, X-User-Role: {}",
-                        userId, email, role);
+                        userId, verified.email(), verified.role());
 
+                exchange.getAttributes().put(USER_ID_ATTRIBUTE, userId);
                 return chain.filter(exchange.mutate().request(mutatedRequest).build());
 
             } catch (JwtException e) {
@@ -0,0 +1,150 @@
+package com.team2.gatewayserver.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gateway JWT 검증기
+ *
+ * <p>
+ * 서명 키와 {@link JwtParser}는 기동 시 한 번만 만들어 재사용합니다. (둘 다 Thread-safe)
+ * 검증에 성공한 토큰은 SHA-256 해시를 키로 캐시하므로, 같은 Access Token으로 반복 요청하면
+ * HMAC 검증과 Claim 파싱 없이 사용자 정보를 바로 돌려줍니다.
+ * 캐시 항목은 토큰의 exp 시각(또는 ttl-seconds 중 먼저 오는 시각)에 만료됩니다.
+ * </p>
+ *
+ * <ul>
+ * <li>원본 토큰은 메모리에 보관하지 않습니다. (해시만 키로 사용)</li>
+ * <li>검증에 실패한 토큰은 캐시하지 않습니다.</li>
+ * <li>지표: cache.gets{cache=jwt-verification,result=hit|miss}</li>
+ * </ul>
+ *
+ * @author Next-Page Team
+ */
+@Component
+public class JwtTokenVerifier {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> cache;
+
+    public JwtTokenVerifier(MeterRegistry meterRegistry,
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${gateway.jwt.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${gateway.jwt.cache.max-size:100000}") long maxSize,
+            @Value("${gateway.jwt.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes()))
+                .build();
+
+        if (cacheEnabled) {
+            long maxTtlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfter(new Expiry<String, VerifiedToken>() {
+                        @Override
+                        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                            // toNanos는 범위를 넘으면 Long.MAX_VALUE로 포화됨 (exp 없는 토큰)
+                            long untilExp = TimeUnit.MILLISECONDS.toNanos(
+                                    token.expiresAtMillis() - System.currentTimeMillis());
+                            return Math.max(0, Math.min(untilExp, maxTtlNanos));
+                        }
+
+                        @Override
+                        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime,
+                                long currentDuration) {
+                            return expireAfterCreate(key, token, currentTime);
+                        }
+
+                        @Override
+                        public long expireAfterRead(String key, VerifiedToken token, long currentTime,
+                                long currentDuration) {
+                            return currentDuration;
+                        }
+                    })
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt-verification");
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Access Token을 검증하고 Gateway가 주입할 사용자 정보를 반환합니다.
+     *
+     * @param token Bearer 접두어를 제외한 토큰
+     * @return 검증된 사용자 정보
+     * @throws JwtException 서명/만료/형식 검증 실패
+     */
+    public VerifiedToken verify(String token) {
+        if (cache == null) {
+            return parse(token);
+        }
+
+        String key = hash(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        // 만료 시각 직후에는 캐시 정리 전일 수 있으므로 한 번 더 확인
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        VerifiedToken verified = parse(token);
+        cache.put(key, verified);
+        return verified;
+    }
+
+    private VerifiedToken parse(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        String nickname = claims.get("nickname", String.class);
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get("email", String.class),
+                // 한글 닉네임은 헤더에 그대로 실을 수 없으므로 UTF-8 URL 인코딩 (캐시 적중 시 재인코딩 없음)
+                nickname != null ? URLEncoder.encode(nickname, StandardCharsets.UTF_8) : null,
+                claims.get("role", String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+    }
+
+    private static String hash(String token) {
+        byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    /**
+     * 검증된 토큰의 사용자 정보
+     *
+     * @param userId          토큰 Subject
+     * @param encodedNickname URL 인코딩된 닉네임 (X-User-Nickname 헤더 값)
+     * @param expiresAtMillis 토큰 만료 시각 (exp 없으면 Long.MAX_VALUE)
+     */
+    public record VerifiedToken(String userId, String email, String encodedNickname, String role,
+            long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,238 @@
+package com.team2.gatewayserver.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team2.gatewayserver.ratelimit.RateLimitDecision;
+import com.team2.gatewayserver.ratelimit.RateLimitProperties;
+import com.team2.gatewayserver.ratelimit.RateLimitStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Gateway 요청 한도 필터 (Token Bucket)
+ *
+ * <p>
+ * {@link JwtAuthenticationFilter} 다음에 실행되어, 인증된 요청은 사용자별로, 익명 요청은 클라이언트 IP별로
+ * 경로 규칙(gateway.rate-limit.rules)에 맞는 버킷에서 토큰을 꺼냅니다.
+ * 토큰이 없으면 다운스트림을 호출하지 않고 429와 Retry-After(초)를 반환합니다.
+ * </p>
+ *
+ * <ul>
+ * <li>사용자 ID는 JWT 검증 결과(exchange attribute)만 사용합니다. (클라이언트가 보낸 X-User-Id 헤더는 신뢰하지 않음)</li>
+ * <li>permits-field가 있는 규칙(일괄 요청)은 본문 JSON의 해당 배열 크기만큼 토큰을 꺼냅니다.
+ * 본문은 한 번 읽어 다운스트림에 그대로 다시 전달하며, {@value #MAX_COUNTED_BODY_BYTES}바이트를 넘으면 413을 반환합니다.</li>
+ * <li>지표: gateway.ratelimit.check (판정 소요 시간), gateway.ratelimit.rejected{rule,scope}</li>
+ * </ul>
+ *
+ * @author Next-Page Team
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    static final int MAX_COUNTED_BODY_BYTES = 256 * 1024;
+
+    private final RateLimitProperties properties;
+    private final RateLimitStore rateLimitStore;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    private List<CompiledRule> rules;
+    private Timer checkTimer;
+
+    @PostConstruct
+    void init() {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(rule,
+                        rule.getMethods().stream().map(String::toUpperCase).collect(Collectors.toSet()),
+                        rule.getPaths().stream().map(parser::parse).toList()))
+                .toList();
+        checkTimer = Timer.builder("gateway.ratelimit.check")
+                .description("요청 한도 판정 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        log.info("Gateway rate limit {} with {} rules", properties.isEnabled() ? "enabled" : "disabled", rules.size());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        CompiledRule matched = match(request);
+        if (matched == null) {
+            return chain.filter(exchange);
+        }
+
+        RateLimitProperties.Rule rule = matched.rule();
+        String userId = exchange.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE);
+        boolean perUser = userId != null;
+        long capacity = perUser ? rule.getUserCapacity() : rule.getIpCapacity();
+        double refillPerSecond = perUser ? rule.getUserRefillPerSecond() : rule.getIpRefillPerSecond();
+        String subject = perUser ? userId : clientIp(request);
+        if (capacity <= 0 || refillPerSecond <= 0 || subject == null) {
+            return chain.filter(exchange);
+        }
+
+        String scope = perUser ? "user" : "ip";
+        if (rule.getPermitsField() == null || rule.getPermitsField().isBlank()) {
+            return limit(exchange, chain, rule, scope, subject, capacity, refillPerSecond, 1);
+        }
+
+        // 일괄 요청: 항목 수만큼 차감 (버킷 크기를 넘는 요청은 버킷 전체를 차감하고 다운스트림 검증에 맡김)
+        return DataBufferUtils.join(request.getBody(), MAX_COUNTED_BODY_BYTES)
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> limit(exchange.mutate().request(replayable(request, body)).build(), chain, rule,
+                        scope, subject, capacity, refillPerSecond,
+                        Math.min(countItems(body, rule.getPermitsField()), capacity)))
+                .onErrorResume(DataBufferLimitException.class, e -> onPayloadTooLarge(exchange));
+    }
+
+    private Mono<Void> limit(ServerWebExchange exchange, GatewayFilterChain chain, RateLimitProperties.Rule rule,
+            String scope, String subject, long capacity, double refillPerSecond, long permits) {
+        long started = System.nanoTime();
+        return rateLimitStore
+                .tryConsume(rule.getName() + ":" + scope + ":" + subject, capacity, refillPerSecond, permits)
+                .flatMap(decision -> {
+                    checkTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                    if (decision.allowed()) {
+                        exchange.getResponse().getHeaders().set("X-RateLimit-Remaining",
+                                String.valueOf(decision.remaining()));
+                        return chain.filter(exchange);
+                    }
+                    meterRegistry.counter("gateway.ratelimit.rejected", "rule", rule.getName(), "scope", scope)
+                            .increment();
+                    log.debug("Gateway Filter - Rate limited: rule={}, {}={}", rule.getName(), scope, subject);
+                    return onTooManyRequests(exchange, decision);
+                });
+    }
+
+    /**
+     * 본문 JSON에서 field 배열의 크기를 셉니다. (배열이 아니거나 읽을 수 없으면 1건)
+     */
+    private long countItems(byte[] body, String field) {
+        try {
+            JsonNode items = objectMapper.readTree(body).path(field);
+            return items.isArray() ? Math.max(1, items.size()) : 1;
+        } catch (IOException e) {
+            return 1;
+        }
+    }
+
+    private static ServerHttpRequest replayable(ServerHttpRequest request, byte[] body) {
+        return new ServerHttpRequestDecorator(request) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+            }
+        };
+    }
+
+    private CompiledRule match(ServerHttpRequest request) {
+        String method = request.getMethod().name();
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (CompiledRule rule : rules) {
+            if ((rule.methods().isEmpty() || rule.methods().contains(method))
+                    && rule.paths().stream().anyMatch(pattern -> pattern.matches(path))) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String clientIp(ServerHttpRequest request) {
+        int trustedProxies = properties.getTrustedProxies();
+        if (trustedProxies > 0) {
+            // 프록시는 오른쪽에 추가하므로, 오른쪽에서 N번째가 가장 바깥 신뢰 프록시가 본 클라이언트 주소
+            List<String> forwardedFor = request.getHeaders().getOrEmpty("X-Forwarded-For").stream()
+                    .flatMap(value -> Arrays.stream(value.split(",")))
+                    .map(String::trim)
+                    .filter(address -> !address.isEmpty())
+                    .toList();
+            if (forwardedFor.size() >= trustedProxies) {
+                return forwardedFor.get(forwardedFor.size() - trustedProxies);
+            }
+        }
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress != null && remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : null;
+    }
+
+    private Mono<Void> onTooManyRequests(ServerWebExchange exchange, RateLimitDecision decision) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.getHeaders().set("X-RateLimit-Remaining", "0");
+
+        String errorResponse = String.format(
+                "{\"success\":false,\"code\":\"TOO_MANY_REQUESTS\",\"message\":\"요청이 너무 많습니다. %d초 후 다시 시도해주세요.\"}",
+                decision.retryAfterSeconds());
+
+        DataBuffer buffer = response.bufferFactory().wrap(errorResponse.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    private Mono<Void> onPayloadTooLarge(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        String errorResponse = "{\"success\":false,\"code\":\"PAYLOAD_TOO_LARGE\",\"message\":\"요청 본문이 너무 큽니다.\"}";
+
+        DataBuffer buffer = response.bufferFactory().wrap(errorResponse.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    @Override
+    public int getOrder() {
+        // JwtAuthenticationFilter(-100)가 사용자 ID를 확정한 뒤 실행
+        return -90;
+    }
+
+    private record CompiledRule(RateLimitProperties.Rule rule, Set<String> methods, List<PathPattern> paths) {
+    }
+}
@@ -0,0 +1,337 @@
+package com.team2.gatewayserver.filter;
+
+import com.team2.gatewayserver.cache.CachedResponse;
+import com.team2.gatewayserver.cache.ResponseCache;
+import com.team2.gatewayserver.cache.ResponseCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gateway 공개 GET 응답 캐시 필터
+ *
+ * <p>
+ * gateway.response-cache.rules에 일치하는 GET 요청은 업스트림 200 JSON 응답을 짧은 TTL 동안 캐시해 그대로 돌려줍니다.
+ * Authorization 헤더가 있는 요청은 업스트림이 Cache-Control: public으로 표시한(사용자와 무관한) 응답만 캐시/제공합니다.
+ * 같은 키의 캐시 미스가 동시에 들어오면 업스트림은 한 번만 호출하고 나머지는 그 응답을 함께 받습니다. (Single-flight)
+ * </p>
+ *
+ * <ul>
+ * <li>모든 캐시 응답에 ETag를 붙이며, If-None-Match가 일치하면 본문 없이 304를 반환합니다.</li>
+ * <li>캐시 대상 컬렉션(/api/books 등)에 대한 쓰기 요청이 2xx로 끝나면 목록과 해당 리소스 하위 키를 즉시 제거합니다.</li>
+ * <li>Set-Cookie가 있거나 Cache-Control이 no-store/private인 응답, max-entry-bytes를 넘는 응답은 캐시하지 않습니다.
+ * (업스트림은 Spring Security 기본값 no-store를 덮어쓰도록 Cache-Control을 지정해야 함, common-module ResponseCacheControl)</li>
+ * <li>지표: gateway.response.cache.requests{rule,result=hit|miss|coalesced|bypass}
+ * (bypass: 캐시된 응답이 public이 아니어서 로그인 사용자 요청을 업스트림으로 보낸 경우)</li>
+ * </ul>
+ *
+ * @author Next-Page Team
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    private static final String CACHE_HEADER = "X-Cache";
+
+    private final ResponseCacheProperties properties;
+    private final ResponseCache responseCache;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Sinks.One<CachedResponse>> inflight = new ConcurrentHashMap<>();
+
+    private List<CompiledRule> rules;
+    private Set<String> collections;
+    private Duration coalesceTimeout;
+
+    @PostConstruct
+    void init() {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(rule, rule.getPaths().stream().map(parser::parse).toList(),
+                        counter(rule, "hit"), counter(rule, "miss"), counter(rule, "coalesced"),
+                        counter(rule, "bypass")))
+                .toList();
+        // 무효화 대상 컬렉션: 규칙 경로의 앞 두 세그먼트 (/api/books/{bookId}/view -> /api/books)
+        collections = new HashSet<>();
+        properties.getRules().forEach(rule -> rule.getPaths().forEach(path -> {
+            String collection = collectionOf(path);
+            if (collection != null) {
+                collections.add(collection);
+            }
+        }));
+        coalesceTimeout = Duration.ofMillis(properties.getCoalesceTimeoutMs());
+        log.info("Gateway response cache {} with {} rules, invalidating on writes to {}",
+                properties.isEnabled() ? "enabled" : "disabled", rules.size(), collections);
+    }
+
+    private Counter counter(ResponseCacheProperties.Rule rule, String result) {
+        return Counter.builder("gateway.response.cache.requests")
+                .tag("rule", rule.getName())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        HttpMethod method = request.getMethod();
+        if (method == HttpMethod.POST || method == HttpMethod.PUT || method == HttpMethod.PATCH
+                || method == HttpMethod.DELETE) {
+            return chain.filter(exchange).then(Mono.fromRunnable(() -> invalidateIfSucceeded(exchange)));
+        }
+        if (method != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        CompiledRule rule = match(request);
+        if (rule == null) {
+            return chain.filter(exchange);
+        }
+        // 로그인 사용자 요청은 응답(myVote 등)이 사용자별일 수 있으므로 public 응답만 사용
+        boolean authorized = request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION);
+        String key = ResponseCache.key(request.getPath().value(), request.getURI().getRawQuery());
+        CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            if (authorized && !cached.shared()) {
+                rule.bypass().increment();
+                return chain.filter(exchange);
+            }
+            rule.hit().increment();
+            return writeCached(exchange, cached, "HIT");
+        }
+
+        Sinks.One<CachedResponse> sink = Sinks.one();
+        Sinks.One<CachedResponse> leader = inflight.putIfAbsent(key, sink);
+        if (leader != null) {
+            rule.coalesced().increment();
+            return awaitLeader(exchange, chain, leader, authorized);
+        }
+
+        rule.miss().increment();
+        long generation = responseCache.generation();
+        CapturingResponse capturing = new CapturingResponse(exchange, key, generation, rule.rule().getTtlSeconds(),
+                authorized);
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .doFinally(signal -> {
+                    inflight.remove(key, sink);
+                    CachedResponse captured = capturing.captured;
+                    if (captured != null) {
+                        sink.tryEmitValue(captured);
+                    } else {
+                        sink.tryEmitEmpty();
+                    }
+                });
+    }
+
+    /**
+     * 같은 키를 조회 중인 요청의 결과를 기다립니다.
+     * 결과가 캐시할 수 없는(로그인 사용자 요청이면 public이 아닌) 응답이었거나
+     * 시간 안에 오지 않으면 직접 업스트림을 호출합니다.
+     */
+    private Mono<Void> awaitLeader(ServerWebExchange exchange, GatewayFilterChain chain,
+            Sinks.One<CachedResponse> leader, boolean authorized) {
+        return leader.asMono()
+                .timeout(coalesceTimeout)
+                .filter(response -> !authorized || response.shared())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorReturn(Optional.empty())
+                .flatMap(response -> response.isPresent()
+                        ? writeCached(exchange, response.get(), "COALESCED")
+                        : chain.filter(exchange));
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached, String cacheStatus) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.etag());
+        headers.set(CACHE_HEADER, cacheStatus);
+        if (cached.cacheControl() != null) {
+            headers.setCacheControl(cached.cacheControl());
+        }
+        if (notModified(exchange.getRequest(), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentType(cached.contentType());
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static boolean notModified(ServerHttpRequest request, String etag) {
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        return ifNoneMatch.contains(etag) || ifNoneMatch.contains("*");
+    }
+
+    private void invalidateIfSucceeded(ServerWebExchange exchange) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        if (status == null || !status.is2xxSuccessful()) {
+            return;
+        }
+        String path = exchange.getRequest().getPath().value();
+        String collection = collectionOf(path);
+        if (collection == null || !collections.contains(collection)) {
+            return;
+        }
+        String rest = path.substring(collection.length());
+        String id = null;
+        if (rest.length() > 1) {
+            int end = rest.indexOf('/', 1);
+            id = end < 0 ? rest.substring(1) : rest.substring(1, end);
+        }
+        responseCache.invalidate(collection, id);
+        log.debug("Gateway response cache invalidated: collection={}, id={}", collection, id);
+    }
+
+    /**
+     * 경로의 앞 두 세그먼트 (/api/books/1/view -> /api/books, 세그먼트가 부족하면 null)
+     */
+    private static String collectionOf(String path) {
+        int first = path.indexOf('/', 1);
+        if (first < 0 || first == path.length() - 1) {
+            return null;
+        }
+        int second = path.indexOf('/', first + 1);
+        String collection = second < 0 ? path : path.substring(0, second);
+        return collection.contains("{") || collection.contains("*") ? null : collection;
+    }
+
+    private CompiledRule match(ServerHttpRequest request) {
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (CompiledRule rule : rules) {
+            if (rule.paths().stream().anyMatch(pattern -> pattern.matches(path))) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int getOrder() {
+        // 인증(-100)과 요청 한도(-90) 다음, 업스트림 응답 쓰기(NettyWriteResponseFilter, -1) 이전
+        return -80;
+    }
+
+    private record CompiledRule(ResponseCacheProperties.Rule rule, List<PathPattern> paths, Counter hit,
+            Counter miss, Counter coalesced, Counter bypass) {
+    }
+
+    /**
+     * 업스트림 본문을 모아 캐시에 저장한 뒤 클라이언트에 그대로 쓰는 응답 래퍼
+     */
+    private final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String key;
+        private final long generation;
+        private final long ttlSeconds;
+        private final boolean authorized;
+
+        private volatile CachedResponse captured;
+
+        CapturingResponse(ServerWebExchange exchange, String key, long generation, long ttlSeconds,
+                boolean authorized) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+            this.generation = generation;
+            this.ttlSeconds = ttlSeconds;
+            this.authorized = authorized;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isCacheable()) {
+                return super.writeWith(body);
+            }
+            // Content-Length 없는(chunked) 응답도 있으므로 크기 제한은 모은 뒤 확인
+            return DataBufferUtils.join(Flux.from(body))
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        if (bytes.length > properties.getMaxEntryBytes()) {
+                            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                        }
+
+                        String cacheControl = getHeaders().getCacheControl();
+                        CachedResponse response = responseCache.put(key, generation,
+                                getHeaders().getContentType(), cacheControl, isPublic(cacheControl), bytes,
+                                ttlSeconds);
+                        captured = response;
+                        getHeaders().setETag(response.etag());
+                        getHeaders().set(CACHE_HEADER, "MISS");
+                        if (notModified(exchange.getRequest(), response.etag())) {
+                            getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                            getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+                            setStatusCode(HttpStatus.NOT_MODIFIED);
+                            return setComplete();
+                        }
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        private boolean isCacheable() {
+            HttpHeaders headers = getHeaders();
+            MediaType contentType = headers.getContentType();
+            if (!HttpStatus.OK.equals(getStatusCode()) || contentType == null
+                    || !MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                    || headers.containsKey(HttpHeaders.SET_COOKIE)) {
+                return false;
+            }
+            long contentLength = headers.getContentLength();
+            if (contentLength > properties.getMaxEntryBytes()) {
+                return false;
+            }
+            String cacheControl = headers.getCacheControl();
+            if (authorized && !isPublic(cacheControl)) {
+                return false;
+            }
+            return cacheControl == null
+                    || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+        }
+
+        private static boolean isPublic(String cacheControl) {
+            return cacheControl != null && cacheControl.contains("public");
+        }
+    }
+}
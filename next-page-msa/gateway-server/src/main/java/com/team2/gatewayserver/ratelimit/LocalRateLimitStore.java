@@ -0,0 +1,144 @@
+package com.team2.gatewayserver.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인스턴스 로컬 Token Bucket 저장소 (Lock Striping)
+ *
+ * <p>
+ * 키 해시로 나눈 stripe마다 HashMap과 Lock을 따로 두어, 서로 다른 사용자/IP 요청이 같은 Lock에서 경합하지 않도록 합니다.
+ * 버킷은 요청 시점에 경과 시간만큼 충전하므로(Lazy Refill) 별도 타이머가 필요 없습니다.
+ * 가득 찬 상태로 idle 된 버킷은 새로 만든 버킷과 같으므로 주기적으로 제거해 메모리를 회수합니다.
+ * </p>
+ *
+ * @author Next-Page Team
+ */
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final ScheduledExecutorService sweeper;
+
+    /**
+     * @param stripes      stripe 수 (2의 거듭제곱으로 올림)
+     * @param sweepSeconds idle 버킷 제거 주기 (0 이하이면 제거하지 않음)
+     */
+    public LocalRateLimitStore(int stripes, long sweepSeconds) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+
+        if (sweepSeconds > 0) {
+            sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "rate-limit-sweep");
+                thread.setDaemon(true);
+                return thread;
+            });
+            sweeper.scheduleWithFixedDelay(this::sweep, sweepSeconds, sweepSeconds, TimeUnit.SECONDS);
+        } else {
+            sweeper = null;
+        }
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(String key, long capacity, double refillPerSecond, long permits) {
+        return Mono.just(consume(key, capacity, refillPerSecond, permits, System.nanoTime()));
+    }
+
+    /**
+     * 동기 소비 (벤치마크/테스트용으로 현재 시각을 직접 받음)
+     */
+    public RateLimitDecision consume(String key, long capacity, double refillPerSecond, long permits, long nowNanos) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, refillPerSecond, nowNanos);
+                stripe.buckets.put(key, bucket);
+            } else {
+                bucket.refill(nowNanos);
+            }
+
+            if (bucket.tokens >= permits) {
+                bucket.tokens -= permits;
+                return new RateLimitDecision(true, (long) bucket.tokens, 0);
+            }
+            // 버킷 크기보다 많이 요청하면 가득 찰 때까지 기다려도 허용되지 않으므로 가득 찰 때까지의 시간을 안내
+            double waitSeconds = (Math.min(permits, capacity) - bucket.tokens) / refillPerSecond;
+            return new RateLimitDecision(false, 0, Math.max(1, (long) Math.ceil(waitSeconds)));
+        }
+    }
+
+    /**
+     * 현재 보관 중인 버킷 수
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+    public void shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdown();
+        }
+    }
+
+    private void sweep() {
+        long now = System.nanoTime();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.buckets.values().removeIf(bucket -> bucket.isFullAt(now));
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Stripe {
+        private final Map<String, Bucket> buckets = new HashMap<>();
+    }
+
+    private static final class Bucket {
+        private final long capacity;
+        private final double refillPerSecond;
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(long capacity, double refillPerSecond, long now) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        void refill(long now) {
+            long elapsed = now - refilledAt;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * refillPerSecond / NANOS_PER_SECOND);
+                refilledAt = now;
+            }
+        }
+
+        boolean isFullAt(long now) {
+            return tokens + (now - refilledAt) * refillPerSecond / NANOS_PER_SECOND >= capacity;
+        }
+    }
+}
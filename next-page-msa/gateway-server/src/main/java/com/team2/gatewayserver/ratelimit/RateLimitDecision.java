@@ -0,0 +1,12 @@
+package com.team2.gatewayserver.ratelimit;
+
+/**
+ * Token Bucket 소비 결과
+ *
+ * @param allowed           요청 허용 여부
+ * @param remaining         소비 후 남은 토큰 수 (내림)
+ * @param retryAfterSeconds 거절된 경우 다음 토큰까지 대기 시간 (올림, 허용이면 0)
+ * @author Next-Page Team
+ */
+public record RateLimitDecision(boolean allowed, long remaining, long retryAfterSeconds) {
+}
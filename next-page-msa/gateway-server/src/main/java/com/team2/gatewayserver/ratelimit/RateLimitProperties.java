@@ -0,0 +1,71 @@
+package com.team2.gatewayserver.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gateway 요청 한도 설정 (gateway.rate-limit)
+ *
+ * <p>
+ * rules는 위에서부터 처음 일치하는 규칙 하나만 적용합니다. 일치하는 규칙이 없으면 제한하지 않습니다.
+ * 인증된 요청은 사용자(X-User-Id)별, 익명 요청은 클라이언트 IP별 버킷을 사용합니다.
+ * </p>
+ *
+ * @author Next-Page Team
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Lock stripe 수 */
+    private int stripes = 64;
+
+    /** 가득 찬 idle 버킷 제거 주기 (초) */
+    private long sweepSeconds = 60;
+
+    /**
+     * Gateway 앞단의 신뢰할 수 있는 프록시(LB) 수.
+     * 0이면 연결 주소(remote address)를 클라이언트 IP로 사용하고, N이면 X-Forwarded-For의 오른쪽에서 N번째 주소
+     * (가장 바깥 신뢰 프록시가 추가한 주소)를 사용합니다. 클라이언트가 임의로 넣은 왼쪽 주소는 사용하지 않습니다.
+     */
+    private int trustedProxies = 0;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /** 규칙 이름 (지표 태그, 버킷 키에 사용) */
+        private String name;
+
+        /** 적용할 HTTP 메서드 (비어 있으면 전체) */
+        private List<String> methods = new ArrayList<>();
+
+        /** 적용할 경로 패턴 (PathPattern 문법, 예: /api/books/{bookId}/sentences) */
+        private List<String> paths = new ArrayList<>();
+
+        /** 사용자별 버킷 크기 / 초당 충전량 */
+        private long userCapacity;
+        private double userRefillPerSecond;
+
+        /** IP별 버킷 크기 / 초당 충전량 (익명 요청) */
+        private long ipCapacity;
+        private double ipRefillPerSecond;
+
+        /**
+         * 일괄 요청의 항목 배열 필드 (예: votes).
+         * 지정하면 요청 1회가 아니라 본문 JSON의 배열 크기만큼 토큰을 꺼냅니다.
+         */
+        private String permitsField;
+    }
+}
@@ -0,0 +1,29 @@
+package com.team2.gatewayserver.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Token Bucket 저장소
+ *
+ * <p>
+ * 기본 구현은 인스턴스 로컬 메모리({@link LocalRateLimitStore})입니다.
+ * Gateway를 여러 대 운영하면서 인스턴스 간 한도를 공유해야 하면 이 인터페이스를 구현한 Bean(예: Redis)을 등록합니다.
+ * 등록된 Bean이 있으면 로컬 저장소는 만들어지지 않습니다.
+ * </p>
+ *
+ * @author Next-Page Team
+ */
+public interface RateLimitStore {
+
+    /**
+     * 버킷에서 토큰 permits개를 꺼냅니다. (버킷이 없으면 가득 찬 상태로 생성)
+     * 토큰이 모자라면 하나도 꺼내지 않습니다.
+     *
+     * @param key              버킷 키 (규칙 + 대상)
+     * @param capacity         버킷 크기 (순간 최대 요청 수)
+     * @param refillPerSecond  초당 충전 토큰 수
+     * @param permits          꺼낼 토큰 수 (일괄 요청은 항목 수)
+     * @return 허용 여부, 남은 토큰, 재시도 대기 시간
+     */
+    Mono<RateLimitDecision> tryConsume(String key, long capacity, double refillPerSecond, long permits);
+}
@@ -0,0 +1,131 @@
+package com.team2.gatewayserver.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team2.gatewayserver.ratelimit.LocalRateLimitStore;
+import com.team2.gatewayserver.ratelimit.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 투표 요청이 요청 수가 아니라 투표 건수만큼 토큰을 차감하고, 본문이 다운스트림에 그대로 전달되는지 검증합니다.
+ */
+class RateLimitFilterTest {
+
+    private static final String BATCH_PATH = "/api/reactions/votes/sentences/batch";
+    private static final long CAPACITY = 200;
+
+    private final List<String> upstreamBodies = new ArrayList<>();
+    private final GatewayFilterChain upstream = exchange -> DataBufferUtils.join(exchange.getRequest().getBody())
+            .doOnNext(buffer -> {
+                upstreamBodies.add(buffer.toString(StandardCharsets.UTF_8));
+                DataBufferUtils.release(buffer);
+            })
+            .then();
+
+    private LocalRateLimitStore store;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName("vote-batch");
+        rule.setMethods(List.of("POST"));
+        rule.setPaths(List.of(BATCH_PATH));
+        rule.setPermitsField("votes");
+        rule.setIpCapacity(CAPACITY);
+        rule.setIpRefillPerSecond(0.001);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+
+        store = new LocalRateLimitStore(4, 0);
+        filter = new RateLimitFilter(properties, store, new SimpleMeterRegistry(), new ObjectMapper());
+        filter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    @DisplayName("일괄 투표는 투표 건수만큼 차감되어 남은 토큰보다 많은 건수의 요청은 거절된다")
+    void batchConsumesOnePermitPerVote() {
+        // given
+        String body = votes(150);
+
+        // when
+        MockServerWebExchange first = batch(body);
+        filter.filter(first, upstream).block();
+        MockServerWebExchange second = batch(body);
+        filter.filter(second, upstream).block();
+        MockServerWebExchange third = batch(votes(50));
+        filter.filter(third, upstream).block();
+
+        // then
+        assertThat(first.getResponse().getHeaders().getFirst("X-RateLimit-Remaining")).isEqualTo("50");
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(third.getResponse().getHeaders().getFirst("X-RateLimit-Remaining")).isEqualTo("0");
+        assertThat(upstreamBodies).containsExactly(body, votes(50));
+    }
+
+    @Test
+    @DisplayName("투표 목록을 읽을 수 없는 본문은 1건으로 차감하고 그대로 전달한다")
+    void unreadableBodyConsumesOnePermit() {
+        // given
+        String body = "not json";
+
+        // when
+        MockServerWebExchange exchange = batch(body);
+        filter.filter(exchange, upstream).block();
+
+        // then
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-RateLimit-Remaining"))
+                .isEqualTo(String.valueOf(CAPACITY - 1));
+        assertThat(upstreamBodies).containsExactly(body);
+    }
+
+    @Test
+    @DisplayName("건수를 세는 본문 크기 한도를 넘으면 413으로 거절하고 다운스트림을 호출하지 않는다")
+    void oversizedBodyRejected() {
+        // given
+        String body = "{\"votes\":[\"" + "x".repeat(RateLimitFilter.MAX_COUNTED_BODY_BYTES) + "\"]}";
+
+        // when
+        MockServerWebExchange exchange = batch(body);
+        filter.filter(exchange, upstream).block();
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        assertThat(upstreamBodies).isEmpty();
+    }
+
+    private static MockServerWebExchange batch(String body) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post(BATCH_PATH)
+                .remoteAddress(new InetSocketAddress("10.0.0.1", 50000))
+                .body(body));
+    }
+
+    private static String votes(int count) {
+        StringJoiner votes = new StringJoiner(",", "{\"votes\":[", "]}");
+        for (int i = 0; i < count; i++) {
+            votes.add("{\"sentenceId\":" + (i + 1) + ",\"voteType\":\"LIKE\"}");
+        }
+        return votes.toString();
+    }
+}
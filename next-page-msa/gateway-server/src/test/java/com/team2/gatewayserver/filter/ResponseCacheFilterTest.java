@@ -0,0 +1,125 @@
+package com.team2.gatewayserver.filter;
+
+import com.team2.gatewayserver.cache.ResponseCache;
+import com.team2.gatewayserver.cache.ResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 공개 GET 요청을 반복하면 두 번째부터 업스트림 호출 없이 Gateway 캐시에서 응답하는지 검증합니다.
+ */
+class ResponseCacheFilterTest {
+
+    private static final String VIEW_PATH = "/api/books/1/view";
+    private static final String BODY = "{\"success\":true,\"data\":{\"bookId\":1}}";
+    /** Spring Security가 Cache-Control을 지정하지 않은 응답에 붙이는 기본값 */
+    private static final String SECURITY_DEFAULT = "no-cache, no-store, max-age=0, must-revalidate";
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private ResponseCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties.Rule rule = new ResponseCacheProperties.Rule();
+        rule.setName("book-view");
+        rule.setPaths(List.of("/api/books/{bookId}/view"));
+        rule.setTtlSeconds(60);
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setRules(List.of(rule));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filter = new ResponseCacheFilter(properties, new ResponseCache(properties, meterRegistry), meterRegistry);
+        filter.init();
+    }
+
+    @Test
+    @DisplayName("익명 사용자의 반복 GET은 두 번째부터 업스트림 호출 없이 캐시에서 응답한다")
+    void repeatedGetServedFromCache() {
+        // given
+        GatewayFilterChain upstream = upstream("max-age=0");
+
+        // when
+        MockServerWebExchange first = get(null);
+        filter.filter(first, upstream).block();
+        MockServerWebExchange second = get(null);
+        filter.filter(second, upstream).block();
+
+        // then
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(first.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(second.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        assertThat(second.getResponse().getHeaders().getETag())
+                .isEqualTo(first.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("public 응답은 로그인 사용자 요청에도 캐시에서 응답한다")
+    void publicResponseServedToAuthorizedRequest() {
+        // given
+        GatewayFilterChain upstream = upstream("max-age=0, public");
+
+        // when
+        filter.filter(get("Bearer token-a"), upstream).block();
+        MockServerWebExchange second = get("Bearer token-b");
+        filter.filter(second, upstream).block();
+
+        // then
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(second.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+    }
+
+    @Test
+    @DisplayName("Cache-Control을 지정하지 않아 no-store가 붙은 응답은 캐시하지 않는다")
+    void securityDefaultNoStoreIsNotCached() {
+        // given
+        GatewayFilterChain upstream = upstream(SECURITY_DEFAULT);
+
+        // when
+        filter.filter(get(null), upstream).block();
+        MockServerWebExchange second = get(null);
+        filter.filter(second, upstream).block();
+
+        // then
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(second.getResponse().getHeaders().getFirst("X-Cache")).isNull();
+    }
+
+    private static MockServerWebExchange get(String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(VIEW_PATH);
+        if (authorization != null) {
+            request.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private GatewayFilterChain upstream(String cacheControl) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            response.getHeaders().setCacheControl(cacheControl);
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        };
+    }
+}
@@ -0,0 +1,84 @@
+// ================================================
+// STOMP 브로커 Fan-out / 인스턴스 간 전달 테스트 (k6)
+// ================================================
+// 구독자를 여러 WebSocket 엔드포인트(story-service/reaction-service 인스턴스)에 나눠 연결하고,
+// reaction-service에 투표를 보내 /topic/books/{bookId}/votes 알림이 모든 인스턴스의 구독자에게 도착하는지 확인합니다.
+//
+// 실행 (websocket.broker.mode 를 simple / relay 로 바꿔 각각 실행 후 비교):
+//   k6 run -e TOKEN=<accessToken> -e BOOK_ID=1 \
+//          -e WS_URLS=ws://localhost:8082/ws/websocket,ws://localhost:18082/ws/websocket,ws://localhost:8083/ws/websocket \
+//          -e SUBSCRIBERS=10000 load-test/broker-fanout.js
+//
+// 비교 항목:
+//   - broker_frames_received{node=N} : 엔드포인트별 수신 메시지 수
+//       simple : 투표를 처리한 reaction-service에 연결된 구독자만 수신 (story-service 노드는 0)
+//       relay  : 모든 노드의 구독자가 수신 (인스턴스 간 전달)
+//   - broker_frames_received (rate)  : 전체 구독자 기준 초당 전달 메시지 수 (Fan-out 처리량)
+//   - story/reaction-service 지표    : GET /actuator/metrics/process.cpu.usage
+// ================================================
+
+import http from 'k6/http';
+import ws from 'k6/ws';
+import { Counter } from 'k6/metrics';
+
+const GATEWAY_URL = __ENV.GATEWAY_URL || 'http://localhost:8000';
+const WS_URLS = (__ENV.WS_URLS || 'ws://localhost:8082/ws/websocket,ws://localhost:8083/ws/websocket').split(',');
+const TOKEN = __ENV.TOKEN;
+const BOOK_ID = __ENV.BOOK_ID || '1';
+const DURATION = __ENV.DURATION || '60s';
+
+const framesReceived = new Counter('broker_frames_received');
+const votesSent = new Counter('broker_votes_sent');
+
+export const options = {
+  scenarios: {
+    subscribers: {
+      executor: 'constant-vus',
+      exec: 'subscriber',
+      vus: Number(__ENV.SUBSCRIBERS || 10000),
+      duration: DURATION,
+    },
+    voters: {
+      executor: 'constant-arrival-rate',
+      exec: 'voter',
+      startTime: __ENV.WARMUP || '15s', // 구독자 연결이 끝난 뒤 시작
+      rate: Number(__ENV.VOTES_PER_SECOND || 20),
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 20,
+      maxVUs: 100,
+    },
+  },
+};
+
+// STOMP 프레임 (NULL 문자로 종료)
+function frame(command, headers) {
+  const lines = Object.keys(headers).map((key) => `${key}:${headers[key]}`);
+  return `${command}\n${lines.join('\n')}\n\n\0`;
+}
+
+export function subscriber() {
+  const node = (__VU - 1) % WS_URLS.length;
+  ws.connect(WS_URLS[node], {}, (socket) => {
+    socket.on('open', () => {
+      socket.send(frame('CONNECT', { 'accept-version': '1.2', 'heart-beat': '0,0' }));
+      socket.send(frame('SUBSCRIBE', { id: 'votes', destination: `/topic/books/${BOOK_ID}/votes` }));
+    });
+    socket.on('message', (data) => {
+      if (data.startsWith('MESSAGE')) {
+        framesReceived.add(1, { node: String(node) });
+      }
+    });
+    socket.setTimeout(() => socket.close(), 55000);
+  });
+}
+
+export function voter() {
+  // 같은 사용자의 좋아요 토글도 매번 집계 변경 + 브로드캐스트를 발생시킴
+  const params = {
+    headers: { 'Content-Type': 'application/json', Authorization: `Bearer ${TOKEN}` },
+  };
+  http.post(`${GATEWAY_URL}/api/reactions/votes/books`,
+    JSON.stringify({ bookId: Number(BOOK_ID), voteType: 'LIKE' }), params);
+  votesSent.add(1);
+}
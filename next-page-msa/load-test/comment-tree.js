@@ -0,0 +1,55 @@
+// ================================================
+// 댓글 트리 조회 벤치마크 (k6, 읽기 위주)
+// ================================================
+// 한 소설의 댓글 트리를 다수가 반복 조회하고, 소수가 댓글을 작성하는 상황을 재현합니다.
+//
+// 실행 (reaction.comment-cache.enabled 를 false / true 로 바꿔 각각 실행 후 비교):
+//   k6 run -e TOKEN=<accessToken> -e BOOK_ID=1 load-test/comment-tree.js
+//
+// 비교 항목:
+//   - http_req_duration{scenario:readers} : 트리 조회 응답 시간 (p95/p99)
+//   - http_reqs{scenario:readers}         : 초당 조회 수
+//   - reaction-service 지표               : GET /actuator/metrics/cache.gets?tag=cache:comment-tree&tag=result:hit (miss)
+//                                           GET /actuator/metrics/reaction.comment.cache.bytes
+//                                           GET /actuator/metrics/hikaricp.connections.usage
+// ================================================
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const GATEWAY_URL = __ENV.GATEWAY_URL || 'http://localhost:8000';
+const TOKEN = __ENV.TOKEN;
+const BOOK_ID = Number(__ENV.BOOK_ID || '1');
+const DURATION = __ENV.DURATION || '60s';
+
+export const options = {
+  scenarios: {
+    readers: {
+      executor: 'constant-vus',
+      exec: 'reader',
+      vus: Number(__ENV.READERS || 200),
+      duration: DURATION,
+    },
+    writers: {
+      executor: 'constant-arrival-rate',
+      exec: 'writer',
+      rate: Number(__ENV.COMMENTS_PER_SECOND || 2),
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 5,
+    },
+  },
+};
+
+export function reader() {
+  const res = http.get(`${GATEWAY_URL}/api/reactions/comments/${BOOK_ID}`);
+  check(res, { 'comment tree ok': (r) => r.status === 200 });
+}
+
+export function writer() {
+  const params = {
+    headers: { 'Content-Type': 'application/json', Authorization: `Bearer ${TOKEN}` },
+  };
+  http.post(`${GATEWAY_URL}/api/reactions/comments`,
+    JSON.stringify({ bookId: BOOK_ID, content: `부하 테스트 댓글 ${Date.now()}` }), params);
+}
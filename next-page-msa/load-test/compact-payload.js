@@ -0,0 +1,84 @@
+// ================================================
+// STOMP 메시지 형식(JSON / Compact) 비교 테스트 (k6)
+// ================================================
+// 같은 소설을 구독하는 클라이언트의 절반은 SUBSCRIBE content-type으로 Compact 형식을 요청하고,
+// 나머지는 헤더 없이(JSON) 구독합니다. 작성자들이 입력 상태 프레임을 보내는 동안
+// 형식별로 수신한 본문 크기를 비교합니다.
+//
+// 실행:
+//   k6 run -e BOOK_ID=1 -e SUBSCRIBERS=1000 -e WRITERS=50 load-test/compact-payload.js
+//
+// 비교 항목:
+//   - compact_payload_bytes{format}    : 수신 메시지 본문 크기 (형식별 평균/합계)
+//   - story-service 지표               : story.websocket.payload.bytes{format} (구독자당 전송 본문 크기)
+//                                         story.websocket.serialize{format} (메시지당 직렬화 시간, x1000 = 1,000건당)
+// ================================================
+
+import ws from 'k6/ws';
+import { Trend } from 'k6/metrics';
+
+const WS_URL = __ENV.WS_URL || 'ws://localhost:8082/ws/websocket';
+const BOOK_ID = __ENV.BOOK_ID || '1';
+const COMPACT_TYPE = 'application/vnd.nextpage.compact+json';
+const DURATION = __ENV.DURATION || '60s';
+
+const payloadBytes = new Trend('compact_payload_bytes');
+
+export const options = {
+  scenarios: {
+    subscribers: {
+      executor: 'constant-vus',
+      exec: 'subscriber',
+      vus: Number(__ENV.SUBSCRIBERS || 1000),
+      duration: DURATION,
+    },
+    writers: {
+      executor: 'constant-vus',
+      exec: 'writer',
+      vus: Number(__ENV.WRITERS || 50),
+      duration: DURATION,
+    },
+  },
+};
+
+// STOMP 프레임 (NULL 문자로 종료)
+function frame(command, headers, body) {
+  const lines = Object.keys(headers).map((key) => `${key}:${headers[key]}`);
+  return `${command}\n${lines.join('\n')}\n\n${body || ''}\0`;
+}
+
+export function subscriber() {
+  const format = __VU % 2 === 0 ? 'compact' : 'json';
+  const headers = { id: 'typing', destination: `/topic/typing/${BOOK_ID}` };
+  if (format === 'compact') {
+    headers['content-type'] = COMPACT_TYPE;
+  }
+  ws.connect(WS_URL, {}, (socket) => {
+    socket.on('open', () => {
+      socket.send(frame('CONNECT', { 'accept-version': '1.2', 'heart-beat': '0,0' }));
+      socket.send(frame('SUBSCRIBE', headers));
+    });
+    socket.on('message', (data) => {
+      if (data.startsWith('MESSAGE')) {
+        // 헤더와 본문은 빈 줄로 구분, 본문 끝의 NULL 문자 제외
+        const body = data.substring(data.indexOf('\n\n') + 2, data.length - 1);
+        payloadBytes.add(body.length, { format });
+      }
+    });
+    socket.setTimeout(() => socket.close(), 55000);
+  });
+}
+
+export function writer() {
+  const nickname = `writer-${__VU}`;
+  ws.connect(WS_URL, {}, (socket) => {
+    socket.on('open', () => {
+      socket.send(frame('CONNECT', { 'accept-version': '1.2', 'heart-beat': '0,0' }));
+      socket.setInterval(() => {
+        socket.send(frame('SEND', { destination: `/app/typing/${BOOK_ID}`, 'content-type': 'application/json' },
+          JSON.stringify({ userNickname: nickname, isTyping: true })));
+      }, 1000);
+    });
+    socket.setTimeout(() => socket.close(), 55000);
+  });
+}
@@ -0,0 +1,45 @@
+// ================================================
+// Gateway JWT 인증 부하 테스트 (k6, 10k rps)
+// ================================================
+// 소수의 Access Token으로 초당 10,000건을 보내 Gateway 인증 필터의 처리량과 CPU 사용률을 측정합니다.
+// 업스트림 비용이 작은 경로(기본: /api/categories)를 사용해 Gateway 자체 비용이 드러나도록 합니다.
+//
+// 실행 (gateway.jwt.cache.enabled 를 false / true 로 바꿔 각각 실행 후 비교):
+//   k6 run -e TOKENS=<token1>,<token2>,... load-test/gateway-jwt.js
+//
+// 비교 항목:
+//   - http_req_duration (p95/p99), dropped_iterations (목표 rps를 못 채운 횟수)
+//   - gateway-server 지표 : GET /actuator/metrics/process.cpu.usage
+//                           GET /actuator/metrics/cache.gets?tag=cache:jwt-verification&tag=result:hit (miss)
+// ================================================
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const GATEWAY_URL = __ENV.GATEWAY_URL || 'http://localhost:8000';
+const TARGET_PATH = __ENV.TARGET_PATH || '/api/categories';
+const TOKENS = (__ENV.TOKENS || '').split(',').filter((token) => token.length > 0);
+
+export const options = {
+  scenarios: {
+    authenticated: {
+      executor: 'constant-arrival-rate',
+      rate: Number(__ENV.RPS || 10000),
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '60s',
+      preAllocatedVUs: 500,
+      maxVUs: 2000,
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export default function () {
+  const token = TOKENS[Math.floor(Math.random() * TOKENS.length)];
+  const res = http.get(`${GATEWAY_URL}${TARGET_PATH}`, {
+    headers: { Authorization: `Bearer ${token}` },
+  });
+  check(res, { 'authenticated ok': (r) => r.status === 200 });
+}
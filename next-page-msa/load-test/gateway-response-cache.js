@@ -0,0 +1,79 @@
+// ================================================
+// Gateway 공개 GET 응답 캐시 부하 테스트 (k6)
+// ================================================
+// 익명 사용자가 소설 목록/카테고리/인기 소설 뷰어를 반복 조회하는 읽기 위주 트래픽입니다.
+// 응답의 X-Cache 헤더(HIT/COALESCED/MISS, 없으면 캐시 미적용)로 적중률과 업스트림 호출 감소율을 계산합니다.
+// ETAG_RATIO 비율의 요청은 직전에 받은 ETag를 If-None-Match로 보내 304 응답을 확인합니다.
+//
+// 실행 (gateway.response-cache.enabled 를 false / true 로 바꿔 각각 실행 후 비교):
+//   k6 run -e BOOK_IDS=1,2,3 load-test/gateway-response-cache.js
+//
+// 비교 항목:
+//   - gateway_cache_hit_ratio, gateway_upstream_ratio (업스트림으로 간 요청 비율, 1 - 감소율)
+//   - http_req_duration (p95/p99)
+//   - story-service 지표 : GET /actuator/metrics/http.server.requests?tag=uri:/api/books/{bookId}/view
+//   - gateway-server 지표: GET /actuator/metrics/gateway.response.cache.requests?tag=result:hit (miss, coalesced)
+// ================================================
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Rate } from 'k6/metrics';
+
+const GATEWAY_URL = __ENV.GATEWAY_URL || 'http://localhost:8000';
+const BOOK_IDS = (__ENV.BOOK_IDS || '1').split(',');
+const ETAG_RATIO = Number(__ENV.ETAG_RATIO || 0.3);
+
+const hitRatio = new Rate('gateway_cache_hit_ratio');
+const upstreamRatio = new Rate('gateway_upstream_ratio');
+const notModified = new Rate('gateway_not_modified');
+
+export const options = {
+  scenarios: {
+    anonymous_readers: {
+      executor: 'constant-arrival-rate',
+      rate: Number(__ENV.RPS || 2000),
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '60s',
+      preAllocatedVUs: 200,
+      maxVUs: 1000,
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+// VU별 마지막 ETag (If-None-Match 재검증용)
+const etags = {};
+
+function pickPath() {
+  const r = Math.random();
+  if (r < 0.6) {
+    // 인기 소설 쏠림: 앞쪽 ID일수록 자주 조회
+    const index = Math.floor(Math.pow(Math.random(), 2) * BOOK_IDS.length);
+    return `/api/books/${BOOK_IDS[index]}/view?includeSentences=true`;
+  }
+  if (r < 0.9) {
+    return `/api/books?page=${Math.floor(Math.random() * 3)}&size=10`;
+  }
+  return '/api/categories';
+}
+
+export default function () {
+  const path = pickPath();
+  const headers = {};
+  if (etags[path] && Math.random() < ETAG_RATIO) {
+    headers['If-None-Match'] = etags[path];
+  }
+
+  const res = http.get(`${GATEWAY_URL}${path}`, { headers });
+  check(res, { 'ok or not modified': (r) => r.status === 200 || r.status === 304 });
+
+  const cacheStatus = res.headers['X-Cache'];
+  hitRatio.add(cacheStatus === 'HIT' || cacheStatus === 'COALESCED');
+  upstreamRatio.add(cacheStatus !== 'HIT' && cacheStatus !== 'COALESCED');
+  notModified.add(res.status === 304);
+  if (res.headers['Etag']) {
+    etags[path] = res.headers['Etag'];
+  }
+}
@@ -0,0 +1,87 @@
+// ================================================
+// 실시간 독자 수 집계 부하 테스트 (k6)
+// ================================================
+// 다수의 세션이 여러 소설의 /topic/sentences/{bookId}를 구독/해제(소설 이동)하고 연결을 끊는 동안,
+// /api/books/live (Top-K)와 /api/books/{bookId}/readers 조회 지연을 측정합니다.
+// 소설 ID는 앞쪽 소설에 몰리도록(인기 소설) 편향되게 고릅니다.
+//
+// 실행:
+//   k6 run -e SESSIONS=100000 -e BOOKS=5000 load-test/live-readers.js
+//   (세션 수가 많으면 k6 인스턴스 여러 개로 나눠 실행)
+//
+// 비교 항목:
+//   - http_req_duration{name=live}    : Top-K 조회 지연 (세션 수와 무관해야 함)
+//   - http_req_duration{name=readers} : 소설 독자 수 조회 지연
+//   - story-service 지표              : GET /actuator/metrics/story.readers.total (sessions, books)
+//                                        GET /actuator/metrics/jvm.gc.pause (구독 이벤트 처리 중 GC 부담)
+// ================================================
+
+import http from 'k6/http';
+import ws from 'k6/ws';
+import { check } from 'k6';
+
+const GATEWAY_URL = __ENV.GATEWAY_URL || 'http://localhost:8000';
+const WS_URL = __ENV.WS_URL || 'ws://localhost:8082/ws/websocket';
+const BOOKS = Number(__ENV.BOOKS || 5000);
+const MOVE_INTERVAL_MS = Number(__ENV.MOVE_INTERVAL_MS || 10000);
+const DURATION = __ENV.DURATION || '120s';
+
+export const options = {
+  scenarios: {
+    readers: {
+      executor: 'ramping-vus',
+      exec: 'reader',
+      startVUs: 0,
+      stages: [
+        { duration: __ENV.RAMP || '60s', target: Number(__ENV.SESSIONS || 100000) },
+        { duration: DURATION, target: Number(__ENV.SESSIONS || 100000) },
+      ],
+    },
+    queries: {
+      executor: 'constant-arrival-rate',
+      exec: 'query',
+      rate: Number(__ENV.QUERIES_PER_SECOND || 200),
+      timeUnit: '1s',
+      duration: DURATION,
+      startTime: __ENV.RAMP || '60s',
+      preAllocatedVUs: 50,
+      maxVUs: 200,
+    },
+  },
+};
+
+// STOMP 프레임 (NULL 문자로 종료)
+function frame(command, headers) {
+  const lines = Object.keys(headers).map((key) => `${key}:${headers[key]}`);
+  return `${command}\n${lines.join('\n')}\n\n\0`;
+}
+
+// 앞쪽 소설일수록 자주 선택 (대략 Zipf 분포)
+function pickBook() {
+  return Math.min(BOOKS, Math.floor(Math.pow(BOOKS, Math.random())));
+}
+
+export function reader() {
+  ws.connect(WS_URL, {}, (socket) => {
+    let subscription = 0;
+    socket.on('open', () => {
+      socket.send(frame('CONNECT', { 'accept-version': '1.2', 'heart-beat': '0,0' }));
+      socket.send(frame('SUBSCRIBE', { id: `s${subscription}`, destination: `/topic/sentences/${pickBook()}` }));
+      // 다른 소설로 이동: 기존 구독 해제 후 새 구독
+      socket.setInterval(() => {
+        socket.send(frame('UNSUBSCRIBE', { id: `s${subscription}` }));
+        subscription += 1;
+        socket.send(frame('SUBSCRIBE', { id: `s${subscription}`, destination: `/topic/sentences/${pickBook()}` }));
+      }, MOVE_INTERVAL_MS);
+    });
+    // 연결 종료(DISCONNECT 없이 끊김)도 집계에서 빠지는지 확인
+    socket.setTimeout(() => socket.close(), 30000 + Math.random() * 30000);
+  });
+}
+
+export function query() {
+  const live = http.get(`${GATEWAY_URL}/api/books/live?limit=10`, { tags: { name: 'live' } });
+  check(live, { 'live 200': (r) => r.status === 200 });
+  const readers = http.get(`${GATEWAY_URL}/api/books/${pickBook()}/readers`, { tags: { name: 'readers' } });
+  check(readers, { 'readers 200': (r) => r.status === 200 });
+}
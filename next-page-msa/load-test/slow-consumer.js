@@ -0,0 +1,116 @@
+// ================================================
+// 느린 구독자(Slow Consumer) 부하 테스트 (k6)
+// ================================================
+// 한 소설에 정상 구독자와 "느린" 구독자를 함께 연결하고, 작성자들이 입력 상태 프레임과 문장을 계속 보냅니다.
+// 느린 구독자는 메시지를 받을 때마다 SLOW_MS 동안 이벤트 루프를 붙잡아 소켓을 읽지 않으므로,
+// 서버 쪽 전송이 TCP 윈도우에 막히는 상황을 재현합니다.
+//
+// 실행 (websocket.slow-consumer.enabled / websocket.channel.executor 를 바꿔 가며 비교):
+//   k6 run -e BOOK_ID=1 -e FAST=500 -e SLOW=50 -e WRITERS=50 load-test/slow-consumer.js
+//
+// 비교 항목:
+//   - slow_consumer_latency{kind=fast} : 정상 구독자의 문장 알림 지연 (느린 구독자가 있어도 유지되어야 함)
+//   - slow_consumer_frames{kind}       : 구독자 종류별 수신 프레임 수
+//   - slow_consumer_closed{kind}       : 서버가 끊은 연결 수 (느린 구독자만 늘어나야 함)
+//   - story-service 지표               : story.websocket.channel.pending{channel=outbound},
+//                                         story.websocket.frames.dropped, story.websocket.disconnects{reason}
+// ================================================
+
+import ws from 'k6/ws';
+import { Counter, Trend } from 'k6/metrics';
+
+const WS_URL = __ENV.WS_URL || 'ws://localhost:8082/ws/websocket';
+const BOOK_ID = __ENV.BOOK_ID || '1';
+const SLOW_MS = Number(__ENV.SLOW_MS || 2000);
+const TYPING_INTERVAL_MS = Number(__ENV.TYPING_INTERVAL_MS || 200);
+const DURATION = __ENV.DURATION || '60s';
+
+const frames = new Counter('slow_consumer_frames');
+const closed = new Counter('slow_consumer_closed');
+const latency = new Trend('slow_consumer_latency', true);
+
+export const options = {
+  scenarios: {
+    fast: {
+      executor: 'constant-vus',
+      exec: 'fastSubscriber',
+      vus: Number(__ENV.FAST || 500),
+      duration: DURATION,
+    },
+    slow: {
+      executor: 'constant-vus',
+      exec: 'slowSubscriber',
+      vus: Number(__ENV.SLOW || 50),
+      duration: DURATION,
+    },
+    writers: {
+      executor: 'constant-vus',
+      exec: 'writer',
+      vus: Number(__ENV.WRITERS || 50),
+      duration: DURATION,
+    },
+  },
+};
+
+// STOMP 프레임 (NULL 문자로 종료)
+function frame(command, headers, body) {
+  const lines = Object.keys(headers).map((key) => `${key}:${headers[key]}`);
+  return `${command}\n${lines.join('\n')}\n\n${body || ''}\0`;
+}
+
+function subscribe(kind, onMessage) {
+  ws.connect(WS_URL, {}, (socket) => {
+    socket.on('open', () => {
+      socket.send(frame('CONNECT', { 'accept-version': '1.2', 'heart-beat': '0,0' }));
+      socket.send(frame('SUBSCRIBE', { id: 'typing', destination: `/topic/typing/${BOOK_ID}` }));
+      socket.send(frame('SUBSCRIBE', { id: 'probe', destination: `/topic/probe/${BOOK_ID}` }));
+    });
+    socket.on('message', (data) => {
+      if (data.startsWith('MESSAGE')) {
+        frames.add(1, { kind });
+        onMessage(data);
+      }
+    });
+    socket.on('close', () => closed.add(1, { kind }));
+    socket.setTimeout(() => socket.close(), 55000);
+  });
+}
+
+export function fastSubscriber() {
+  subscribe('fast', (data) => {
+    // 작성자가 보낸 시각이 담긴 probe 프레임으로 전달 지연 측정
+    const match = data.match(/"sentAt":(\d+)/);
+    if (match) {
+      latency.add(Date.now() - Number(match[1]), { kind: 'fast' });
+    }
+  });
+}
+
+export function slowSubscriber() {
+  subscribe('slow', () => {
+    // 수신 처리를 지연시켜 소켓을 읽지 않는 느린 클라이언트를 흉내냄
+    const until = Date.now() + SLOW_MS;
+    while (Date.now() < until) {
+      // busy wait
+    }
+  });
+}
+
+export function writer() {
+  const nickname = `writer-${__VU}`;
+  ws.connect(WS_URL, {}, (socket) => {
+    socket.on('open', () => {
+      socket.send(frame('CONNECT', { 'accept-version': '1.2', 'heart-beat': '0,0' }));
+      socket.setInterval(() => {
+        socket.send(frame('SEND', { destination: `/app/typing/${BOOK_ID}`, 'content-type': 'application/json' },
+          JSON.stringify({ userNickname: nickname, isTyping: true })));
+      }, TYPING_INTERVAL_MS);
+      // 버리지 않는 목적지로 보내는 지연 측정용 프레임 (SEND는 /app 접두어가 아니면 브로커로 바로 전달됨)
+      socket.setInterval(() => {
+        socket.send(frame('SEND', { destination: `/topic/probe/${BOOK_ID}`, 'content-type': 'application/json' },
+          JSON.stringify({ sentAt: Date.now() })));
+      }, 1000);
+    });
+    socket.setTimeout(() => socket.close(), 55000);
+  });
+}
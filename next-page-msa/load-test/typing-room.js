@@ -0,0 +1,84 @@
+// ================================================
+// 입력 상태(Typing) 집계 부하 테스트 (k6)
+// ================================================
+// 한 소설에 작성자 200명이 키 입력마다 입력 상태 프레임을 보내고(/app/typing/{bookId}),
+// 구독자들이 /topic/typing/{bookId}로 받는 프레임 수를 측정합니다.
+// 작성자는 클라이언트 스로틀 없이 매 키 입력(KEY_INTERVAL_MS)마다 전송하여 최악의 경우를 재현합니다.
+//
+// 실행:
+//   k6 run -e BOOK_ID=1 -e WRITERS=200 -e SUBSCRIBERS=500 load-test/typing-room.js
+//
+// 비교 항목 (집계 이전 커밋과 비교):
+//   - typing_frames_sent       : 초당 수신(inbound) 프레임 수
+//   - typing_frames_received   : 구독자 1명당 초당 수신(outbound) 프레임 수
+//       집계 이전: 작성자 수 × 키 입력 빈도 / 집계 이후: 최대 1000 / story.typing.flush-interval-ms
+//   - story-service 지표       : GET /actuator/metrics/story.typing.frames?tag=direction:out (in)
+// ================================================
+
+import ws from 'k6/ws';
+import { Counter } from 'k6/metrics';
+
+const WS_URL = __ENV.WS_URL || 'ws://localhost:8082/ws/websocket';
+const BOOK_ID = __ENV.BOOK_ID || '1';
+const KEY_INTERVAL_MS = Number(__ENV.KEY_INTERVAL_MS || 150);
+const DURATION = __ENV.DURATION || '60s';
+
+const framesSent = new Counter('typing_frames_sent');
+const framesReceived = new Counter('typing_frames_received');
+
+export const options = {
+  scenarios: {
+    writers: {
+      executor: 'constant-vus',
+      exec: 'writer',
+      vus: Number(__ENV.WRITERS || 200),
+      duration: DURATION,
+    },
+    subscribers: {
+      executor: 'constant-vus',
+      exec: 'subscriber',
+      vus: Number(__ENV.SUBSCRIBERS || 500),
+      duration: DURATION,
+    },
+  },
+};
+
+// STOMP 프레임 (NULL 문자로 종료)
+function frame(command, headers, body) {
+  const lines = Object.keys(headers).map((key) => `${key}:${headers[key]}`);
+  return `${command}\n${lines.join('\n')}\n\n${body || ''}\0`;
+}
+
+export function writer() {
+  const nickname = `writer-${__VU}`;
+  ws.connect(WS_URL, {}, (socket) => {
+    socket.on('open', () => {
+      socket.send(frame('CONNECT', { 'accept-version': '1.2', 'heart-beat': '0,0' }));
+      let keys = 0;
+      socket.setInterval(() => {
+        // 20타 입력 후 잠시 멈춤(종료 프레임)을 반복
+        keys += 1;
+        const typing = keys % 20 !== 0;
+        socket.send(frame('SEND', { destination: `/app/typing/${BOOK_ID}`, 'content-type': 'application/json' },
+          JSON.stringify({ userNickname: nickname, isTyping: typing })));
+        framesSent.add(1);
+      }, KEY_INTERVAL_MS);
+    });
+    socket.setTimeout(() => socket.close(), 55000);
+  });
+}
+
+export function subscriber() {
+  ws.connect(WS_URL, {}, (socket) => {
+    socket.on('open', () => {
+      socket.send(frame('CONNECT', { 'accept-version': '1.2', 'heart-beat': '0,0' }));
+      socket.send(frame('SUBSCRIBE', { id: 'typing', destination: `/topic/typing/${BOOK_ID}` }));
+    });
+    socket.on('message', (data) => {
+      if (data.startsWith('MESSAGE')) {
+        framesReceived.add(1);
+      }
+    });
+    socket.setTimeout(() => socket.close(), 55000);
+  });
+}
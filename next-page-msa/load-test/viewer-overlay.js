@@ -0,0 +1,85 @@
+// ================================================
+// 소설 뷰어 공유 응답 + 내 투표 Overlay 비교 테스트 (k6)
+// ================================================
+// 로그인 사용자의 뷰어 진입(소설 정보 + 첫 문장 구간)을 두 방식으로 반복합니다.
+//   MODE=personal : 기존 방식, view/sentences가 사용자별 myVote를 포함 (Gateway 캐시 불가)
+//   MODE=shared   : view/sentences는 personal=false 공유 응답(Gateway 캐시, ETag 재검증) + GET /api/reactions/me/votes
+//
+// 실행:
+//   k6 run -e MODE=personal -e TOKENS=<token1>,<token2> -e BOOK_IDS=1,2,3 load-test/viewer-overlay.js
+//   k6 run -e MODE=shared   -e TOKENS=<token1>,<token2> -e BOOK_IDS=1,2,3 load-test/viewer-overlay.js
+//
+// 비교 항목:
+//   - viewer_load_bytes : 뷰어 진입 1회당 받은 본문 bytes (304 재검증 포함)
+//   - viewer_load_duration (p95)
+//   - 뷰어 진입 1회당 DB 쿼리 수 : 실행 전후 MariaDB SHOW GLOBAL STATUS LIKE 'Questions' 차이 / iterations
+//   - story-service 지표 : GET /actuator/metrics/story.viewer.load (leader/coalesced)
+// ================================================
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const GATEWAY_URL = __ENV.GATEWAY_URL || 'http://localhost:8000';
+const MODE = __ENV.MODE || 'shared';
+const TOKENS = (__ENV.TOKENS || '').split(',').filter((token) => token.length > 0);
+const BOOK_IDS = (__ENV.BOOK_IDS || '1').split(',');
+
+const loadBytes = new Trend('viewer_load_bytes');
+const loadDuration = new Trend('viewer_load_duration', true);
+
+export const options = {
+  scenarios: {
+    viewers: {
+      executor: 'constant-arrival-rate',
+      rate: Number(__ENV.RPS || 200),
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '60s',
+      preAllocatedVUs: 100,
+      maxVUs: 500,
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+// VU별 URL → ETag (브라우저 캐시 재검증 흉내)
+const etags = {};
+
+function get(url, headers) {
+  const requestHeaders = Object.assign({}, headers);
+  if (MODE === 'shared' && etags[url]) {
+    requestHeaders['If-None-Match'] = etags[url];
+  }
+  const res = http.get(url, { headers: requestHeaders });
+  if (res.headers['Etag']) {
+    etags[url] = res.headers['Etag'];
+  }
+  return res;
+}
+
+export default function () {
+  const token = TOKENS[Math.floor(Math.random() * TOKENS.length)];
+  const bookId = BOOK_IDS[Math.floor(Math.random() * BOOK_IDS.length)];
+  const headers = token ? { Authorization: `Bearer ${token}` } : {};
+  const shared = MODE === 'shared' ? '&personal=false' : '';
+
+  const responses = [
+    get(`${GATEWAY_URL}/api/books/${bookId}/view?includeSentences=false${shared}`, headers),
+    get(`${GATEWAY_URL}/api/books/${bookId}/sentences?afterSeq=0&limit=50${shared}`, headers),
+  ];
+  if (MODE === 'shared' && token) {
+    responses.push(http.get(`${GATEWAY_URL}/api/reactions/me/votes?bookId=${bookId}`, { headers }));
+  }
+
+  let bytes = 0;
+  let duration = 0;
+  for (const res of responses) {
+    check(res, { 'ok or not modified': (r) => r.status === 200 || r.status === 304 });
+    bytes += res.body ? res.body.length : 0;
+    duration = Math.max(duration, res.timings.duration);
+  }
+  loadBytes.add(bytes);
+  loadDuration.add(duration);
+}
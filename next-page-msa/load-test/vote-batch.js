@@ -0,0 +1,97 @@
+// ================================================
+// 문장 일괄 투표 벤치마크 (k6)
+// ================================================
+// 같은 사용자가 문장 1,000개에 투표할 때 단건 API 1,000회 vs 일괄 API(요청당 최대 100건) 10회를 비교합니다.
+// Gateway 요청 한도를 켠 채로 실행하면 한도까지 포함한 소요 시간을 비교합니다.
+// (vote: 초당 5표, vote-batch: 투표 건수만큼 차감하여 버킷 200표 + 초당 20표)
+// 429 응답은 Retry-After 만큼 기다린 뒤 다시 보냅니다. 순수 처리 시간만 보려면 gateway.rate-limit.enabled=false 로 실행합니다.
+// 각 시나리오는 문장 ID 구간을 나눠 사용하므로 서로의 투표 상태에 영향을 주지 않습니다.
+// (같은 구간으로 다시 실행하면 토글 규칙에 따라 투표가 취소되므로 매번 FROM_SENTENCE_ID를 바꾸거나 두 번씩 실행)
+//
+// 실행:
+//   k6 run -e TOKEN=<accessToken> -e BOOK_ID=1 -e FROM_SENTENCE_ID=1000000 load-test/vote-batch.js
+//
+// 비교 항목:
+//   - vote_batch_elapsed{mode:single} : 단건 1,000회 전체 소요 시간 (ms)
+//   - vote_batch_elapsed{mode:batch}  : 일괄 10회 전체 소요 시간 (ms)
+//   - reaction-service 지표           : GET /actuator/metrics/reaction.vote.broadcast.frames (전송 메시지 수)
+//                                       GET /actuator/metrics/hikaricp.connections.usage
+// ================================================
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const GATEWAY_URL = __ENV.GATEWAY_URL || 'http://localhost:8000';
+const TOKEN = __ENV.TOKEN;
+const BOOK_ID = Number(__ENV.BOOK_ID || '1');
+const FROM_SENTENCE_ID = Number(__ENV.FROM_SENTENCE_ID || '1000000');
+const VOTES = Number(__ENV.VOTES || 1000);
+const MAX_BATCH = 100; // BatchVoteRequest.MAX_VOTES
+
+const elapsed = new Trend('vote_batch_elapsed', true);
+
+export const options = {
+  scenarios: {
+    single: {
+      executor: 'shared-iterations',
+      exec: 'single',
+      vus: 1,
+      iterations: 1,
+    },
+    batch: {
+      executor: 'shared-iterations',
+      exec: 'batch',
+      vus: 1,
+      iterations: 1,
+      startTime: __ENV.BATCH_START || '4m', // 한도를 켜면 단건 시나리오가 약 200초 걸림
+    },
+  },
+};
+
+const params = {
+  headers: { 'Content-Type': 'application/json', Authorization: `Bearer ${TOKEN}` },
+};
+
+// 429이면 Retry-After(초)만큼 기다린 뒤 다시 보냄
+function post(url, body) {
+  for (;;) {
+    const res = http.post(url, body, params);
+    if (res.status !== 429) {
+      return res;
+    }
+    sleep(Number(res.headers['Retry-After'] || 1));
+  }
+}
+
+function vote(index) {
+  return { sentenceId: FROM_SENTENCE_ID + index, bookId: BOOK_ID, voteType: index % 5 === 0 ? 'DISLIKE' : 'LIKE' };
+}
+
+export function single() {
+  const started = Date.now();
+  for (let i = 0; i < VOTES; i++) {
+    const item = vote(i);
+    const res = post(`${GATEWAY_URL}/api/reactions/votes/sentences/${item.sentenceId}`,
+      JSON.stringify({ bookId: item.bookId, voteType: item.voteType }));
+    check(res, { 'single vote ok': (r) => r.status === 200 });
+  }
+  elapsed.add(Date.now() - started, { mode: 'single' });
+}
+
+export function batch() {
+  // 단건 시나리오와 겹치지 않는 구간 사용
+  const votes = [];
+  for (let i = 0; i < VOTES; i++) {
+    const item = vote(i);
+    item.sentenceId += VOTES;
+    votes.push(item);
+  }
+  const started = Date.now();
+  for (let from = 0; from < votes.length; from += MAX_BATCH) {
+    const chunk = votes.slice(from, from + MAX_BATCH);
+    const res = post(`${GATEWAY_URL}/api/reactions/votes/sentences/batch`, JSON.stringify({ votes: chunk }));
+    check(res, { 'batch vote ok': (r) => r.status === 200 });
+  }
+  elapsed.add(Date.now() - started, { mode: 'batch' });
+}
@@ -0,0 +1,82 @@
+// ================================================
+// 투표 브로드캐스트 부하 테스트 (k6)
+// ================================================
+// 한 소설에 투표를 집중시키면서 /topic/books/{bookId}/votes 구독자가 받는 메시지 수를 측정합니다.
+//
+// 실행 (reaction.vote.broadcast.window-ms 를 0 / 100 으로 바꿔 각각 실행 후 비교):
+//   k6 run -e TOKEN=<accessToken> -e BOOK_ID=1 -e SENTENCE_ID=1 load-test/vote-broadcast.js
+//
+// 비교 항목:
+//   - vote_frames_received    : 구독자 1명당 초당 수신 메시지 수 (rate)
+//   - vote_requests           : 초당 투표 요청 수
+//   - reaction-service 지표   : GET /actuator/metrics/reaction.vote.broadcast.frames (전송 메시지 수)
+//                               GET /actuator/metrics/process.cpu.usage
+//   - 구독자 CPU              : k6 프로세스 CPU 사용률 (top/pidstat 등으로 측정)
+// ================================================
+
+import http from 'k6/http';
+import ws from 'k6/ws';
+import { Counter } from 'k6/metrics';
+
+const GATEWAY_URL = __ENV.GATEWAY_URL || 'http://localhost:8000';
+const WS_URL = __ENV.WS_URL || 'ws://localhost:8083/ws/websocket';
+const TOKEN = __ENV.TOKEN;
+const BOOK_ID = __ENV.BOOK_ID || '1';
+const SENTENCE_ID = __ENV.SENTENCE_ID || '1';
+const DURATION = __ENV.DURATION || '60s';
+
+const framesReceived = new Counter('vote_frames_received');
+const voteRequests = new Counter('vote_requests');
+
+export const options = {
+  scenarios: {
+    subscribers: {
+      executor: 'constant-vus',
+      exec: 'subscriber',
+      vus: Number(__ENV.SUBSCRIBERS || 200),
+      duration: DURATION,
+    },
+    voters: {
+      executor: 'constant-arrival-rate',
+      exec: 'voter',
+      rate: Number(__ENV.VOTES_PER_SECOND || 500),
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 50,
+      maxVUs: 200,
+    },
+  },
+};
+
+// STOMP 프레임 (NULL 문자로 종료)
+function frame(command, headers) {
+  const lines = Object.keys(headers).map((key) => `${key}:${headers[key]}`);
+  return `${command}\n${lines.join('\n')}\n\n\0`;
+}
+
+export function subscriber() {
+  ws.connect(WS_URL, {}, (socket) => {
+    socket.on('open', () => {
+      socket.send(frame('CONNECT', { 'accept-version': '1.2', 'heart-beat': '0,0' }));
+      socket.send(frame('SUBSCRIBE', { id: 'votes', destination: `/topic/books/${BOOK_ID}/votes` }));
+    });
+    socket.on('message', (data) => {
+      if (data.startsWith('MESSAGE')) {
+        framesReceived.add(1);
+      }
+    });
+    socket.setTimeout(() => socket.close(), 55000);
+  });
+}
+
+export function voter() {
+  // 같은 사용자의 좋아요/취소 토글도 매번 집계 변경 + 브로드캐스트를 발생시킴
+  const params = {
+    headers: { 'Content-Type': 'application/json', Authorization: `Bearer ${TOKEN}` },
+  };
+  const url = Math.random() < 0.5
+    ? `${GATEWAY_URL}/api/reactions/votes/books`
+    : `${GATEWAY_URL}/api/reactions/votes/sentences/${SENTENCE_ID}`;
+  http.post(url, JSON.stringify({ bookId: Number(BOOK_ID), voteType: 'LIKE' }), params);
+  voteRequests.add(1);
+}
@@ -5,6 +5,7 @@ import com.team2.memberservice.command.member.entity.Member;
 import com.team2.memberservice.command.member.entity.UserRole;
 import com.team2.memberservice.command.member.entity.UserStatus;
 import com.team2.memberservice.command.member.repository.MemberRepository;
+import com.team2.memberservice.feign.service.MemberCacheInvalidationPublisher;
 import com.team2.commonmodule.error.BusinessException;
 import com.team2.commonmodule.error.ErrorCode;
 import com.team2.commonmodule.util.SecurityUtil;
@@ -25,6 +26,7 @@ public class MemberService {
 
   private final MemberRepository memberRepository;
   private final PasswordEncoder passwordEncoder;
+  private final MemberCacheInvalidationPublisher cacheInvalidationPublisher;
 
   /**
    * 일반 사용자 등록
@@ -99,6 +101,9 @@ public class MemberService {
 
     // Soft Delete 수행
     memberRepository.delete(member);
+
+    // 다른 서비스의 회원 정보 캐시 무효화 (커밋 이후)
+    cacheInvalidationPublisher.publishAfterCommit(member.getUserId());
   }
 
   /**
@@ -143,5 +148,8 @@ public class MemberService {
 
     // Soft Delete 수행
     memberRepository.delete(member);
+
+    // 다른 서비스의 회원 정보 캐시 무효화 (커밋 이후)
+    cacheInvalidationPublisher.publishAfterCommit(member.getUserId());
   }
 }
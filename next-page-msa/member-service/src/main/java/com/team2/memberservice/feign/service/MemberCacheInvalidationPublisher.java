@@ -0,0 +1,92 @@
+package com.team2.memberservice.feign.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 회원 정보 캐시 무효화 전파
+ *
+ * <p>
+ * 닉네임 변경이나 탈퇴처럼 다른 서비스가 캐시한 회원 정보가 바뀌면,
+ * 커밋 이후 대상 서비스의 모든 인스턴스에 {@code POST /internal/cache/members/invalidate}를 호출합니다.
+ * 로드밸런서를 거치지 않고 Discovery에 등록된 인스턴스 각각으로 보내며,
+ * 실패하더라도 각 서비스 캐시의 TTL이 지나면 자연히 갱신됩니다.
+ * </p>
+ *
+ * @author 김태형
+ */
+@Slf4j
+@Component
+public class MemberCacheInvalidationPublisher {
+
+    private static final String INVALIDATE_PATH = "/internal/cache/members/invalidate";
+
+    private final DiscoveryClient discoveryClient;
+    private final List<String> targetServices;
+    private final RestClient restClient;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "member-cache-invalidation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MemberCacheInvalidationPublisher(DiscoveryClient discoveryClient,
+            @Value("${member.cache.invalidation.targets:story-service,reaction-service}") List<String> targetServices,
+            @Value("${member.cache.invalidation.timeout-ms:1000}") int timeoutMs) {
+        this.discoveryClient = discoveryClient;
+        this.targetServices = targetServices;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMs);
+        requestFactory.setReadTimeout(timeoutMs);
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 무효화를 전파합니다.
+     *
+     * @param userId 변경된 회원 ID
+     */
+    public void publishAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            executor.execute(() -> publish(List.of(userId)));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                executor.execute(() -> publish(List.of(userId)));
+            }
+        });
+    }
+
+    private void publish(List<Long> userIds) {
+        for (String serviceId : targetServices) {
+            for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+                try {
+                    restClient.post()
+                            .uri(instance.getUri() + INVALIDATE_PATH)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(userIds)
+                            .retrieve()
+                            .toBodilessEntity();
+                } catch (Exception e) {
+                    log.warn("Member cache invalidation failed for {} ({}): {}",
+                            serviceId, instance.getUri(), e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.team2.reactionservice.command.reaction.controller;
 
+import com.team2.reactionservice.command.reaction.dto.request.BatchVoteRequest;
 import com.team2.reactionservice.command.reaction.dto.request.CreateCommentRequest;
 import com.team2.reactionservice.command.reaction.dto.request.UpdateCommentRequest;
 import com.team2.reactionservice.command.reaction.dto.request.VoteRequest;
@@ -11,9 +12,9 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import com.team2.commonmodule.feign.MemberServiceClient;
-import com.team2.commonmodule.feign.dto.MemberInfoDto;
+import com.team2.commonmodule.feign.cache.MemberInfoCache;
 import java.time.LocalDateTime;
+import java.util.List;
 import com.team2.commonmodule.feign.StoryServiceClient;
 import lombok.RequiredArgsConstructor;
 
@@ -24,7 +25,7 @@ import lombok.RequiredArgsConstructor;
 public class ReactionController {
 
   private final ReactionService reactionService;
-  private final MemberServiceClient memberServiceClient;
+  private final MemberInfoCache memberInfoCache;
   private final StoryServiceClient storyServiceClient;
 
   /**
@@ -44,9 +45,9 @@ public class ReactionController {
     Long userId = SecurityUtil.getCurrentUserId();
     String nickname = "User#" + userId;
     try {
-      ApiResponse<MemberInfoDto> response = memberServiceClient.getMemberInfo(userId);
-      if (response != null && response.getData() != null) {
-        nickname = response.getData().getUserNicknm();
+      String cachedNickname = memberInfoCache.getNickname(userId);
+      if (cachedNickname != null) {
+        nickname = cachedNickname;
       }
     } catch (Exception e) {
       // Fallback or log error
@@ -140,4 +141,21 @@ public class ReactionController {
     Boolean result = reactionService.voteSentence(sentenceId, request);
     return ResponseEntity.ok(ApiResponse.success(result));
   }
+
+  /**
+   * 문장 일괄 투표 API
+   * POST /api/reactions/votes/sentences/batch
+   *
+   * @param request 투표 목록 (sentenceId, bookId, voteType), 최대 100건
+   * @return 요청 순서별 투표 반영 여부 (true: 반영됨/변경됨 / false: 취소됨)
+   */
+  @Operation(summary = "문장 일괄 투표", description = "여러 문장에 대한 투표를 한 번에 처리합니다. (최대 100건, 전체가 하나의 트랜잭션)\n" +
+      "- 각 항목은 문장 투표 API와 같은 규칙(반영/변경/취소)으로 요청 순서대로 적용됩니다.\n" +
+      "- 결과 목록은 요청 목록과 같은 순서입니다.")
+  @PostMapping("/votes/sentences/batch")
+  public ResponseEntity<ApiResponse<List<Boolean>>> voteSentences(
+      @RequestBody @Valid BatchVoteRequest request) {
+    List<Boolean> results = reactionService.voteSentences(request);
+    return ResponseEntity.ok(ApiResponse.success(results));
+  }
 }
@@ -0,0 +1,49 @@
+package com.team2.reactionservice.command.reaction.dto.request;
+
+import com.team2.reactionservice.command.reaction.entity.VoteType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 문장 일괄 투표 요청 DTO
+ * 목록 순서대로 단건 투표와 같은 규칙(반영/변경/취소)을 적용합니다.
+ * Gateway 요청 한도(vote-batch)는 요청 수가 아니라 투표 건수만큼 차감하므로, 최대 건수는 그 버킷 크기(200) 이하로 둡니다.
+ *
+ * @author 정병진
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class BatchVoteRequest {
+
+  public static final int MAX_VOTES = 100;
+
+  @NotEmpty(message = "투표 목록이 비어 있습니다.")
+  @Size(max = MAX_VOTES, message = "한 번에 최대 100건까지 투표할 수 있습니다.")
+  private List<@Valid @NotNull Item> votes;
+
+  @Getter
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @AllArgsConstructor
+  @Builder
+  public static class Item {
+
+    @NotNull(message = "문장 ID는 필수입니다.")
+    private Long sentenceId;
+
+    private Long bookId; // 선택 (알림 채널 계산용, 서버에서 검증)
+
+    @NotNull(message = "투표 유형을 선택해주세요.")
+    private VoteType voteType;
+  }
+}
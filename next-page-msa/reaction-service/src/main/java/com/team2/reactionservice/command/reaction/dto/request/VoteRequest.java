@@ -19,7 +19,7 @@ import lombok.NoArgsConstructor;
 @Builder
 public class VoteRequest {
 
-  private Long bookId; // 소설 투표 시 사용
+  private Long bookId; // 소설 투표 시 필수, 문장 투표 시 선택 (알림 채널 계산용, 서버에서 검증)
 
   @NotNull(message = "투표 유형을 선택해주세요.")
   private VoteType voteType;
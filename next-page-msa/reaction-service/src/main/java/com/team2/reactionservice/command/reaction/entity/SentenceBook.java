@@ -0,0 +1,27 @@
+package com.team2.reactionservice.command.reaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 문장-소설 매핑(SentenceBook) 엔티티
+ * story-service의 sentence_id → book_id 관계를 로컬에 복제한 읽기 전용 Projection입니다.
+ * (문장 투표 알림 채널 /topic/books/{bookId}/votes 계산용)
+ *
+ * @author 정병진
+ */
+@Entity
+@Getter
+@Table(name = "sentence_books")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SentenceBook {
+
+    @Id
+    @Column(name = "sentence_id")
+    private Long sentenceId;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+}
@@ -0,0 +1,39 @@
+package com.team2.reactionservice.command.reaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 문장 투표 집계(SentenceVoteCount) 엔티티
+ * 문장별 좋아요/싫어요 수를 미리 계산해 보관합니다. (sentence_votes 변경과 같은 트랜잭션에서 증감)
+ * 값 변경은 {@code SentenceVoteCountRepository.applyDelta}의 원자적 UPSERT로만 수행합니다.
+ *
+ * @author 정병진
+ */
+@Entity
+@Getter
+@Table(name = "sentence_vote_counts")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SentenceVoteCount {
+
+    @Id
+    @Column(name = "sentence_id")
+    private Long sentenceId;
+
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    @Column(name = "dislike_count", nullable = false)
+    private long dislikeCount;
+
+    /** 재계산(VoteCountReconciler)마다 1씩 증가. 메모리 집계기의 증감은 기록 시점의 버전과 같을 때만 반영 */
+    @Column(name = "reconcile_version", nullable = false)
+    private long reconcileVersion;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
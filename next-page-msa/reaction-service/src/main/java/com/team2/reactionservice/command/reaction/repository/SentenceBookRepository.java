@@ -0,0 +1,28 @@
+package com.team2.reactionservice.command.reaction.repository;
+
+import com.team2.reactionservice.command.reaction.entity.SentenceBook;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 문장-소설 매핑(SentenceBook) Repository
+ *
+ * @author 정병진
+ */
+public interface SentenceBookRepository extends JpaRepository<SentenceBook, Long> {
+
+    /**
+     * 매핑 저장 (이미 있으면 book_id 갱신)
+     *
+     * @param sentenceId 문장 ID
+     * @param bookId     소설 ID
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO sentence_books (sentence_id, book_id) VALUES (:sentenceId, :bookId) "
+            + "ON DUPLICATE KEY UPDATE book_id = VALUES(book_id)", nativeQuery = true)
+    void upsert(@Param("sentenceId") Long sentenceId, @Param("bookId") Long bookId);
+}
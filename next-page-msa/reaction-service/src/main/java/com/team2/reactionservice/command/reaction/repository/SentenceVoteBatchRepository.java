@@ -0,0 +1,113 @@
+package com.team2.reactionservice.command.reaction.repository;
+
+import com.team2.reactionservice.command.reaction.entity.VoteType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문장 투표 일괄 처리 Repository (JDBC Batch)
+ * IDENTITY 키를 쓰는 엔티티는 Hibernate가 INSERT를 묶지 못하므로 일괄 투표는 JdbcTemplate으로 기록합니다.
+ * 호출하는 쪽의 트랜잭션(JPA)에 함께 참여합니다.
+ *
+ * @author 정병진
+ */
+@Repository
+@RequiredArgsConstructor
+public class SentenceVoteBatchRepository {
+
+    private static final String INSERT_VOTE_SQL = "INSERT INTO sentence_votes "
+            + "(sentence_id, voter_id, vote_type, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String UPDATE_VOTE_SQL = "UPDATE sentence_votes SET vote_type = ? "
+            + "WHERE sentence_id = ? AND voter_id = ?";
+
+    private static final String DELETE_VOTE_SQL = "DELETE FROM sentence_votes WHERE sentence_id = ? AND voter_id = ?";
+
+    private static final String APPLY_DELTA_SQL = "INSERT INTO sentence_vote_counts "
+            + "(sentence_id, like_count, dislike_count, updated_at) VALUES (?, GREATEST(?, 0), GREATEST(?, 0), NOW()) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "like_count = GREATEST(like_count + ?, 0), "
+            + "dislike_count = GREATEST(dislike_count + ?, 0), "
+            + "updated_at = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 투표 일괄 추가
+     *
+     * @param voterId 투표자 ID
+     * @param votes   문장 ID → 투표 유형
+     */
+    public void insertAll(Long voterId, Map<Long, VoteType> votes) {
+        if (votes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_VOTE_SQL, new ArrayList<>(votes.entrySet()), votes.size(), (ps, vote) -> {
+            ps.setLong(1, vote.getKey());
+            ps.setLong(2, voterId);
+            ps.setString(3, vote.getValue().name());
+            ps.setTimestamp(4, now);
+        });
+    }
+
+    /**
+     * 투표 유형 일괄 변경
+     *
+     * @param voterId 투표자 ID
+     * @param votes   문장 ID → 변경할 투표 유형
+     */
+    public void updateAll(Long voterId, Map<Long, VoteType> votes) {
+        if (votes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_VOTE_SQL, new ArrayList<>(votes.entrySet()), votes.size(), (ps, vote) -> {
+            ps.setString(1, vote.getValue().name());
+            ps.setLong(2, vote.getKey());
+            ps.setLong(3, voterId);
+        });
+    }
+
+    /**
+     * 투표 일괄 삭제
+     *
+     * @param voterId     투표자 ID
+     * @param sentenceIds 투표를 취소할 문장 ID 목록
+     */
+    public void deleteAll(Long voterId, List<Long> sentenceIds) {
+        if (sentenceIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_VOTE_SQL, sentenceIds, sentenceIds.size(), (ps, sentenceId) -> {
+            ps.setLong(1, sentenceId);
+            ps.setLong(2, voterId);
+        });
+    }
+
+    /**
+     * 문장 투표 수 일괄 증감 ({@link SentenceVoteCountRepository#applyDelta}와 같은 UPSERT)
+     *
+     * @param deltas 문장 ID → [좋아요 증감, 싫어요 증감]
+     */
+    public void applyDeltas(Map<Long, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, new ArrayList<>(deltas.entrySet()), deltas.size(), (ps, delta) -> {
+            long likeDelta = delta.getValue()[0];
+            long dislikeDelta = delta.getValue()[1];
+            ps.setLong(1, delta.getKey());
+            ps.setLong(2, likeDelta);
+            ps.setLong(3, dislikeDelta);
+            ps.setLong(4, likeDelta);
+            ps.setLong(5, dislikeDelta);
+        });
+    }
+}
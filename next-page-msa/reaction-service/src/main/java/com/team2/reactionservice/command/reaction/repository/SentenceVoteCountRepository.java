@@ -0,0 +1,111 @@
+package com.team2.reactionservice.command.reaction.repository;
+
+import com.team2.reactionservice.command.reaction.entity.SentenceVoteCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 문장 투표 집계(SentenceVoteCount) Command Repository
+ *
+ * @author 정병진
+ */
+public interface SentenceVoteCountRepository extends JpaRepository<SentenceVoteCount, Long> {
+
+    /**
+     * 문장 투표 수 증감 (행이 없으면 생성, 원자적 UPSERT)
+     * 투표 변경과 같은 트랜잭션에서 호출해야 롤백 시 함께 취소됩니다.
+     *
+     * @param sentenceId       문장 ID
+     * @param likeDelta    좋아요 증감 (-1, 0, 1)
+     * @param dislikeDelta 싫어요 증감 (-1, 0, 1)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO sentence_vote_counts (sentence_id, like_count, dislike_count, updated_at) "
+            + "VALUES (:sentenceId, GREATEST(:likeDelta, 0), GREATEST(:dislikeDelta, 0), NOW()) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "like_count = GREATEST(like_count + :likeDelta, 0), "
+            + "dislike_count = GREATEST(dislike_count + :dislikeDelta, 0), "
+            + "updated_at = NOW()", nativeQuery = true)
+    void applyDelta(@Param("sentenceId") Long sentenceId,
+            @Param("likeDelta") long likeDelta,
+            @Param("dislikeDelta") long dislikeDelta);
+
+    /**
+     * 메모리 집계기의 미반영 증감 반영 (재계산 버전이 같을 때만 증감, 행이 없으면 생성)
+     * 증감이 기록될 때 읽은 reconcile_version과 현재 행의 버전이 다르면, 그 사이 재계산이
+     * 이미 해당 투표를 포함해 덮어쓴 것이므로 아무것도 바꾸지 않습니다.
+     *
+     * @param sentenceId   문장 ID
+     * @param likeDelta    좋아요 증감
+     * @param dislikeDelta 싫어요 증감
+     * @param version      증감이 기록될 때의 재계산 버전
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sentence_vote_counts (sentence_id, like_count, dislike_count, reconcile_version, updated_at) "
+            + "VALUES (:sentenceId, GREATEST(:likeDelta, 0), GREATEST(:dislikeDelta, 0), :version, NOW()) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "like_count = IF(reconcile_version = :version, GREATEST(like_count + :likeDelta, 0), like_count), "
+            + "dislike_count = IF(reconcile_version = :version, GREATEST(dislike_count + :dislikeDelta, 0), "
+            + "dislike_count), "
+            + "updated_at = IF(reconcile_version = :version, NOW(), updated_at)", nativeQuery = true)
+    void applyDeltaAtVersion(@Param("sentenceId") Long sentenceId,
+            @Param("likeDelta") long likeDelta,
+            @Param("dislikeDelta") long dislikeDelta,
+            @Param("version") long version);
+
+    /**
+     * 투표 트랜잭션 안에서 문장 집계 행의 재계산 버전을 공유 잠금으로 읽습니다. (행이 없으면 빈 목록)
+     * 투표 행을 쓴 뒤에 호출해야 하며, 진행 중인 재계산이 있으면 그 커밋 이후 값을 읽습니다.
+     *
+     * @return [sentenceId, reconcile_version] 목록
+     */
+    @Query(value = "SELECT sentence_id, reconcile_version FROM sentence_vote_counts WHERE sentence_id IN (:ids) FOR SHARE",
+            nativeQuery = true)
+    List<Object[]> findReconcileVersionsForShare(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 재집계 대상 최대 문장 ID (투표 테이블과 집계 테이블 중 큰 값)
+     */
+    @Query(value = "SELECT GREATEST("
+            + "COALESCE((SELECT MAX(sentence_id) FROM sentence_votes), 0), "
+            + "COALESCE((SELECT MAX(sentence_id) FROM sentence_vote_counts), 0))", nativeQuery = true)
+    long findMaxSentenceId();
+
+    /**
+     * 문장 ID 구간의 투표 수를 sentence_votes에서 다시 계산해 덮어쓰고 재계산 버전(reconcile_version)을 올립니다.
+     * (값이 같으면 updated_at은 유지)
+     *
+     * @return 영향받은 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO sentence_vote_counts (sentence_id, like_count, dislike_count, reconcile_version, updated_at) "
+            + "SELECT v.sentence_id, SUM(v.vote_type = 'LIKE'), SUM(v.vote_type = 'DISLIKE'), 1, NOW() "
+            + "FROM sentence_votes v WHERE v.sentence_id BETWEEN :fromId AND :toId GROUP BY v.sentence_id "
+            + "ON DUPLICATE KEY UPDATE "
+            + "updated_at = IF(like_count = VALUES(like_count) AND dislike_count = VALUES(dislike_count), "
+            + "updated_at, VALUES(updated_at)), "
+            + "like_count = VALUES(like_count), "
+            + "dislike_count = VALUES(dislike_count), "
+            + "reconcile_version = reconcile_version + 1", nativeQuery = true)
+    int reconcileRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 문장 ID 구간에서 투표가 하나도 남지 않은 집계 행을 0으로 초기화하고 재계산 버전을 올립니다.
+     *
+     * @return 영향받은 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE sentence_vote_counts c SET c.like_count = 0, c.dislike_count = 0, "
+            + "c.reconcile_version = c.reconcile_version + 1, c.updated_at = NOW() "
+            + "WHERE c.sentence_id BETWEEN :fromId AND :toId "
+            + "AND NOT EXISTS (SELECT 1 FROM sentence_votes v WHERE v.sentence_id = c.sentence_id)", nativeQuery = true)
+    int resetOrphansInRange(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -1,26 +1,39 @@
 package com.team2.reactionservice.command.reaction.service;
 
+import com.team2.reactionservice.command.reaction.dto.request.BatchVoteRequest;
 import com.team2.reactionservice.command.reaction.dto.request.CreateCommentRequest;
 import com.team2.reactionservice.command.reaction.dto.request.UpdateCommentRequest;
 import com.team2.reactionservice.command.reaction.dto.request.VoteRequest;
 import com.team2.reactionservice.command.reaction.entity.BookVote;
+import com.team2.reactionservice.command.reaction.entity.BookVoteCount;
 import com.team2.reactionservice.command.reaction.entity.Comment;
 import com.team2.reactionservice.command.reaction.entity.SentenceVote;
+import com.team2.reactionservice.command.reaction.entity.SentenceVoteCount;
 import com.team2.reactionservice.command.reaction.entity.VoteType;
+import com.team2.reactionservice.command.reaction.repository.BookVoteCountRepository;
 import com.team2.reactionservice.command.reaction.repository.BookVoteRepository;
 import com.team2.reactionservice.command.reaction.repository.CommentRepository;
+import com.team2.reactionservice.command.reaction.repository.SentenceVoteBatchRepository;
+import com.team2.reactionservice.command.reaction.repository.SentenceVoteCountRepository;
 import com.team2.reactionservice.command.reaction.repository.SentenceVoteRepository;
-import com.team2.reactionservice.feign.StoryServiceClient;
+import com.team2.reactionservice.query.reaction.service.CommentTreeCache;
 import com.team2.reactionservice.websocket.dto.VoteUpdateDto;
+import com.team2.reactionservice.websocket.publisher.VoteBroadcastPublisher;
 import com.team2.commonmodule.error.BusinessException;
 import com.team2.commonmodule.error.ErrorCode;
 import com.team2.commonmodule.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,8 +50,13 @@ public class ReactionService {
   private final CommentRepository commentRepository;
   private final BookVoteRepository bookVoteRepository;
   private final SentenceVoteRepository sentenceVoteRepository;
-  private final SimpMessagingTemplate messagingTemplate;
-  private final StoryServiceClient storyServiceClient;
+  private final BookVoteCountRepository bookVoteCountRepository;
+  private final SentenceVoteCountRepository sentenceVoteCountRepository;
+  private final SentenceVoteBatchRepository sentenceVoteBatchRepository;
+  private final VoteCountAggregator voteCountAggregator;
+  private final VoteBroadcastPublisher voteBroadcastPublisher;
+  private final SentenceBookProjection sentenceBookProjection;
+  private final CommentTreeCache commentTreeCache;
 
   /**
    * 댓글 작성
@@ -68,6 +86,9 @@ public class ReactionService {
         .build();
 
     Comment saveComment = commentRepository.save(newComment);
+    commentTreeCache.onCommentAdded(saveComment.getBookId(), saveComment.getCommentId(),
+        parent != null ? parent.getCommentId() : null, writerId, saveComment.getContent(),
+        saveComment.getCreatedAt());
 
     return saveComment.getCommentId();
   }
@@ -85,6 +106,7 @@ public class ReactionService {
     validateWriter(comment, SecurityUtil.getCurrentUserId());
 
     comment.updateContent(request.getContent());
+    commentTreeCache.onCommentModified(comment.getBookId(), commentId, comment.getContent());
   }
 
   /**
@@ -99,6 +121,7 @@ public class ReactionService {
     validateWriterOrAdmin(comment, SecurityUtil.getCurrentUserId());
 
     commentRepository.delete(comment);
+    commentTreeCache.onCommentRemoved(comment.getBookId(), commentId);
   }
 
   /**
@@ -111,13 +134,14 @@ public class ReactionService {
 
     if (existingVote.isPresent()) {
       BookVote vote = existingVote.get();
-      if (vote.getVoteType() == request.getVoteType()) {
+      VoteType previous = vote.getVoteType();
+      if (previous == request.getVoteType()) {
         bookVoteRepository.delete(vote);
-        broadcastBookVote(request.getBookId());
+        applyBookVoteDelta(request.getBookId(), previous, null);
         return false;
       } else {
         vote.changeVoteType(request.getVoteType());
-        broadcastBookVote(request.getBookId());
+        applyBookVoteDelta(request.getBookId(), previous, request.getVoteType());
         return true;
       }
     } else {
@@ -127,22 +151,42 @@ public class ReactionService {
           .voteType(request.getVoteType())
           .build();
       bookVoteRepository.save(newVote);
-      broadcastBookVote(request.getBookId());
+      applyBookVoteDelta(request.getBookId(), null, request.getVoteType());
       return true;
     }
   }
 
+  /**
+   * 소설 투표 집계 증감 및 브로드캐스트
+   * 집계기가 켜져 있으면 커밋 이후 메모리에 누적하고 반영/알림은 집계기가 묶어서 처리합니다.
+   *
+   * @param removed 취소되는 투표 유형 (없으면 null)
+   * @param added   추가되는 투표 유형 (없으면 null)
+   */
+  private void applyBookVoteDelta(Long bookId, VoteType removed, VoteType added) {
+    if (voteCountAggregator.isEnabled()) {
+      // 투표 행 변경을 먼저 DB에 써야 집계기가 읽는 재계산 버전과 재계산 결과의 포함 여부가 일치
+      bookVoteRepository.flush();
+      voteCountAggregator.recordBookVote(bookId, removed, added);
+      return;
+    }
+    bookVoteCountRepository.applyDelta(bookId,
+        delta(VoteType.LIKE, removed, added),
+        delta(VoteType.DISLIKE, removed, added));
+    broadcastBookVote(bookId);
+  }
+
   private void broadcastBookVote(Long bookId) {
-    long likeCount = bookVoteRepository.countByBookIdAndVoteType(bookId, VoteType.LIKE);
-    long dislikeCount = bookVoteRepository.countByBookIdAndVoteType(bookId, VoteType.DISLIKE);
+    // 집계 테이블 PK 조회 (COUNT(*) 대신)
+    BookVoteCount count = bookVoteCountRepository.findById(bookId).orElse(null);
 
     VoteUpdateDto updateDto = new VoteUpdateDto(
         bookId,
         "BOOK",
-        likeCount,
-        dislikeCount);
+        count != null ? count.getLikeCount() : 0L,
+        count != null ? count.getDislikeCount() : 0L);
 
-    messagingTemplate.convertAndSend("/topic/books/" + bookId + "/votes", updateDto);
+    voteBroadcastPublisher.publish(bookId, updateDto);
   }
 
   /**
@@ -155,13 +199,14 @@ public class ReactionService {
 
     if (existingVote.isPresent()) {
       SentenceVote vote = existingVote.get();
-      if (vote.getVoteType() == request.getVoteType()) {
+      VoteType previous = vote.getVoteType();
+      if (previous == request.getVoteType()) {
         sentenceVoteRepository.delete(vote);
-        broadcastSentenceVote(sentenceId);
+        applySentenceVoteDelta(sentenceId, request.getBookId(), previous, null);
         return false;
       } else {
         vote.changeVoteType(request.getVoteType());
-        broadcastSentenceVote(sentenceId);
+        applySentenceVoteDelta(sentenceId, request.getBookId(), previous, request.getVoteType());
         return true;
       }
     } else {
@@ -171,29 +216,148 @@ public class ReactionService {
           .voteType(request.getVoteType())
           .build();
       sentenceVoteRepository.save(newVote);
-      broadcastSentenceVote(sentenceId);
+      applySentenceVoteDelta(sentenceId, request.getBookId(), null, request.getVoteType());
       return true;
     }
   }
 
-  private void broadcastSentenceVote(Long sentenceId) {
-    long likeCount = sentenceVoteRepository.countBySentenceIdAndVoteType(sentenceId, VoteType.LIKE);
-    long dislikeCount = sentenceVoteRepository.countBySentenceIdAndVoteType(sentenceId, VoteType.DISLIKE);
+  /**
+   * 문장 투표 집계 증감 및 브로드캐스트
+   * 집계기가 켜져 있으면 커밋 이후 메모리에 누적하고 반영/알림은 집계기가 묶어서 처리합니다.
+   *
+   * @param bookId  요청에 담긴 소설 ID (확인된 소설 ID와 다르면 알림 생략, 없으면 null)
+   * @param removed 취소되는 투표 유형 (없으면 null)
+   * @param added   추가되는 투표 유형 (없으면 null)
+   */
+  private void applySentenceVoteDelta(Long sentenceId, Long bookId, VoteType removed, VoteType added) {
+    if (voteCountAggregator.isEnabled()) {
+      // 알림 채널은 집계기가 확인된 소설 ID로 계산
+      sentenceVoteRepository.flush();
+      voteCountAggregator.recordSentenceVote(sentenceId, removed, added);
+      return;
+    }
+    sentenceVoteCountRepository.applyDelta(sentenceId,
+        delta(VoteType.LIKE, removed, added),
+        delta(VoteType.DISLIKE, removed, added));
+    broadcastSentenceVote(sentenceId, bookId);
+  }
 
-    try {
-      Long bookId = storyServiceClient.getBookIdBySentenceId(sentenceId);
+  /**
+   * 문장 일괄 투표 처리
+   * 기존 투표를 한 번에 조회한 뒤 요청 순서대로 단건 투표와 같은 규칙(반영/변경/취소)을 적용하고,
+   * 문장별 최종 상태만 JDBC Batch로 기록합니다. 알림은 커밋 이후 소설별로 한 프레임씩 전송합니다.
+   *
+   * @param request 투표 목록 (sentenceId, bookId, voteType)
+   * @return 요청 순서별 투표 반영 여부 (true: 반영됨/변경됨 / false: 취소됨)
+   */
+  public List<Boolean> voteSentences(BatchVoteRequest request) {
+    Long voterId = SecurityUtil.getCurrentUserId();
+    List<BatchVoteRequest.Item> items = request.getVotes();
 
-      if (bookId != null) {
-        VoteUpdateDto updateDto = new VoteUpdateDto(
-            sentenceId,
-            "SENTENCE",
-            likeCount,
-            dislikeCount);
+    List<Long> sentenceIds = items.stream().map(BatchVoteRequest.Item::getSentenceId).distinct().toList();
+    Map<Long, VoteType> before = new HashMap<>();
+    for (Object[] row : sentenceVoteRepository.findMyVotesBySentenceIds(sentenceIds, voterId)) {
+      before.put((Long) row[0], (VoteType) row[1]);
+    }
+
+    // 같은 문장이 여러 번 포함되면 앞선 요청의 결과 위에 이어서 적용
+    Map<Long, VoteType> after = new HashMap<>(before);
+    Map<Long, Long> hintedBookIds = new HashMap<>();
+    List<Boolean> results = new ArrayList<>(items.size());
+    for (BatchVoteRequest.Item item : items) {
+      if (item.getVoteType() == after.get(item.getSentenceId())) {
+        after.remove(item.getSentenceId());
+        results.add(false);
+      } else {
+        after.put(item.getSentenceId(), item.getVoteType());
+        results.add(true);
+      }
+      if (item.getBookId() != null) {
+        hintedBookIds.put(item.getSentenceId(), item.getBookId());
+      }
+    }
 
-        messagingTemplate.convertAndSend("/topic/books/" + bookId + "/votes", updateDto);
+    Map<Long, VoteType> inserts = new LinkedHashMap<>();
+    Map<Long, VoteType> updates = new LinkedHashMap<>();
+    List<Long> deletes = new ArrayList<>();
+    Map<Long, long[]> deltas = new LinkedHashMap<>();
+    for (Long sentenceId : sentenceIds) {
+      VoteType removed = before.get(sentenceId);
+      VoteType added = after.get(sentenceId);
+      if (removed == added) {
+        continue;
+      }
+      if (removed == null) {
+        inserts.put(sentenceId, added);
+      } else if (added == null) {
+        deletes.add(sentenceId);
+      } else {
+        updates.put(sentenceId, added);
       }
-    } catch (Exception e) {
-      log.error("Failed to broadcast sentence vote: {}", e.getMessage());
+      deltas.put(sentenceId, new long[] {
+          delta(VoteType.LIKE, removed, added),
+          delta(VoteType.DISLIKE, removed, added) });
+    }
+
+    sentenceVoteBatchRepository.deleteAll(voterId, deletes);
+    sentenceVoteBatchRepository.updateAll(voterId, updates);
+    sentenceVoteBatchRepository.insertAll(voterId, inserts);
+
+    if (voteCountAggregator.isEnabled()) {
+      voteCountAggregator.recordSentenceVotes(deltas.keySet(), before, after);
+      return results;
+    }
+    sentenceVoteBatchRepository.applyDeltas(deltas);
+    broadcastSentenceVotes(new ArrayList<>(deltas.keySet()), hintedBookIds);
+    return results;
+  }
+
+  private void broadcastSentenceVotes(List<Long> sentenceIds, Map<Long, Long> hintedBookIds) {
+    if (sentenceIds.isEmpty()) {
+      return;
+    }
+    Map<Long, List<VoteUpdateDto>> updatesByBook = new LinkedHashMap<>();
+    for (SentenceVoteCount count : sentenceVoteCountRepository.findAllById(sentenceIds)) {
+      Long bookId = sentenceBookProjection.resolve(count.getSentenceId(), hintedBookIds.get(count.getSentenceId()));
+      if (bookId != null) {
+        updatesByBook.computeIfAbsent(bookId, id -> new ArrayList<>())
+            .add(new VoteUpdateDto(count.getSentenceId(), "SENTENCE", count.getLikeCount(), count.getDislikeCount()));
+      }
+    }
+
+    Runnable publish = () -> updatesByBook.forEach(voteBroadcastPublisher::publishAll);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          publish.run();
+        }
+      });
+    } else {
+      publish.run();
+    }
+  }
+
+  private static long delta(VoteType target, VoteType removed, VoteType added) {
+    return (added == target ? 1 : 0) - (removed == target ? 1 : 0);
+  }
+
+  private void broadcastSentenceVote(Long sentenceId, Long hintedBookId) {
+    // 집계 테이블 PK 조회 (COUNT(*) 대신)
+    SentenceVoteCount count = sentenceVoteCountRepository.findById(sentenceId).orElse(null);
+    long likeCount = count != null ? count.getLikeCount() : 0L;
+    long dislikeCount = count != null ? count.getDislikeCount() : 0L;
+
+    // 로컬 Projection으로 알림 채널 계산 (story-service 동기 호출 없음)
+    Long bookId = sentenceBookProjection.resolve(sentenceId, hintedBookId);
+    if (bookId != null) {
+      VoteUpdateDto updateDto = new VoteUpdateDto(
+          sentenceId,
+          "SENTENCE",
+          likeCount,
+          dislikeCount);
+
+      voteBroadcastPublisher.publish(bookId, updateDto);
     }
   }
 
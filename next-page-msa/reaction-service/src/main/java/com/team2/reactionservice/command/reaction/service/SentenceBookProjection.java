@@ -0,0 +1,130 @@
+package com.team2.reactionservice.command.reaction.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team2.reactionservice.command.reaction.entity.SentenceBook;
+import com.team2.reactionservice.command.reaction.repository.SentenceBookRepository;
+import com.team2.reactionservice.feign.StoryServiceClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 문장 ID → 소설 ID 로컬 Projection
+ *
+ * <p>
+ * 문장 투표 알림 채널을 계산하기 위해 투표마다 story-service를 호출하던 것을 대신합니다.
+ * 조회 순서는 메모리 캐시(Caffeine) → sentence_books 테이블 → story-service 입니다.
+ * </p>
+ *
+ * <ul>
+ * <li>story-service가 문장 생성 커밋 이후 {@code POST /internal/reactions/sentences/books}로 매핑을 전달합니다.</li>
+ * <li>매핑이 없을 때만 동기 원격 호출을 하고 결과를 저장합니다. (지표 reaction.sentence.book.lookups{source=remote})</li>
+ * <li>투표 요청에 담긴 bookId는 채널 계산에 쓰지 않고, 확인된 소설 ID와 다르면 알림을 보내지 않습니다.</li>
+ * </ul>
+ *
+ * @author 정병진
+ */
+@Slf4j
+@Component
+public class SentenceBookProjection {
+
+  private final SentenceBookRepository sentenceBookRepository;
+  private final StoryServiceClient storyServiceClient;
+  private final MeterRegistry meterRegistry;
+  private final Cache<Long, Long> cache;
+
+  public SentenceBookProjection(SentenceBookRepository sentenceBookRepository,
+      StoryServiceClient storyServiceClient,
+      MeterRegistry meterRegistry,
+      @Value("${reaction.sentence-book.cache.max-size:100000}") long maxSize) {
+    this.sentenceBookRepository = sentenceBookRepository;
+    this.storyServiceClient = storyServiceClient;
+    this.meterRegistry = meterRegistry;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "sentence-book");
+  }
+
+  /**
+   * story-service에서 전달받은 매핑을 저장합니다.
+   *
+   * @param sentenceBookIds 문장 ID → 소설 ID
+   */
+  public void register(Map<Long, Long> sentenceBookIds) {
+    sentenceBookIds.forEach((sentenceId, bookId) -> {
+      if (!bookId.equals(cache.getIfPresent(sentenceId))) {
+        sentenceBookRepository.upsert(sentenceId, bookId);
+        cache.put(sentenceId, bookId);
+      }
+    });
+  }
+
+  /**
+   * 문장이 속한 소설 ID를 조회합니다.
+   *
+   * @param sentenceId   문장 ID
+   * @param hintedBookId 투표 요청에 담긴 소설 ID (없으면 null, 확인된 값과 비교만 함)
+   * @return 소설 ID (찾을 수 없거나 요청의 소설 ID와 다르면 null)
+   */
+  public Long resolve(Long sentenceId, Long hintedBookId) {
+    Long bookId = lookup(sentenceId);
+    if (bookId != null && hintedBookId != null && !bookId.equals(hintedBookId)) {
+      log.warn("Sentence {} belongs to book {}, but vote request claimed book {}; update dropped", sentenceId,
+          bookId, hintedBookId);
+      count("mismatch");
+      return null;
+    }
+    return bookId;
+  }
+
+  private Long lookup(Long sentenceId) {
+    Long bookId = cache.getIfPresent(sentenceId);
+    if (bookId != null) {
+      count("cache");
+      return bookId;
+    }
+
+    bookId = sentenceBookRepository.findById(sentenceId).map(SentenceBook::getBookId).orElse(null);
+    if (bookId != null) {
+      count("db");
+      cache.put(sentenceId, bookId);
+      return bookId;
+    }
+
+    count("remote");
+    bookId = fetchRemote(sentenceId);
+    if (bookId != null) {
+      store(sentenceId, bookId);
+    }
+    return bookId;
+  }
+
+  private void store(Long sentenceId, Long bookId) {
+    try {
+      sentenceBookRepository.upsert(sentenceId, bookId);
+    } catch (RuntimeException e) {
+      log.warn("Failed to store sentence-book mapping {} -> {}: {}", sentenceId, bookId, e.getMessage());
+    }
+    cache.put(sentenceId, bookId);
+  }
+
+  private Long fetchRemote(Long sentenceId) {
+    try {
+      return storyServiceClient.getBookIdBySentenceId(sentenceId);
+    } catch (Exception e) {
+      log.warn("Failed to fetch book id of sentence {}: {}", sentenceId, e.getMessage());
+      return null;
+    }
+  }
+
+  private void count(String source) {
+    meterRegistry.counter("reaction.sentence.book.lookups", "source", source).increment();
+  }
+}
@@ -0,0 +1,501 @@
+package com.team2.reactionservice.command.reaction.service;
+
+import com.team2.reactionservice.command.reaction.entity.BookVoteCount;
+import com.team2.reactionservice.command.reaction.entity.SentenceVoteCount;
+import com.team2.reactionservice.command.reaction.entity.VoteType;
+import com.team2.reactionservice.command.reaction.repository.BookVoteCountRepository;
+import com.team2.reactionservice.command.reaction.repository.SentenceVoteCountRepository;
+import com.team2.reactionservice.websocket.dto.VoteUpdateDto;
+import com.team2.reactionservice.websocket.publisher.VoteBroadcastPublisher;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 투표 수 In-Memory 집계기 (Write-Behind)
+ *
+ * <p>
+ * reaction.vote.aggregator.enabled=true 일 때만 사용됩니다.
+ * 투표 행(book_votes/sentence_votes) 자체는 기존처럼 요청 트랜잭션에서 저장되므로
+ * 1인 1투표 유니크 제약은 그대로 DB가 보장하고, 집계 테이블 증감만 이곳에서 모아 반영합니다.
+ * </p>
+ *
+ * <ul>
+ * <li>커밋된 투표의 증감은 대상(소설/문장)별 셀에 투표 트랜잭션에서 읽은 재계산 버전(reconcile_version)별로
+ * LongAdder에 누적됩니다. (동시 투표 시 경합 없음)</li>
+ * <li>flush-interval-ms 마다 누적된 증감을 한 트랜잭션으로 집계 테이블에 반영하고,
+ * 변경된 대상마다 WebSocket 알림을 한 번만 보냅니다.</li>
+ * <li>실시간 투표 수는 마지막으로 읽은 DB 값 + 아직 반영되지 않은 증감입니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 반영 전 비정상 종료로 잃은 증감은 기동 시 {@link VoteCountReconciler}가 투표 테이블에서 다시 계산해 복구합니다.
+ * 증감은 기록 시점의 버전과 집계 행의 버전이 같을 때만 더해지므로({@code applyDeltaAtVersion}),
+ * 재계산에 이미 포함된 투표의 증감은 어느 인스턴스에 남아 있든 반영 시 버려집니다.
+ * 재계산과 반영은 동시에 실행될 수 있으며, 같은 행을 갱신하면 DB 행 잠금으로 순서가 정해집니다.
+ * </p>
+ *
+ * @author 정병진
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteCountAggregator implements VoteCountReconciler.Listener {
+
+  private final BookVoteCountRepository bookVoteCountRepository;
+  private final SentenceVoteCountRepository sentenceVoteCountRepository;
+  private final VoteCountReconciler voteCountReconciler;
+  private final TransactionTemplate transactionTemplate;
+  private final VoteBroadcastPublisher voteBroadcastPublisher;
+  private final SentenceBookProjection sentenceBookProjection;
+  private final MeterRegistry meterRegistry;
+
+  private final Map<Long, Cell> bookCells = new ConcurrentHashMap<>();
+  private final Map<Long, Cell> sentenceCells = new ConcurrentHashMap<>();
+
+  /** 주기 반영과 종료 시 반영의 상호 배제 */
+  private final ReentrantLock flushLock = new ReentrantLock();
+
+  /** 아직 반영되지 않은 가장 오래된 증감의 기록 시각 (없으면 0) */
+  private final AtomicLong oldestPendingAt = new AtomicLong();
+
+  @Value("${reaction.vote.aggregator.enabled:false}")
+  private boolean enabled;
+
+  @Value("${reaction.vote.aggregator.flush-interval-ms:500}")
+  private long flushIntervalMs;
+
+  @Value("${reaction.vote.aggregator.idle-evict-ms:600000}")
+  private long idleEvictMs;
+
+  private ScheduledExecutorService flushExecutor;
+  private ExecutorService reconcileExecutor;
+
+  @PostConstruct
+  void init() {
+    if (!enabled) {
+      return;
+    }
+    flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "vote-count-flush");
+      thread.setDaemon(true);
+      return thread;
+    });
+    flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    reconcileExecutor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "vote-count-reconcile");
+      thread.setDaemon(true);
+      return thread;
+    });
+    voteCountReconciler.setListener(this);
+
+    Gauge.builder("reaction.vote.aggregator.flush.lag", this, VoteCountAggregator::flushLagMillis)
+        .description("아직 DB에 반영되지 않은 가장 오래된 투표 증감의 경과 시간(ms)")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+    Gauge.builder("reaction.vote.aggregator.cells", this, aggregator -> aggregator.bookCells.size()
+        + aggregator.sentenceCells.size())
+        .description("메모리에 보관 중인 투표 집계 대상 수")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    if (flushExecutor == null) {
+      return;
+    }
+    reconcileExecutor.shutdownNow();
+    flushExecutor.shutdown();
+    try {
+      flushExecutor.awaitTermination(flushIntervalMs * 2, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    // 종료 전 남은 증감 반영 (실패하면 다음 기동 시 재계산으로 복구)
+    flush();
+  }
+
+  /**
+   * 기동 시 투표 테이블 기준으로 집계를 다시 계산합니다. (이전 실행에서 반영되지 못한 증감 복구)
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildOnStartup() {
+    if (enabled) {
+      reconcileExecutor.execute(voteCountReconciler::reconcile);
+    }
+  }
+
+  @Override
+  public void onBookRangeReconciled(long fromId, long toId) {
+    refreshRangeAfterCommit(bookCells, fromId, toId, this::refreshBookBases);
+  }
+
+  @Override
+  public void onSentenceRangeReconciled(long fromId, long toId) {
+    refreshRangeAfterCommit(sentenceCells, fromId, toId, this::refreshSentenceBases);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 소설 투표 증감을 현재 트랜잭션 커밋 이후 누적합니다.
+   * 투표 행을 DB에 쓴 뒤에 호출해야 합니다. (집계 행의 재계산 버전을 공유 잠금으로 읽음)
+   *
+   * @param removed 취소되는 투표 유형 (없으면 null)
+   * @param added   추가되는 투표 유형 (없으면 null)
+   */
+  public void recordBookVote(Long bookId, VoteType removed, VoteType added) {
+    long version = versions(bookVoteCountRepository.findReconcileVersionsForShare(List.of(bookId)))
+        .getOrDefault(bookId, 0L);
+    recordAfterCommit(bookCells, bookId, version, removed, added, this::loadBookCell);
+  }
+
+  /**
+   * 문장 투표 증감을 현재 트랜잭션 커밋 이후 누적합니다.
+   * 투표 행을 DB에 쓴 뒤에 호출해야 합니다. (집계 행의 재계산 버전을 공유 잠금으로 읽음)
+   *
+   * @param removed 취소되는 투표 유형 (없으면 null)
+   * @param added   추가되는 투표 유형 (없으면 null)
+   */
+  public void recordSentenceVote(Long sentenceId, VoteType removed, VoteType added) {
+    Map<Long, VoteType> before = new HashMap<>();
+    Map<Long, VoteType> after = new HashMap<>();
+    before.put(sentenceId, removed);
+    after.put(sentenceId, added);
+    recordSentenceVotes(List.of(sentenceId), before, after);
+  }
+
+  /**
+   * 여러 문장의 투표 증감을 현재 트랜잭션 커밋 이후 누적합니다. (재계산 버전은 한 번에 조회)
+   * 투표 행을 DB에 쓴 뒤에 호출해야 합니다.
+   *
+   * @param sentenceIds 변경된 문장 ID
+   * @param removed     문장 ID → 취소되는 투표 유형 (없으면 값 없음)
+   * @param added       문장 ID → 추가되는 투표 유형 (없으면 값 없음)
+   */
+  public void recordSentenceVotes(Collection<Long> sentenceIds, Map<Long, VoteType> removed,
+      Map<Long, VoteType> added) {
+    if (sentenceIds.isEmpty()) {
+      return;
+    }
+    Map<Long, Long> versions = versions(sentenceVoteCountRepository.findReconcileVersionsForShare(sentenceIds));
+    for (Long sentenceId : sentenceIds) {
+      recordAfterCommit(sentenceCells, sentenceId, versions.getOrDefault(sentenceId, 0L),
+          removed.get(sentenceId), added.get(sentenceId), this::loadSentenceCell);
+    }
+  }
+
+  /**
+   * 소설의 실시간 투표 수 ([좋아요, 싫어요]), 메모리에 없으면 null
+   */
+  public long[] getBookCounts(Long bookId) {
+    Cell cell = enabled ? bookCells.get(bookId) : null;
+    return cell != null ? cell.live() : null;
+  }
+
+  /**
+   * 문장의 실시간 투표 수 ([좋아요, 싫어요]), 메모리에 없으면 null
+   */
+  public long[] getSentenceCounts(Long sentenceId) {
+    Cell cell = enabled ? sentenceCells.get(sentenceId) : null;
+    return cell != null ? cell.live() : null;
+  }
+
+  private void recordAfterCommit(Map<Long, Cell> cells, Long targetId, long version, VoteType removed,
+      VoteType added, Function<Long, Cell> loader) {
+    long likeDelta = (added == VoteType.LIKE ? 1 : 0) - (removed == VoteType.LIKE ? 1 : 0);
+    long dislikeDelta = (added == VoteType.DISLIKE ? 1 : 0) - (removed == VoteType.DISLIKE ? 1 : 0);
+
+    Runnable record = () -> {
+      // 처음 투표된 대상만 DB 기준값을 한 번 적재 (셀 제거와 겹치지 않도록 누적은 compute 안에서 수행)
+      Cell loaded = cells.containsKey(targetId) ? null : loader.apply(targetId);
+      cells.compute(targetId, (id, current) -> {
+        Cell cell = current != null ? current : (loaded != null ? loaded : loader.apply(id));
+        cell.add(version, likeDelta, dislikeDelta);
+        cell.touchedAt = System.currentTimeMillis();
+        cell.dirty = true;
+        return cell;
+      });
+      oldestPendingAt.compareAndSet(0, System.currentTimeMillis());
+    };
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          record.run();
+        }
+      });
+    } else {
+      record.run();
+    }
+  }
+
+  private Cell loadBookCell(Long bookId) {
+    Cell cell = new Cell();
+    bookVoteCountRepository.findById(bookId).ifPresent(count -> cell.setBase(count.getLikeCount(),
+        count.getDislikeCount(), count.getReconcileVersion()));
+    return cell;
+  }
+
+  private Cell loadSentenceCell(Long sentenceId) {
+    Cell cell = new Cell();
+    sentenceVoteCountRepository.findById(sentenceId).ifPresent(count -> cell.setBase(count.getLikeCount(),
+        count.getDislikeCount(), count.getReconcileVersion()));
+    return cell;
+  }
+
+  private static Map<Long, Long> versions(List<Object[]> rows) {
+    Map<Long, Long> versions = new HashMap<>();
+    for (Object[] row : rows) {
+      versions.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+    }
+    return versions;
+  }
+
+  /**
+   * 누적된 증감을 집계 테이블에 반영하고 변경된 대상의 투표 수를 브로드캐스트합니다.
+   */
+  void flush() {
+    flushLock.lock();
+    try {
+      flushPending();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private void flushPending() {
+    long flushStartedAt = System.currentTimeMillis();
+    List<Delta> bookDeltas = drain(bookCells);
+    List<Delta> sentenceDeltas = drain(sentenceCells);
+    try {
+      if (bookDeltas.isEmpty() && sentenceDeltas.isEmpty()) {
+        oldestPendingAt.set(0);
+        evictIdle(flushStartedAt);
+        return;
+      }
+
+      // 재계산 버전이 바뀐 행의 증감은 DB에서 버려짐 (재계산 결과에 이미 포함)
+      transactionTemplate.executeWithoutResult(status -> {
+        bookDeltas.forEach(delta -> bookVoteCountRepository.applyDeltaAtVersion(delta.targetId(), delta.like(),
+            delta.dislike(), delta.version()));
+        sentenceDeltas.forEach(delta -> sentenceVoteCountRepository.applyDeltaAtVersion(delta.targetId(),
+            delta.like(), delta.dislike(), delta.version()));
+      });
+
+      // 반영 완료: 누적값에서 차감하고 DB 기준값 갱신 (다른 인스턴스의 증감, 재계산 결과 포함)
+      commit(bookCells, bookDeltas);
+      commit(sentenceCells, sentenceDeltas);
+      refreshBookBases(targetIds(bookDeltas));
+      refreshSentenceBases(targetIds(sentenceDeltas));
+      oldestPendingAt.set(hasPending() ? flushStartedAt : 0);
+
+      targetIds(bookDeltas).forEach(this::broadcastBook);
+      targetIds(sentenceDeltas).forEach(this::broadcastSentence);
+    } catch (RuntimeException e) {
+      // 누적값은 그대로 남아 다음 주기에 다시 반영
+      markDirty(bookCells, bookDeltas);
+      markDirty(sentenceCells, sentenceDeltas);
+      log.warn("Failed to flush vote counts: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 재계산 구간 커밋 이후 이 인스턴스가 보관 중인 셀의 기준값과 버전을 재계산된 행으로 바꿉니다.
+   * 이전 버전으로 기록된 미반영 증감은 실시간 투표 수에서 제외되고, 다음 반영 때 DB에서 버려집니다.
+   */
+  private void refreshRangeAfterCommit(Map<Long, Cell> cells, long fromId, long toId,
+      Consumer<List<Long>> refresher) {
+    List<Long> ids = cells.keySet().stream().filter(id -> id >= fromId && id <= toId).toList();
+    if (ids.isEmpty()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        refresher.accept(ids);
+      }
+    });
+  }
+
+  private List<Delta> drain(Map<Long, Cell> cells) {
+    List<Delta> deltas = new ArrayList<>();
+    cells.forEach((targetId, cell) -> {
+      if (!cell.dirty) {
+        return;
+      }
+      cell.dirty = false;
+      cell.pending.forEach((version, pending) -> {
+        long like = pending.like.sum();
+        long dislike = pending.dislike.sum();
+        if (like != 0 || dislike != 0) {
+          deltas.add(new Delta(targetId, version, like, dislike));
+        }
+      });
+    });
+    // 다른 인스턴스의 반영/재계산과 같은 순서로 행 잠금을 잡도록 정렬
+    deltas.sort(Comparator.comparing(Delta::targetId).thenComparing(Delta::version));
+    return deltas;
+  }
+
+  private void commit(Map<Long, Cell> cells, List<Delta> deltas) {
+    for (Delta delta : deltas) {
+      // 반영하는 동안 들어온 증감은 남겨둠 (sumThenReset 대신 차감)
+      cells.get(delta.targetId()).add(delta.version(), -delta.like(), -delta.dislike());
+    }
+  }
+
+  private void markDirty(Map<Long, Cell> cells, List<Delta> deltas) {
+    deltas.forEach(delta -> cells.get(delta.targetId()).dirty = true);
+  }
+
+  private static List<Long> targetIds(List<Delta> deltas) {
+    return deltas.stream().map(Delta::targetId).distinct().toList();
+  }
+
+  private void refreshBookBases(List<Long> bookIds) {
+    if (bookIds.isEmpty()) {
+      return;
+    }
+    for (BookVoteCount count : bookVoteCountRepository.findAllById(bookIds)) {
+      Cell cell = bookCells.get(count.getBookId());
+      if (cell != null) {
+        cell.setBase(count.getLikeCount(), count.getDislikeCount(), count.getReconcileVersion());
+      }
+    }
+  }
+
+  private void refreshSentenceBases(List<Long> sentenceIds) {
+    if (sentenceIds.isEmpty()) {
+      return;
+    }
+    for (SentenceVoteCount count : sentenceVoteCountRepository.findAllById(sentenceIds)) {
+      Cell cell = sentenceCells.get(count.getSentenceId());
+      if (cell != null) {
+        cell.setBase(count.getLikeCount(), count.getDislikeCount(), count.getReconcileVersion());
+      }
+    }
+  }
+
+  private boolean hasPending() {
+    return bookCells.values().stream().anyMatch(cell -> cell.dirty)
+        || sentenceCells.values().stream().anyMatch(cell -> cell.dirty);
+  }
+
+  /**
+   * 반영할 증감이 없고 오래 사용되지 않은 셀 제거 (다음 조회부터 DB 값 사용)
+   */
+  private void evictIdle(long now) {
+    bookCells.keySet().forEach(id -> bookCells.computeIfPresent(id,
+        (key, cell) -> cell.isIdle(now, idleEvictMs) ? null : cell));
+    sentenceCells.keySet().forEach(id -> sentenceCells.computeIfPresent(id,
+        (key, cell) -> cell.isIdle(now, idleEvictMs) ? null : cell));
+  }
+
+  private void broadcastBook(Long bookId) {
+    long[] counts = getBookCounts(bookId);
+    voteBroadcastPublisher.publish(bookId, new VoteUpdateDto(bookId, "BOOK", counts[0], counts[1]));
+  }
+
+  private void broadcastSentence(Long sentenceId) {
+    long[] counts = getSentenceCounts(sentenceId);
+    try {
+      Long bookId = sentenceBookProjection.resolve(sentenceId, null);
+      if (bookId != null) {
+        voteBroadcastPublisher.publish(bookId, new VoteUpdateDto(sentenceId, "SENTENCE", counts[0], counts[1]));
+      }
+    } catch (Exception e) {
+      log.error("Failed to broadcast sentence vote: {}", e.getMessage());
+    }
+  }
+
+  private long flushLagMillis() {
+    long since = oldestPendingAt.get();
+    return since == 0 ? 0 : System.currentTimeMillis() - since;
+  }
+
+  /**
+   * 대상별 집계 셀 (DB 기준값 + 재계산 버전별 미반영 증감)
+   */
+  private static final class Cell {
+    /** 증감이 기록될 때 읽은 재계산 버전 → 미반영 증감 */
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private volatile long baseLike;
+    private volatile long baseDislike;
+    private volatile long baseVersion;
+    private volatile long touchedAt;
+    private volatile boolean dirty;
+
+    void setBase(long like, long dislike, long version) {
+      baseLike = like;
+      baseDislike = dislike;
+      baseVersion = version;
+    }
+
+    /** 버전별 증감 누적 (0이 된 버전은 제거, 같은 버전의 누적/차감은 compute로 직렬화) */
+    void add(long version, long like, long dislike) {
+      pending.compute(version, (key, current) -> {
+        Pending next = current != null ? current : new Pending();
+        next.like.add(like);
+        next.dislike.add(dislike);
+        return next.like.sum() == 0 && next.dislike.sum() == 0 ? null : next;
+      });
+    }
+
+    /** 기준값 + 기준값 이후 버전의 증감 (이전 버전의 증감은 기준값에 이미 포함) */
+    long[] live() {
+      long version = baseVersion;
+      long like = baseLike;
+      long dislike = baseDislike;
+      for (Map.Entry<Long, Pending> entry : pending.entrySet()) {
+        if (entry.getKey() >= version) {
+          like += entry.getValue().like.sum();
+          dislike += entry.getValue().dislike.sum();
+        }
+      }
+      return new long[] { Math.max(like, 0), Math.max(dislike, 0) };
+    }
+
+    boolean isIdle(long now, long idleMillis) {
+      return !dirty && pending.isEmpty() && now - touchedAt > idleMillis;
+    }
+  }
+
+  private static final class Pending {
+    private final LongAdder like = new LongAdder();
+    private final LongAdder dislike = new LongAdder();
+  }
+
+  private record Delta(Long targetId, long version, long like, long dislike) {
+  }
+}
@@ -0,0 +1,193 @@
+package com.team2.reactionservice.command.reaction.service;
+
+import com.team2.reactionservice.command.reaction.repository.BookVoteCountRepository;
+import com.team2.reactionservice.command.reaction.repository.SentenceVoteCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 투표 집계 재계산 작업
+ *
+ * <p>
+ * book_vote_counts / sentence_vote_counts는 투표와 같은 트랜잭션에서 증감되지만,
+ * 집계 테이블 도입 이전 데이터나 수동 데이터 수정으로 어긋날 수 있으므로
+ * 주기적으로 투표 테이블에서 다시 계산해 덮어씁니다.
+ * 대상 ID 범위를 chunk-size 단위로 나누어 구간마다 짧은 트랜잭션으로 처리합니다.
+ * </p>
+ *
+ * <p>
+ * 구간 트랜잭션은 REPEATABLE READ로 실행되어 INSERT ... SELECT가 투표 행에 공유 잠금을 걸므로,
+ * 구간 재계산 중에 커밋하려는 투표는 재계산이 커밋된 뒤로 밀립니다.
+ * 재계산한 집계 행은 reconcile_version을 1 올립니다.
+ * </p>
+ *
+ * <p>
+ * {@link VoteCountAggregator}는 투표 트랜잭션 안에서 읽은 reconcile_version을 증감과 함께 보관하고,
+ * 반영(flush) 시 행의 버전이 같을 때만 증감을 더합니다. 버전이 바뀌었다면 그 증감의 투표는 재계산에 이미
+ * 포함된 것이므로 버려집니다. 어느 인스턴스의 미반영 증감이든, afterCommit이 재계산보다 늦게 실행되든 이중으로 더해지지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 재계산은 DB 명명 잠금(GET_LOCK)을 잡은 인스턴스 하나에서만 실행됩니다.
+ * 기동 시 재계산이나 모든 인스턴스에서 실행되는 cron이 겹치면 나머지 인스턴스는 건너뜁니다.
+ * 잠금은 전용 커넥션에 묶여 있어 인스턴스가 비정상 종료되어도 커넥션이 끊기면 풀립니다.
+ * </p>
+ *
+ * @author 정병진
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteCountReconciler {
+
+  /** 재계산 단일 실행용 DB 명명 잠금 (MySQL GET_LOCK) */
+  static final String LOCK_NAME = "next_page_reaction.vote_count_reconcile";
+
+  private final BookVoteCountRepository bookVoteCountRepository;
+  private final SentenceVoteCountRepository sentenceVoteCountRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final DataSource dataSource;
+
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  /** 재계산과 함께 갱신할 메모리 집계 (집계기 비활성화 시 null) */
+  private volatile Listener listener;
+
+  @Value("${reaction.vote-count.reconcile.enabled:true}")
+  private boolean enabled;
+
+  @Value("${reaction.vote-count.reconcile.chunk-size:1000}")
+  private long chunkSize;
+
+  @Scheduled(cron = "${reaction.vote-count.reconcile.cron:0 30 4 * * *}")
+  public void reconcileScheduled() {
+    if (enabled) {
+      reconcile();
+    }
+  }
+
+  void setListener(Listener listener) {
+    this.listener = listener;
+  }
+
+  /**
+   * 소설/문장 투표 집계를 모두 다시 계산합니다.
+   * (이 인스턴스에서 이미 진행 중이거나 다른 인스턴스가 잠금을 잡고 있으면 건너뜀)
+   */
+  public void reconcile() {
+    if (!running.compareAndSet(false, true)) {
+      log.info("Vote count reconciliation already running, skipped");
+      return;
+    }
+    try (Connection lockConnection = dataSource.getConnection()) {
+      if (!acquireLock(lockConnection)) {
+        log.info("Vote count reconciliation is running on another instance, skipped");
+        return;
+      }
+      try {
+        reconcileAll();
+      } finally {
+        releaseLock(lockConnection);
+      }
+    } catch (SQLException e) {
+      log.error("Vote count reconciliation lock failed: {}", e.getMessage(), e);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  private void reconcileAll() {
+    Listener current = listener;
+    long started = System.currentTimeMillis();
+    try {
+      TransactionTemplate rangeTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+      rangeTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+      int books = reconcileBooks(rangeTransaction, current);
+      int sentences = reconcileSentences(rangeTransaction, current);
+      log.info("Vote counts reconciled: {} book rows, {} sentence rows affected in {} ms",
+          books, sentences, System.currentTimeMillis() - started);
+    } catch (RuntimeException e) {
+      log.error("Vote count reconciliation failed: {}", e.getMessage(), e);
+    }
+  }
+
+  private static boolean acquireLock(Connection connection) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+      statement.setString(1, LOCK_NAME);
+      try (ResultSet result = statement.executeQuery()) {
+        return result.next() && result.getInt(1) == 1;
+      }
+    }
+  }
+
+  private static void releaseLock(Connection connection) {
+    try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+      statement.setString(1, LOCK_NAME);
+      statement.execute();
+    } catch (SQLException e) {
+      // 커넥션이 닫히면 잠금도 풀림
+      log.warn("Failed to release vote count reconciliation lock: {}", e.getMessage());
+    }
+  }
+
+  private int reconcileBooks(TransactionTemplate rangeTransaction, Listener current) {
+    int changed = 0;
+    long maxId = bookVoteCountRepository.findMaxBookId();
+    for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+      long from = fromId;
+      long to = fromId + chunkSize - 1;
+      changed += rangeTransaction.execute(status -> {
+        int rows = bookVoteCountRepository.reconcileRange(from, to)
+            + bookVoteCountRepository.resetOrphansInRange(from, to);
+        if (current != null) {
+          current.onBookRangeReconciled(from, to);
+        }
+        return rows;
+      });
+    }
+    return changed;
+  }
+
+  private int reconcileSentences(TransactionTemplate rangeTransaction, Listener current) {
+    int changed = 0;
+    long maxId = sentenceVoteCountRepository.findMaxSentenceId();
+    for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+      long from = fromId;
+      long to = fromId + chunkSize - 1;
+      changed += rangeTransaction.execute(status -> {
+        int rows = sentenceVoteCountRepository.reconcileRange(from, to)
+            + sentenceVoteCountRepository.resetOrphansInRange(from, to);
+        if (current != null) {
+          current.onSentenceRangeReconciled(from, to);
+        }
+        return rows;
+      });
+    }
+    return changed;
+  }
+
+  /**
+   * 재계산과 함께 갱신해야 하는 메모리 집계 ({@link VoteCountAggregator})
+   */
+  interface Listener {
+
+    /** 소설 구간 재계산 트랜잭션 안에서 커밋 직전에 호출 */
+    void onBookRangeReconciled(long fromId, long toId);
+
+    /** 문장 구간 재계산 트랜잭션 안에서 커밋 직전에 호출 */
+    void onSentenceRangeReconciled(long fromId, long toId);
+  }
+}
@@ -0,0 +1,14 @@
+package com.team2.reactionservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 (투표 집계 재계산 등 주기 작업)
+ *
+ * @author 정병진
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
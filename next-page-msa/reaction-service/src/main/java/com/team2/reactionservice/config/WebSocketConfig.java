@@ -1,23 +1,94 @@
 package com.team2.reactionservice.config;
 
+import com.team2.commonmodule.websocket.codec.CompactFormatNegotiator;
+import com.team2.commonmodule.websocket.transport.SlowConsumerGuard;
+import com.team2.commonmodule.websocket.transport.StompChannelExecutors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket 설정 클래스
  * STOMP 메시징을 위한 WebSocket 엔드포인트 및 메시지 브로커 설정
+ *
+ * <p>
+ * websocket.broker.mode가 relay면 외부 STOMP 브로커로 중계하여, 투표 알림을 story-service에 연결된
+ * 구독자와 다른 reaction-service 인스턴스의 구독자에게도 전달합니다. (기본 simple: 인스턴스 내장 브로커)
+ * </p>
+ *
+ * <p>
+ * 채널 실행기({@link StompChannelExecutors}), 세션별 송신 제한, {@link SlowConsumerGuard},
+ * 구독별 Compact 형식 협상({@link CompactFormatNegotiator}) 설정은 story-service와 같습니다.
+ * </p>
  */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompChannelExecutors channelExecutors;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final CompactFormatNegotiator compactFormatNegotiator;
+
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${websocket.broker.relay.heartbeat-ms:10000}")
+    private long relayHeartbeatMs;
+
+    @Value("${websocket.transport.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.transport.send-buffer-size-limit:262144}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 클라이언트로 메시지를 전송할 prefix
-        registry.enableSimpleBroker("/topic", "/queue");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setSystemHeartbeatSendInterval(relayHeartbeatMs)
+                    .setSystemHeartbeatReceiveInterval(relayHeartbeatMs);
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+            log.info("STOMP broker relay enabled: {}:{}", relayHost, relayPort);
+        } else {
+            registry.enableSimpleBroker("/topic", "/queue");
+        }
         // 클라이언트에서 서버로 메시지를 보낼 때 사용할 prefix
         registry.setApplicationDestinationPrefixes("/app");
     }
@@ -29,4 +100,24 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(channelExecutors.inbound());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(channelExecutors.outbound())
+                .interceptors(slowConsumerGuard, compactFormatNegotiator);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 세션별 송신 제한 (초과 시 해당 세션만 종료)
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(slowConsumerGuard);
+    }
 }
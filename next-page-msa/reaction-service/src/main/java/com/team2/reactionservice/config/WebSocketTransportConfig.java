@@ -0,0 +1,58 @@
+package com.team2.reactionservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team2.commonmodule.websocket.codec.CompactFormatNegotiator;
+import com.team2.commonmodule.websocket.codec.CompactMessagePublisher;
+import com.team2.commonmodule.websocket.transport.SlowConsumerGuard;
+import com.team2.commonmodule.websocket.transport.StompChannelExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * STOMP 전송/메시지 형식 설정
+ *
+ * <p>
+ * common-module의 채널 실행기, 느린 구독자 처리 정책, Compact 형식 발행기/협상기를 reaction-service 설정값으로 등록합니다.
+ * 느린 세션에는 투표 수 알림(누적 값이므로 다음 알림으로 맞춰짐)부터 버립니다. 지표 이름은 reaction.websocket.* 입니다.
+ * </p>
+ */
+@Configuration
+public class WebSocketTransportConfig {
+
+    private static final String METRIC_PREFIX = "reaction";
+
+    @Bean(destroyMethod = "shutdown")
+    public StompChannelExecutors stompChannelExecutors(MeterRegistry meterRegistry, Environment environment,
+            @Value("${websocket.channel.executor:pool}") String executorType) {
+        return new StompChannelExecutors(METRIC_PREFIX, meterRegistry, environment, executorType);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public SlowConsumerGuard slowConsumerGuard(MeterRegistry meterRegistry,
+            @Value("${websocket.slow-consumer.enabled:true}") boolean enabled,
+            @Value("${websocket.slow-consumer.slow-send-ms:1000}") long slowSendMs,
+            @Value("${websocket.slow-consumer.disconnect-after-drops:100}") int disconnectAfterDrops,
+            @Value("${websocket.slow-consumer.droppable-destinations:/topic/books/*/votes}")
+            String[] droppableDestinations) {
+        return new SlowConsumerGuard(METRIC_PREFIX, meterRegistry, enabled, slowSendMs, disconnectAfterDrops,
+                droppableDestinations);
+    }
+
+    @Bean
+    public CompactMessagePublisher compactMessagePublisher(SimpMessagingTemplate messagingTemplate,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${websocket.compact.enabled:true}") boolean enabled,
+            @Value("${websocket.broker.mode:simple}") String brokerMode) {
+        return new CompactMessagePublisher(METRIC_PREFIX, messagingTemplate, objectMapper, meterRegistry, enabled,
+                brokerMode);
+    }
+
+    @Bean
+    public CompactFormatNegotiator compactFormatNegotiator(MeterRegistry meterRegistry) {
+        return new CompactFormatNegotiator(METRIC_PREFIX, meterRegistry);
+    }
+}
@@ -2,9 +2,13 @@ package com.team2.reactionservice.feign.controller;
 
 import com.team2.commonmodule.feign.dto.BookReactionInfoDto;
 import com.team2.commonmodule.feign.dto.MemberReactionStatsDto;
+import com.team2.commonmodule.feign.dto.MyVotesDto;
 import com.team2.commonmodule.feign.dto.SentenceReactionInfoDto;
 import com.team2.commonmodule.response.ApiResponse;
+import com.team2.reactionservice.command.reaction.service.SentenceBookProjection;
 import com.team2.reactionservice.feign.service.ReactionInternalService;
+import com.team2.reactionservice.query.reaction.service.CommentTreeCache;
+import com.team2.reactionservice.query.reaction.service.ReactionQueryService;
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +35,9 @@ import java.util.Map;
 public class ReactionInternalController {
 
     private final ReactionInternalService reactionInternalService;
+    private final SentenceBookProjection sentenceBookProjection;
+    private final CommentTreeCache commentTreeCache;
+    private final ReactionQueryService reactionQueryService;
 
     @GetMapping("/members/{userId}/stats")
     public ResponseEntity<ApiResponse<MemberReactionStatsDto>> getMemberReactionStats(@PathVariable Long userId) {
@@ -48,6 +55,17 @@ public class ReactionInternalController {
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
 
+    /**
+     * 문장-소설 매핑 등록 (story-service가 문장 생성 커밋 이후 호출)
+     *
+     * @param sentenceBookIds 문장 ID → 소설 ID
+     */
+    @PostMapping("/reactions/sentences/books")
+    public ResponseEntity<ApiResponse<Void>> registerSentenceBooks(@RequestBody Map<Long, Long> sentenceBookIds) {
+        sentenceBookProjection.register(sentenceBookIds);
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+
     @GetMapping("/reactions/books/{bookId}/stats")
     public ResponseEntity<ApiResponse<BookReactionInfoDto>> getBookReactionStats(
             @PathVariable Long bookId,
@@ -56,4 +74,23 @@ public class ReactionInternalController {
         BookReactionInfoDto stats = reactionInternalService.getBookReactionStats(bookId, userId);
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
+
+    /**
+     * 소설 뷰어의 사용자별 투표 상태 (story-service가 공유 뷰어 조회와 병렬로 호출)
+     */
+    @GetMapping("/reactions/books/{bookId}/my-votes")
+    public ResponseEntity<ApiResponse<MyVotesDto>> getMyVotes(@PathVariable Long bookId, @RequestParam Long userId) {
+        return ResponseEntity.ok(ApiResponse.success(reactionQueryService.getMyVotes(bookId, userId)));
+    }
+
+    /**
+     * 댓글 트리 캐시 무효화 (다른 reaction-service 인스턴스가 댓글 변경 커밋 후 호출)
+     *
+     * @param bookIds 댓글이 변경된 소설 ID 목록
+     */
+    @PostMapping("/cache/comments/invalidate")
+    public ResponseEntity<ApiResponse<Void>> invalidateCommentTree(@RequestBody List<Long> bookIds) {
+        commentTreeCache.invalidate(bookIds);
+        return ResponseEntity.ok(ApiResponse.success());
+    }
 }
@@ -0,0 +1,96 @@
+package com.team2.reactionservice.feign.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 댓글 트리 캐시 무효화 전파
+ *
+ * <p>
+ * 댓글 작성/수정/삭제가 커밋되면 이 인스턴스의 캐시는 해당 댓글만 반영하고,
+ * 다른 reaction-service 인스턴스에는 {@code POST /internal/cache/comments/invalidate}를 호출하여
+ * 해당 소설의 트리를 제거합니다. (다음 조회 시 DB에서 다시 적재)
+ * 로드밸런서를 거치지 않고 Discovery에 등록된 인스턴스 각각으로 보내며,
+ * 실패하더라도 캐시의 expire-after-write가 지나면 자연히 갱신됩니다.
+ * </p>
+ *
+ * @author 정병진
+ */
+@Slf4j
+@Component
+public class CommentCacheInvalidationPublisher {
+
+    private static final String INVALIDATE_PATH = "/internal/cache/comments/invalidate";
+
+    private final DiscoveryClient discoveryClient;
+    private final ObjectProvider<Registration> registration;
+    private final String serviceId;
+    private final RestClient restClient;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "comment-cache-invalidation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CommentCacheInvalidationPublisher(DiscoveryClient discoveryClient,
+            ObjectProvider<Registration> registration,
+            @Value("${spring.application.name:reaction-service}") String serviceId,
+            @Value("${reaction.comment-cache.invalidation.timeout-ms:1000}") int timeoutMs) {
+        this.discoveryClient = discoveryClient;
+        this.registration = registration;
+        this.serviceId = serviceId;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMs);
+        requestFactory.setReadTimeout(timeoutMs);
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    /**
+     * 다른 인스턴스에 소설의 댓글 트리 무효화를 비동기로 전파합니다. (커밋 이후 호출)
+     *
+     * @param bookId 댓글이 변경된 소설 ID
+     */
+    public void publish(Long bookId) {
+        executor.execute(() -> send(List.of(bookId)));
+    }
+
+    private void send(List<Long> bookIds) {
+        Registration self = registration.getIfAvailable();
+        for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+            if (self != null && instance.getInstanceId() != null
+                    && instance.getInstanceId().equals(self.getInstanceId())) {
+                continue;
+            }
+            try {
+                restClient.post()
+                        .uri(instance.getUri() + INVALIDATE_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(bookIds)
+                        .retrieve()
+                        .toBodilessEntity();
+            } catch (Exception e) {
+                log.warn("Comment cache invalidation failed for {} ({}): {}",
+                        serviceId, instance.getUri(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
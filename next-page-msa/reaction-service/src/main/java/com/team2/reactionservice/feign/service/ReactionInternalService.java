@@ -4,10 +4,15 @@ import com.team2.commonmodule.feign.dto.BookReactionInfoDto;
 import com.team2.commonmodule.feign.dto.MemberReactionStatsDto;
 import com.team2.commonmodule.feign.dto.SentenceReactionInfoDto;
 import com.team2.reactionservice.command.reaction.entity.BookVote;
+import com.team2.reactionservice.command.reaction.entity.BookVoteCount;
+import com.team2.reactionservice.command.reaction.entity.SentenceVoteCount;
 import com.team2.reactionservice.command.reaction.entity.VoteType;
+import com.team2.reactionservice.command.reaction.repository.BookVoteCountRepository;
 import com.team2.reactionservice.command.reaction.repository.BookVoteRepository;
 import com.team2.reactionservice.command.reaction.repository.CommentRepository;
+import com.team2.reactionservice.command.reaction.repository.SentenceVoteCountRepository;
 import com.team2.reactionservice.command.reaction.repository.SentenceVoteRepository;
+import com.team2.reactionservice.command.reaction.service.VoteCountAggregator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +35,9 @@ public class ReactionInternalService {
     private final CommentRepository commentRepository;
     private final SentenceVoteRepository sentenceVoteRepository;
     private final BookVoteRepository bookVoteRepository;
+    private final BookVoteCountRepository bookVoteCountRepository;
+    private final SentenceVoteCountRepository sentenceVoteCountRepository;
+    private final VoteCountAggregator voteCountAggregator;
 
     public MemberReactionStatsDto getMemberReactionStats(Long userId) {
         int writtenCommentCount = commentRepository.countByWriterId(userId);
@@ -40,8 +48,18 @@ public class ReactionInternalService {
     }
 
     public BookReactionInfoDto getBookReactionStats(Long bookId, Long userId) {
-        long likeCount = bookVoteRepository.countByBookIdAndVoteType(bookId, VoteType.LIKE);
-        long dislikeCount = bookVoteRepository.countByBookIdAndVoteType(bookId, VoteType.DISLIKE);
+        // 실시간 집계값 우선, 없으면 집계 테이블 PK 조회 (투표 수와 무관하게 O(1))
+        long likeCount;
+        long dislikeCount;
+        long[] live = voteCountAggregator.getBookCounts(bookId);
+        if (live != null) {
+            likeCount = live[0];
+            dislikeCount = live[1];
+        } else {
+            Optional<BookVoteCount> count = bookVoteCountRepository.findById(bookId);
+            likeCount = count.map(BookVoteCount::getLikeCount).orElse(0L);
+            dislikeCount = count.map(BookVoteCount::getDislikeCount).orElse(0L);
+        }
 
         String myVote = null;
         if (userId != null) {
@@ -72,21 +90,21 @@ public class ReactionInternalService {
             statsMap.put(id, new SentenceReactionInfoDto(id, 0L, 0L, null));
         }
 
-        // 2. Count Votes
-        List<Object[]> counts = sentenceVoteRepository.countVotesBySentenceIds(sentenceIds);
-        for (Object[] row : counts) {
-            Long sentenceId = (Long) row[0];
-            VoteType type = (VoteType) row[1];
-            Long count = (Long) row[2];
-
-            SentenceReactionInfoDto dto = statsMap.get(sentenceId);
+        // 2. Count Votes (집계 테이블 PK IN 조회)
+        for (SentenceVoteCount count : sentenceVoteCountRepository.findAllById(sentenceIds)) {
+            SentenceReactionInfoDto dto = statsMap.get(count.getSentenceId());
             if (dto != null) {
-                if (type == VoteType.LIKE)
-                    dto.setLikeCount(count);
-                else if (type == VoteType.DISLIKE)
-                    dto.setDislikeCount(count);
+                dto.setLikeCount(count.getLikeCount());
+                dto.setDislikeCount(count.getDislikeCount());
             }
         }
+        statsMap.forEach((sentenceId, dto) -> {
+            long[] live = voteCountAggregator.getSentenceCounts(sentenceId);
+            if (live != null) {
+                dto.setLikeCount(live[0]);
+                dto.setDislikeCount(live[1]);
+            }
+        });
 
         // 3. User Vote Status
         if (userId != null) {
@@ -1,8 +1,10 @@
 package com.team2.reactionservice.query.reaction.controller;
 
 import com.team2.commonmodule.response.ApiResponse;
+import com.team2.commonmodule.feign.dto.MyVotesDto;
 import com.team2.reactionservice.query.reaction.dto.response.CommentDto;
 import com.team2.reactionservice.query.reaction.dto.response.CommentPageResponse;
+import com.team2.reactionservice.query.reaction.dto.response.CommentSliceResponse;
 import com.team2.reactionservice.query.reaction.service.ReactionQueryService;
 import com.team2.reactionservice.command.reaction.controller.ReactionController;
 import com.team2.commonmodule.util.SecurityUtil;
@@ -10,6 +12,7 @@ import com.team2.commonmodule.error.BusinessException;
 import com.team2.commonmodule.error.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -38,13 +41,14 @@ public class ReactionQueryController {
   }
 
   /**
-   * 댓글 목록 조회 API
+   * 댓글 목록 조회 API (전체 트리)
    * GET /api/reactions/comments/{bookId}
    *
    * @param bookId 조회할 소설의 ID
    * @return 댓글 목록 (ApiResponse로 래핑)
    */
-  @Operation(summary = "댓글 목록 조회", description = "특정 소설에 달린 댓글 목록을 조회합니다.")
+  @Operation(summary = "댓글 목록 조회", deprecated = true,
+      description = "특정 소설에 달린 댓글 전체를 트리로 조회합니다. 댓글이 많은 소설은 최상위 댓글/대댓글 페이지 API를 사용하세요.")
   @GetMapping("/comments/{bookId}")
   public ResponseEntity<ApiResponse<List<CommentDto>>> getComments(@PathVariable Long bookId) {
     List<CommentDto> comments = reactionQueryService.getComments(bookId);
@@ -52,6 +56,48 @@ public class ReactionQueryController {
     return ResponseEntity.ok(ApiResponse.success(comments));
   }
 
+  /**
+   * 최상위 댓글 페이지 조회 API
+   * GET /api/reactions/comments/{bookId}/roots?cursor=&size=
+   *
+   * @param bookId 조회할 소설의 ID
+   * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+   * @param size   페이지 크기 (기본 20, 최대 100)
+   * @return 작성 순 최상위 댓글 (대댓글은 replyCount만 포함)
+   */
+  @Operation(summary = "최상위 댓글 페이지 조회", description = "소설의 최상위 댓글을 작성 순으로 커서 페이징하여 조회합니다.\n" +
+      "- 대댓글은 포함하지 않으며 replyCount와 replies 링크로 따로 조회합니다.\n" +
+      "- 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+  @GetMapping("/comments/{bookId}/roots")
+  public ResponseEntity<ApiResponse<CommentSliceResponse>> getRootComments(
+      @PathVariable Long bookId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    CommentSliceResponse slice = reactionQueryService.getRootComments(bookId, cursor, size);
+    addLinksToComments(slice.getContent());
+    return ResponseEntity.ok(ApiResponse.success(slice));
+  }
+
+  /**
+   * 대댓글 페이지 조회 API
+   * GET /api/reactions/comments/{commentId}/replies?cursor=&size=
+   *
+   * @param commentId 부모 댓글 ID
+   * @param cursor    이전 응답의 nextCursor (첫 페이지면 생략)
+   * @param size      페이지 크기 (기본 20, 최대 100)
+   * @return 작성 순 대댓글 (하위 대댓글은 replyCount만 포함)
+   */
+  @Operation(summary = "대댓글 페이지 조회", description = "댓글의 대댓글을 작성 순으로 커서 페이징하여 조회합니다.")
+  @GetMapping("/comments/{commentId}/replies")
+  public ResponseEntity<ApiResponse<CommentSliceResponse>> getReplies(
+      @PathVariable Long commentId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    CommentSliceResponse slice = reactionQueryService.getReplies(commentId, cursor, size);
+    addLinksToComments(slice.getContent());
+    return ResponseEntity.ok(ApiResponse.success(slice));
+  }
+
   private void addLinksToComments(List<CommentDto> comments) {
     if (comments == null)
       return;
@@ -59,6 +105,10 @@ public class ReactionQueryController {
       try {
         comment.add(linkTo(methodOn(ReactionController.class).createComment(null)).withRel("reply"));
         comment.add(linkTo(methodOn(ReactionController.class).removeComment(comment.getCommentId())).withRel("delete"));
+        if (comment.getReplyCount() != null && comment.getReplyCount() > 0) {
+          comment.add(linkTo(methodOn(ReactionQueryController.class)
+              .getReplies(comment.getCommentId(), null, 20)).withRel("replies"));
+        }
       } catch (Exception e) {
         // Ignore
       }
@@ -85,4 +135,25 @@ public class ReactionQueryController {
 
     return ResponseEntity.ok(ApiResponse.success(reactionQueryService.getCommentsByUser(userId, page, size)));
   }
+
+  /**
+   * 내 투표 상태 조회 API (소설 뷰어 Overlay)
+   * GET /api/reactions/me/votes?bookId=
+   *
+   * @param bookId 소설 ID
+   * @return 소설 투표와 좋아요/싫어요한 문장 ID 목록
+   */
+  @Operation(summary = "내 투표 상태 조회", description = "소설과 그 소설 문장에 대한 현재 사용자의 투표 상태를 조회합니다.\n" +
+      "- 소설 뷰어는 공유 응답(personal=false)에 이 결과를 덮어써서 myVote를 표시합니다.")
+  @GetMapping("/me/votes")
+  public ResponseEntity<ApiResponse<MyVotesDto>> getMyVotes(@RequestParam Long bookId) {
+    Long userId = SecurityUtil.getCurrentUserId();
+    if (userId == null) {
+      throw new BusinessException(ErrorCode.UNAUTHENTICATED);
+    }
+
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noStore())
+        .body(ApiResponse.success(reactionQueryService.getMyVotes(bookId, userId)));
+  }
 }
@@ -25,6 +25,7 @@ public class CommentDto extends RepresentationModel<CommentDto> {
     // 대댓글 지원
     private Long parentId;
     private java.util.List<CommentDto> children = new java.util.ArrayList<>();
+    private Long replyCount; // 페이지 조회 시 삭제되지 않은 대댓글 수 (children은 replies API로 따로 조회)
 
     // 마이페이지용 추가 정보
     private Long bookId;
@@ -0,0 +1,24 @@
+package com.team2.reactionservice.query.reaction.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 댓글 커서 페이지 응답 (최상위 댓글 / 대댓글)
+ *
+ * @author 정병진
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentSliceResponse {
+    private List<CommentDto> content;
+    private Integer size;
+    private Boolean hasNext;
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+}
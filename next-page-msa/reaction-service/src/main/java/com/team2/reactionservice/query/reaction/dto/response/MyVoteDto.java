@@ -0,0 +1,18 @@
+package com.team2.reactionservice.query.reaction.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 사용자 투표 조회 행 (sentenceId가 null이면 소설 투표)
+ *
+ * @author 정병진
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MyVoteDto {
+    private Long sentenceId;
+    private String voteType; // LIKE, DISLIKE
+}
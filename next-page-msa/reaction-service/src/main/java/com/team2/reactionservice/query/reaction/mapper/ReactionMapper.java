@@ -1,7 +1,11 @@
 package com.team2.reactionservice.query.reaction.mapper;
 
 import com.team2.reactionservice.query.reaction.dto.response.CommentDto;
+import com.team2.reactionservice.query.reaction.dto.response.MyVoteDto;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -16,6 +20,26 @@ public interface ReactionMapper {
      */
     List<CommentDto> findCommentsByBookId(Long bookId);
 
+    /**
+     * 특정 소설의 최상위 댓글 페이지 조회 (Keyset, 커서가 없으면 첫 페이지)
+     *
+     * @param limit 조회 건수 (다음 페이지 확인용 1건 포함)
+     */
+    List<CommentDto> findRootComments(@Param("bookId") Long bookId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorCommentId") Long cursorCommentId,
+            @Param("limit") int limit);
+
+    /**
+     * 특정 댓글의 대댓글 페이지 조회 (Keyset, 커서가 없으면 첫 페이지)
+     *
+     * @param limit 조회 건수 (다음 페이지 확인용 1건 포함)
+     */
+    List<CommentDto> findReplies(@Param("parentId") Long parentId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorCommentId") Long cursorCommentId,
+            @Param("limit") int limit);
+
     /**
      * 특정 사용자가 쓴 댓글 목록 조회 (페이징)
      */
@@ -25,4 +49,9 @@ public interface ReactionMapper {
      * 특정 사용자가 쓴 댓글 전체 개수
      */
     Long countCommentsByWriterId(Long writerId);
+
+    /**
+     * 특정 사용자의 소설 투표와 그 소설 문장 투표 조회 (소설 투표는 sentenceId = null)
+     */
+    List<MyVoteDto> findMyVotesByBookId(@Param("bookId") Long bookId, @Param("voterId") Long voterId);
 }
@@ -0,0 +1,254 @@
+package com.team2.reactionservice.query.reaction.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.team2.reactionservice.feign.service.CommentCacheInvalidationPublisher;
+import com.team2.reactionservice.query.reaction.dto.response.CommentDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 소설별 댓글 트리 캐시
+ *
+ * <p>
+ * 소설의 댓글을 작성 순서(created_at, comment_id)대로 보관하고, 조회 시 트리로 조립한 복사본을 반환합니다.
+ * 반환된 DTO에 링크/닉네임을 채워도 캐시 원본은 바뀌지 않습니다.
+ * 댓글 작성/수정/삭제는 커밋 이후 이 인스턴스에서는 캐시된 소설에 해당 댓글 하나만 반영하며(Write-Through),
+ * 다른 인스턴스에는 해당 소설의 트리 무효화를 전파합니다. ({@link CommentCacheInvalidationPublisher})
+ * 전파가 누락되더라도 적재 후 expire-after-write-seconds가 지나면 DB에서 다시 읽습니다. (반영으로 연장되지 않음)
+ * </p>
+ *
+ * <ul>
+ * <li>전체 캐시는 추정 메모리(max-bytes) 기준으로 오래 쓰지 않은 소설부터 제거됩니다.</li>
+ * <li>한 소설의 댓글이 max-tree-bytes를 넘으면 캐시하지 않고 매번 DB에서 조회합니다.</li>
+ * <li>지표: cache.gets{cache=comment-tree,result=hit|miss}, reaction.comment.cache.bytes, reaction.comment.cache.skipped</li>
+ * </ul>
+ *
+ * @author 정병진
+ */
+@Component
+public class CommentTreeCache {
+
+  /** 댓글 1건의 고정 메모리 추정치 (객체 헤더, 필드, Map 엔트리) */
+  private static final long NODE_OVERHEAD_BYTES = 160;
+
+  private final Cache<Long, Tree> cache;
+  private final CommentCacheInvalidationPublisher invalidationPublisher;
+  private final Counter skippedCounter;
+  private final boolean enabled;
+  private final long maxTreeBytes;
+
+  public CommentTreeCache(MeterRegistry meterRegistry, CommentCacheInvalidationPublisher invalidationPublisher,
+      @Value("${reaction.comment-cache.enabled:true}") boolean enabled,
+      @Value("${reaction.comment-cache.max-bytes:67108864}") long maxBytes,
+      @Value("${reaction.comment-cache.max-tree-bytes:4194304}") long maxTreeBytes,
+      @Value("${reaction.comment-cache.expire-after-write-seconds:60}") long expireAfterWriteSeconds) {
+    this.invalidationPublisher = invalidationPublisher;
+    this.enabled = enabled;
+    this.maxTreeBytes = maxTreeBytes;
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maxBytes)
+        .weigher((Long bookId, Tree tree) -> (int) Math.min(tree.bytes, Integer.MAX_VALUE))
+        // 적재 시점 기준 만료 (댓글 반영으로 트리가 갱신되어도 만료 시각을 늦추지 않음)
+        .expireAfter(Expiry.<Long, Tree>creating((bookId, tree) -> Duration.ofSeconds(expireAfterWriteSeconds)))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "comment-tree");
+    Gauge.builder("reaction.comment.cache.bytes", cache,
+            c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+        .description("캐시된 댓글 트리의 추정 메모리 (bytes)")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    this.skippedCounter = Counter.builder("reaction.comment.cache.skipped")
+        .description("max-tree-bytes를 넘어 캐시하지 않은 조회 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 소설의 댓글 트리를 조회합니다. (캐시에 없으면 loader로 작성 순 댓글 목록을 읽어 적재)
+   *
+   * @param bookId 소설 ID
+   * @param loader 작성 순(created_at, comment_id) 댓글 목록 조회 (Soft Delete 제외)
+   * @return 최상위 댓글 목록 (자식은 children에 포함, 호출마다 새 객체)
+   */
+  public List<CommentDto> getTree(Long bookId, Function<Long, List<CommentDto>> loader) {
+    if (!enabled) {
+      return assemble(loader.apply(bookId));
+    }
+
+    List<CommentDto> loaded = new ArrayList<>(0);
+    Tree tree = cache.get(bookId, id -> {
+      List<CommentDto> comments = loader.apply(id);
+      Tree created = Tree.of(comments);
+      if (created.bytes > maxTreeBytes) {
+        // 너무 큰 소설은 캐시하지 않고 이번 조회 결과만 사용
+        loaded.addAll(comments);
+        return null;
+      }
+      return created;
+    });
+    if (tree == null) {
+      skippedCounter.increment();
+      return assemble(loaded);
+    }
+    return tree.copy();
+  }
+
+  /**
+   * 댓글 작성 반영 (커밋 이후, 캐시된 소설만)
+   */
+  public void onCommentAdded(Long bookId, Long commentId, Long parentId, Long writerId, String content,
+      LocalDateTime createdAt) {
+    afterCommit(bookId, tree -> tree.add(new Node(commentId, parentId, writerId, content, createdAt)));
+  }
+
+  /**
+   * 댓글 수정 반영 (커밋 이후, 캐시된 소설만)
+   */
+  public void onCommentModified(Long bookId, Long commentId, String content) {
+    afterCommit(bookId, tree -> tree.modify(commentId, content));
+  }
+
+  /**
+   * 댓글 삭제 반영 (커밋 이후, 캐시된 소설만)
+   */
+  public void onCommentRemoved(Long bookId, Long commentId) {
+    afterCommit(bookId, tree -> tree.remove(commentId));
+  }
+
+  /**
+   * 다른 인스턴스의 댓글 변경 반영 (해당 소설 트리 제거, 다음 조회 시 다시 적재)
+   */
+  public void invalidate(Collection<Long> bookIds) {
+    cache.invalidateAll(bookIds);
+  }
+
+  private void afterCommit(Long bookId, Consumer<Tree> patch) {
+    if (!enabled) {
+      return;
+    }
+    Runnable apply = () -> {
+      // computeIfPresent: 같은 소설의 적재와 겹치지 않고, 변경된 크기로 다시 계산(weigh)됨
+      cache.asMap().computeIfPresent(bookId, (id, tree) -> {
+        patch.accept(tree);
+        return tree.bytes > maxTreeBytes ? null : tree;
+      });
+      invalidationPublisher.publish(bookId);
+    };
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          apply.run();
+        }
+      });
+    } else {
+      apply.run();
+    }
+  }
+
+  /**
+   * 작성 순 댓글 목록을 트리로 조립합니다. (부모가 없으면 최상위로 노출)
+   */
+  private static List<CommentDto> assemble(List<CommentDto> comments) {
+    Map<Long, CommentDto> commentMap = new HashMap<>(comments.size() * 2);
+    List<CommentDto> roots = new ArrayList<>();
+    for (CommentDto dto : comments) {
+      commentMap.put(dto.getCommentId(), dto);
+      CommentDto parent = dto.getParentId() != null ? commentMap.get(dto.getParentId()) : null;
+      if (parent != null) {
+        parent.getChildren().add(dto);
+      } else {
+        // 최상위 댓글이거나, 부모가 삭제되었거나 찾을 수 없는 경우 (Orphan 처리)
+        roots.add(dto);
+      }
+    }
+    return roots;
+  }
+
+  private record Node(Long commentId, Long parentId, Long writerId, String content, LocalDateTime createdAt) {
+
+    long bytes() {
+      return NODE_OVERHEAD_BYTES + (content != null ? content.length() * 2L : 0);
+    }
+
+    CommentDto toDto() {
+      CommentDto dto = new CommentDto();
+      dto.setCommentId(commentId);
+      dto.setParentId(parentId);
+      dto.setWriterId(writerId);
+      dto.setContent(content);
+      dto.setCreatedAt(createdAt);
+      return dto;
+    }
+  }
+
+  /**
+   * 한 소설의 댓글 (작성 순서 유지, 변경/조회는 이 객체 기준으로 동기화)
+   */
+  private static final class Tree {
+
+    private final Map<Long, Node> nodes = new LinkedHashMap<>();
+    private long bytes;
+
+    static Tree of(List<CommentDto> comments) {
+      Tree tree = new Tree();
+      for (CommentDto dto : comments) {
+        tree.add(new Node(dto.getCommentId(), dto.getParentId(), dto.getWriterId(), dto.getContent(),
+            dto.getCreatedAt()));
+      }
+      return tree;
+    }
+
+    synchronized void add(Node node) {
+      // 적재 시점에 이미 읽힌 댓글이면 무시 (중복 반영 방지)
+      if (nodes.putIfAbsent(node.commentId(), node) == null) {
+        bytes += node.bytes();
+      }
+    }
+
+    synchronized void modify(Long commentId, String content) {
+      Node node = nodes.get(commentId);
+      if (node != null) {
+        Node modified = new Node(node.commentId(), node.parentId(), node.writerId(), content, node.createdAt());
+        nodes.put(commentId, modified);
+        bytes += modified.bytes() - node.bytes();
+      }
+    }
+
+    synchronized void remove(Long commentId) {
+      Node node = nodes.remove(commentId);
+      if (node != null) {
+        bytes -= node.bytes();
+      }
+    }
+
+    synchronized List<CommentDto> copy() {
+      List<CommentDto> comments = new ArrayList<>(nodes.size());
+      for (Node node : nodes.values()) {
+        comments.add(node.toDto());
+      }
+      return assemble(comments);
+    }
+  }
+}
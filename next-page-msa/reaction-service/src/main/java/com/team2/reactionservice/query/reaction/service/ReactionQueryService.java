@@ -1,20 +1,26 @@
 package com.team2.reactionservice.query.reaction.service;
 
-import com.team2.commonmodule.feign.MemberServiceClient;
+import com.team2.commonmodule.error.BusinessException;
+import com.team2.commonmodule.error.ErrorCode;
 import com.team2.commonmodule.feign.StoryServiceClient;
+import com.team2.commonmodule.feign.cache.MemberInfoCache;
 import com.team2.commonmodule.feign.dto.BookBatchInfoDto;
 import com.team2.commonmodule.feign.dto.BookInfoDto;
-import com.team2.commonmodule.feign.dto.MemberBatchInfoDto;
-import com.team2.commonmodule.feign.dto.MemberInfoDto;
+import com.team2.commonmodule.feign.dto.MyVotesDto;
 import com.team2.commonmodule.response.ApiResponse;
+import com.team2.commonmodule.util.KeysetCursor;
 import com.team2.reactionservice.query.reaction.dto.response.CommentDto;
 import com.team2.reactionservice.query.reaction.dto.response.CommentPageResponse;
+import com.team2.reactionservice.query.reaction.dto.response.CommentSliceResponse;
+import com.team2.reactionservice.query.reaction.dto.response.MyVoteDto;
 import com.team2.reactionservice.query.reaction.mapper.ReactionMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -30,18 +36,24 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ReactionQueryService {
 
+  private static final int MAX_PAGE_SIZE = 100;
+
   private final ReactionMapper reactionMapper;
-  private final MemberServiceClient memberServiceClient;
+  private final MemberInfoCache memberInfoCache;
   private final StoryServiceClient storyServiceClient;
+  private final CommentTreeCache commentTreeCache;
 
   /**
-   * 댓글 목록 조회
+   * 댓글 목록 조회 (전체 트리)
+   * 소설의 모든 댓글을 메모리에서 조립하므로 댓글이 많은 소설은 {@link #getRootComments}를 사용합니다.
    */
   public List<CommentDto> getComments(Long bookId) {
-    // 1. 전체 댓글 조회 (Soft Delete 제외됨)
-    List<CommentDto> allComments = reactionMapper.findCommentsByBookId(bookId);
+    // 1. 댓글 트리 조회 (소설별 캐시, 호출마다 복사본 / Soft Delete 제외됨)
+    List<CommentDto> roots = commentTreeCache.getTree(bookId, reactionMapper::findCommentsByBookId);
 
     // 2. MSA: 회원 정보 조회 (Feign Client)
+    List<CommentDto> allComments = new java.util.ArrayList<>();
+    collect(roots, allComments);
     List<Long> writerIds = allComments.stream()
             .map(CommentDto::getWriterId)
             .distinct()
@@ -49,47 +61,116 @@ public class ReactionQueryService {
 
     if (!writerIds.isEmpty()) {
       try {
-        ApiResponse<MemberBatchInfoDto> response = memberServiceClient.getMembersBatch(writerIds);
-        if (response != null && response.getData() != null) {
-          Map<Long, String> memberMap = response.getData().getMembers().stream()
-                  .collect(Collectors.toMap(
-                          MemberInfoDto::getUserId,
-                          MemberInfoDto::getUserNicknm
-                  ));
-
-          // 각 댓글 작성자 닉네임 설정
-          allComments.forEach(comment ->
-                  comment.setWriterNicknm(memberMap.get(comment.getWriterId()))
-          );
-        }
+        // Near Cache: 캐시에 없는 회원만 일괄 조회
+        Map<Long, String> memberMap = memberInfoCache.getNicknames(writerIds);
+
+        // 각 댓글 작성자 닉네임 설정
+        allComments.forEach(comment ->
+                comment.setWriterNicknm(memberMap.get(comment.getWriterId()))
+        );
       } catch (Exception e) {
         log.warn("Failed to fetch member info from member-service: {}", e.getMessage());
       }
     }
 
-    // 3. Map으로 변환 (Lookup 용도)
-    Map<Long, CommentDto> commentMap = allComments.stream()
-        .collect(Collectors.toMap(CommentDto::getCommentId, dto -> dto));
+    // 3. 최상위 댓글만 반환 (자식은 children 필드에 포함됨)
+    return roots;
+  }
 
-    // 4. 트리 구조 조립
-    List<CommentDto> roots = new java.util.ArrayList<>();
+  private static void collect(List<CommentDto> comments, List<CommentDto> into) {
+    for (CommentDto comment : comments) {
+      into.add(comment);
+      collect(comment.getChildren(), into);
+    }
+  }
 
-    for (CommentDto dto : allComments) {
-      if (dto.getParentId() == null) {
-        roots.add(dto);
-      } else {
-        CommentDto parent = commentMap.get(dto.getParentId());
-        if (parent != null) {
-          parent.getChildren().add(dto);
-        } else {
-          // 부모가 삭제되었거나 찾을 수 없는 경우, 최상위로 노출 (Orphan 처리)
-          roots.add(dto);
-        }
+  /**
+   * 최상위 댓글 페이지 조회 (Keyset: created_at, comment_id 오름차순)
+   * 대댓글은 포함하지 않고 replyCount만 채우며, {@link #getReplies}로 따로 조회합니다.
+   *
+   * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+   * @param size   페이지 크기 (최대 100)
+   */
+  public CommentSliceResponse getRootComments(Long bookId, String cursor, int size) {
+    int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    Object[] position = decodeCursor(cursor);
+    List<CommentDto> comments = reactionMapper.findRootComments(bookId,
+        (LocalDateTime) position[0], (Long) position[1], pageSize + 1);
+    return toSlice(comments, pageSize);
+  }
+
+  /**
+   * 대댓글 페이지 조회 (Keyset: created_at, comment_id 오름차순)
+   *
+   * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+   * @param size   페이지 크기 (최대 100)
+   */
+  public CommentSliceResponse getReplies(Long commentId, String cursor, int size) {
+    int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    Object[] position = decodeCursor(cursor);
+    List<CommentDto> replies = reactionMapper.findReplies(commentId,
+        (LocalDateTime) position[0], (Long) position[1], pageSize + 1);
+    return toSlice(replies, pageSize);
+  }
+
+  private CommentSliceResponse toSlice(List<CommentDto> comments, int pageSize) {
+    // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+    boolean hasNext = comments.size() > pageSize;
+    List<CommentDto> page = hasNext ? comments.subList(0, pageSize) : comments;
+
+    String nextCursor = null;
+    if (hasNext) {
+      CommentDto last = page.get(page.size() - 1);
+      nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getCommentId());
+    }
+
+    // MSA: 현재 페이지 작성자만 닉네임 조회 (Near Cache)
+    List<Long> writerIds = page.stream().map(CommentDto::getWriterId).distinct().toList();
+    if (!writerIds.isEmpty()) {
+      try {
+        Map<Long, String> memberMap = memberInfoCache.getNicknames(writerIds);
+        page.forEach(comment -> comment.setWriterNicknm(memberMap.get(comment.getWriterId())));
+      } catch (Exception e) {
+        log.warn("Failed to fetch member info from member-service: {}", e.getMessage());
       }
     }
 
-    // 5. 최상위 댓글만 반환 (자식은 children 필드에 포함됨)
-    return roots;
+    return new CommentSliceResponse(page, pageSize, hasNext, nextCursor);
+  }
+
+  /**
+   * @return [created_at, comment_id], 커서가 없으면 [null, null]
+   */
+  private static Object[] decodeCursor(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return new Object[2];
+    }
+    try {
+      KeysetCursor position = KeysetCursor.decode(cursor);
+      return new Object[] { LocalDateTime.parse(position.sortValue()), position.id() };
+    } catch (RuntimeException e) {
+      throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+  }
+
+  /**
+   * 한 소설에 대한 내 투표 상태 조회 (소설 뷰어 공유 응답의 사용자별 Overlay)
+   * 소설 투표와 문장 투표를 한 번의 쿼리로 읽어 문장 ID 목록으로 압축합니다.
+   */
+  public MyVotesDto getMyVotes(Long bookId, Long userId) {
+    String bookVote = null;
+    List<Long> liked = new ArrayList<>();
+    List<Long> disliked = new ArrayList<>();
+    for (MyVoteDto vote : reactionMapper.findMyVotesByBookId(bookId, userId)) {
+      if (vote.getSentenceId() == null) {
+        bookVote = vote.getVoteType();
+      } else if ("LIKE".equals(vote.getVoteType())) {
+        liked.add(vote.getSentenceId());
+      } else {
+        disliked.add(vote.getSentenceId());
+      }
+    }
+    return new MyVotesDto(bookId, bookVote, liked, disliked);
   }
 
   /**
@@ -103,11 +184,8 @@ public class ReactionQueryService {
     if (!comments.isEmpty()) {
       // MSA: 회원 정보 조회 (Feign Client)
       try {
-        ApiResponse<MemberInfoDto> memberResponse = memberServiceClient.getMemberInfo(userId);
-        if (memberResponse != null && memberResponse.getData() != null) {
-          String nicknm = memberResponse.getData().getUserNicknm();
-          comments.forEach(comment -> comment.setWriterNicknm(nicknm));
-        }
+        String nicknm = memberInfoCache.getNickname(userId);
+        comments.forEach(comment -> comment.setWriterNicknm(nicknm));
       } catch (Exception e) {
         log.warn("Failed to fetch member info from member-service: {}", e.getMessage());
       }
@@ -0,0 +1,40 @@
+package com.team2.reactionservice.websocket.dto;
+
+import com.team2.commonmodule.websocket.codec.CompactEncodable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * WebSocket 투표 업데이트 묶음 DTO
+ * 같은 소설의 여러 대상(소설/문장) 투표 수를 한 프레임으로 전송할 때 사용합니다.
+ *
+ * @author 정병진
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoteUpdateBatchDto implements CompactEncodable {
+    private String targetType = "BATCH";
+    private List<VoteUpdateDto> updates;
+
+    public VoteUpdateBatchDto(List<VoteUpdateDto> updates) {
+        this.updates = updates;
+    }
+
+    /**
+     * ["VB", [[targetType, targetId, upvotes, downvotes], ...]]
+     */
+    @Override
+    public Object[] toCompact() {
+        Object[][] compactUpdates = new Object[updates.size()][];
+        for (int i = 0; i < compactUpdates.length; i++) {
+            VoteUpdateDto update = updates.get(i);
+            compactUpdates[i] = new Object[] { update.getTargetType(), update.getTargetId(), update.getUpvotes(),
+                    update.getDownvotes() };
+        }
+        return new Object[] { "VB", compactUpdates };
+    }
+}
@@ -1,5 +1,6 @@
 package com.team2.reactionservice.websocket.dto;
 
+import com.team2.commonmodule.websocket.codec.CompactEncodable;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,9 +13,17 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class VoteUpdateDto {
+public class VoteUpdateDto implements CompactEncodable {
     private Long targetId;
     private String targetType; // "BOOK" or "SENTENCE"
     private Long upvotes;
     private Long downvotes;
+
+    /**
+     * ["V", targetType, targetId, upvotes, downvotes]
+     */
+    @Override
+    public Object[] toCompact() {
+        return new Object[] { "V", targetType, targetId, upvotes, downvotes };
+    }
 }
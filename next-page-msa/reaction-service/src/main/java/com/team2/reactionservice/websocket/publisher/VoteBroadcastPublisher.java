@@ -0,0 +1,161 @@
+package com.team2.reactionservice.websocket.publisher;
+
+import com.team2.commonmodule.websocket.codec.CompactMessagePublisher;
+import com.team2.reactionservice.websocket.dto.VoteUpdateBatchDto;
+import com.team2.reactionservice.websocket.dto.VoteUpdateDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 투표 업데이트 병합 발행기 (/topic/books/{bookId}/votes)
+ *
+ * <p>
+ * 같은 소설 채널로 window-ms 안에 들어온 업데이트를 모아, 대상(소설/문장)별 마지막 투표 수만 전송합니다.
+ * 투표가 몰려도 구독자에게 가는 메시지 수는 채널당 최대 (대상 수 / window-ms)로 제한됩니다.
+ * batch-sentences=true 이면 한 채널의 업데이트를 {@link VoteUpdateBatchDto} 한 프레임으로 묶어 보냅니다.
+ * window-ms=0 이면 병합 없이 즉시 전송합니다.
+ * 각 메시지는 {@link CompactMessagePublisher}로 한 번만 직렬화됩니다.
+ * </p>
+ *
+ * @author 정병진
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteBroadcastPublisher {
+
+  private final CompactMessagePublisher messagePublisher;
+  private final MeterRegistry meterRegistry;
+
+  /** 소설 ID별 전송 대기 중인 업데이트 (대상 키 → 마지막 값) */
+  private final Map<Long, Map<String, VoteUpdateDto>> pending = new ConcurrentHashMap<>();
+
+  /** batch-sentences 설정과 관계없이 한 프레임으로 보낼 소설 ID (일괄 투표) */
+  private final Set<Long> batchBookIds = ConcurrentHashMap.newKeySet();
+
+  @Value("${reaction.vote.broadcast.window-ms:100}")
+  private long windowMs;
+
+  @Value("${reaction.vote.broadcast.batch-sentences:false}")
+  private boolean batchSentences;
+
+  private ScheduledExecutorService ticker;
+  private Counter updateCounter;
+  private Counter frameCounter;
+
+  @PostConstruct
+  void init() {
+    ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "vote-broadcast");
+      thread.setDaemon(true);
+      return thread;
+    });
+    updateCounter = Counter.builder("reaction.vote.broadcast.updates")
+        .description("발행 요청된 투표 업데이트 수")
+        .register(meterRegistry);
+    frameCounter = Counter.builder("reaction.vote.broadcast.frames")
+        .description("구독 채널로 실제 전송된 메시지 수")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    ticker.shutdown();
+  }
+
+  /**
+   * 투표 업데이트를 발행합니다. (window-ms 후 같은 대상의 최신 값만 전송)
+   *
+   * @param bookId 채널 소설 ID
+   * @param update 대상의 최신 투표 수
+   */
+  public void publish(Long bookId, VoteUpdateDto update) {
+    updateCounter.increment();
+    if (windowMs <= 0) {
+      send(bookId, List.of(update), false);
+      return;
+    }
+    enqueue(bookId, List.of(update));
+  }
+
+  /**
+   * 한 소설의 여러 업데이트를 한 프레임으로 발행합니다. (일괄 투표용)
+   * 같은 window에 대기 중인 업데이트가 있으면 함께 묶어 보냅니다.
+   *
+   * @param bookId  채널 소설 ID
+   * @param updates 대상별 최신 투표 수
+   */
+  public void publishAll(Long bookId, List<VoteUpdateDto> updates) {
+    if (updates.isEmpty()) {
+      return;
+    }
+    updateCounter.increment(updates.size());
+    if (windowMs <= 0) {
+      send(bookId, updates, true);
+      return;
+    }
+    batchBookIds.add(bookId);
+    enqueue(bookId, updates);
+  }
+
+  private void enqueue(Long bookId, List<VoteUpdateDto> additions) {
+    boolean[] opened = { false };
+    pending.compute(bookId, (id, updates) -> {
+      if (updates == null) {
+        updates = new LinkedHashMap<>();
+        opened[0] = true;
+      }
+      for (VoteUpdateDto update : additions) {
+        updates.put(update.getTargetType() + ":" + update.getTargetId(), update);
+      }
+      return updates;
+    });
+
+    // 채널의 첫 업데이트만 전송 예약 (이후 window 동안은 값만 교체)
+    if (opened[0]) {
+      ticker.schedule(() -> flush(bookId), windowMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void flush(Long bookId) {
+    Map<String, VoteUpdateDto> updates = pending.remove(bookId);
+    boolean batch = batchBookIds.remove(bookId);
+    if (updates == null || updates.isEmpty()) {
+      return;
+    }
+    try {
+      send(bookId, new ArrayList<>(updates.values()), batch);
+    } catch (RuntimeException e) {
+      log.error("Failed to broadcast vote updates for book {}: {}", bookId, e.getMessage());
+    }
+  }
+
+  private void send(Long bookId, List<VoteUpdateDto> updates, boolean batch) {
+    String destination = "/topic/books/" + bookId + "/votes";
+    if ((batch || batchSentences) && updates.size() > 1) {
+      messagePublisher.convertAndSend(destination, new VoteUpdateBatchDto(updates));
+      frameCounter.increment();
+      return;
+    }
+    for (VoteUpdateDto update : updates) {
+      messagePublisher.convertAndSend(destination, update);
+    }
+    frameCounter.increment(updates.size());
+  }
+}
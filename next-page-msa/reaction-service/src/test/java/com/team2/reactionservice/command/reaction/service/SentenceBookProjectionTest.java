@@ -0,0 +1,84 @@
+package com.team2.reactionservice.command.reaction.service;
+
+import com.team2.reactionservice.command.reaction.repository.SentenceBookRepository;
+import com.team2.reactionservice.feign.StoryServiceClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SentenceBookProjectionTest {
+
+  @Mock
+  private SentenceBookRepository sentenceBookRepository;
+
+  @Mock
+  private StoryServiceClient storyServiceClient;
+
+  private SentenceBookProjection projection;
+
+  @BeforeEach
+  void setUp() {
+    projection = new SentenceBookProjection(sentenceBookRepository, storyServiceClient, new SimpleMeterRegistry(),
+        1000);
+  }
+
+  @Test
+  @DisplayName("매핑이 없으면 요청의 bookId 대신 story-service에서 확인한 소설 ID를 사용한다")
+  void resolvesRealBookIdInsteadOfHint() {
+    // given
+    given(sentenceBookRepository.findById(10L)).willReturn(Optional.empty());
+    given(storyServiceClient.getBookIdBySentenceId(10L)).willReturn(1L);
+
+    // when
+    Long bookId = projection.resolve(10L, 1L);
+
+    // then
+    assertThat(bookId).isEqualTo(1L);
+    verify(sentenceBookRepository).upsert(10L, 1L);
+  }
+
+  @Test
+  @DisplayName("요청의 bookId가 실제 소설과 다르면 null을 반환하여 알림을 보내지 않는다")
+  void dropsUpdateOnHintMismatch() {
+    // given
+    projection.register(Map.of(10L, 1L));
+
+    // when
+    Long bookId = projection.resolve(10L, 999L);
+
+    // then
+    assertThat(bookId).isNull();
+    verify(storyServiceClient, never()).getBookIdBySentenceId(10L);
+  }
+
+  @Test
+  @DisplayName("소설 ID를 확인할 수 없으면 요청의 bookId로 대신하지 않는다")
+  void neverFallsBackToHint() {
+    // given
+    given(sentenceBookRepository.findById(10L)).willReturn(Optional.empty());
+    given(storyServiceClient.getBookIdBySentenceId(10L)).willThrow(new RuntimeException("story-service down"));
+
+    // when
+    Long first = projection.resolve(10L, 999L);
+    Long second = projection.resolve(10L, null);
+
+    // then
+    assertThat(first).isNull();
+    assertThat(second).isNull();
+    verify(storyServiceClient, times(2)).getBookIdBySentenceId(10L);
+  }
+}
@@ -0,0 +1,200 @@
+package com.team2.reactionservice.command.reaction.service;
+
+import com.team2.reactionservice.command.reaction.entity.BookVoteCount;
+import com.team2.reactionservice.command.reaction.entity.VoteType;
+import com.team2.reactionservice.command.reaction.repository.BookVoteCountRepository;
+import com.team2.reactionservice.command.reaction.repository.SentenceVoteCountRepository;
+import com.team2.reactionservice.websocket.publisher.VoteBroadcastPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 재계산과 미반영 증감이 겹쳐도 같은 투표가 두 번 더해지지 않는지 검증합니다.
+ * book_votes / book_vote_counts는 재계산 버전(reconcile_version) 규칙을 따르는 메모리 DB로 대신합니다.
+ */
+class VoteCountAggregatorTest {
+
+    private static final Long BOOK_ID = 1L;
+
+    private final FakeVoteDb db = new FakeVoteDb();
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 보관 중인 미반영 증감은 재계산 이후 반영 시 다시 더해지지 않는다")
+    void pendingDeltaOnAnotherInstanceIsNotDoubleCounted() {
+        // given: 인스턴스 B에서 투표가 커밋되어 증감이 아직 반영되지 않음
+        VoteCountAggregator nodeB = aggregator();
+        vote(nodeB);
+
+        // when: 인스턴스 A가 재계산 (B의 투표 포함), 이후 B에서 새 투표 커밋, B가 반영
+        db.reconcile(BOOK_ID);
+        vote(nodeB);
+        nodeB.flush();
+
+        // then
+        assertThat(db.likeCount(BOOK_ID)).isEqualTo(2).isEqualTo(db.likeVotes);
+        assertThat(nodeB.getBookCounts(BOOK_ID)[0]).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재계산 이전에 커밋된 투표의 afterCommit이 재계산 이후에 실행되어도 이중으로 더해지지 않는다")
+    void lateAfterCommitIsNotDoubleCounted() {
+        // given: 투표 트랜잭션이 커밋됐지만 afterCommit(메모리 누적)은 아직 실행되지 않음
+        VoteCountAggregator node = aggregator();
+        db.likeVotes++;
+        node.recordBookVote(BOOK_ID, null, VoteType.LIKE);
+
+        // when: 재계산이 먼저 커밋되고, 그 뒤 afterCommit 실행 및 반영
+        db.reconcile(BOOK_ID);
+        runAfterCommit();
+        node.flush();
+
+        // then
+        assertThat(db.likeCount(BOOK_ID)).isEqualTo(1).isEqualTo(db.likeVotes);
+        assertThat(node.getBookCounts(BOOK_ID)[0]).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재계산과 겹치지 않은 증감은 모두 반영되고 실시간 투표 수에 포함된다")
+    void pendingDeltasAreAppliedWithoutReconcile() {
+        // given
+        VoteCountAggregator node = aggregator();
+        vote(node);
+        vote(node);
+
+        // when
+        long[] live = node.getBookCounts(BOOK_ID);
+        node.flush();
+
+        // then
+        assertThat(live[0]).isEqualTo(2);
+        assertThat(db.likeCount(BOOK_ID)).isEqualTo(2);
+        assertThat(node.getBookCounts(BOOK_ID)[0]).isEqualTo(2);
+    }
+
+    /**
+     * 좋아요 투표 하나를 커밋하고 afterCommit까지 실행합니다.
+     */
+    private void vote(VoteCountAggregator node) {
+        db.likeVotes++;
+        node.recordBookVote(BOOK_ID, null, VoteType.LIKE);
+        runAfterCommit();
+    }
+
+    private static void runAfterCommit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private VoteCountAggregator aggregator() {
+        VoteCountAggregator aggregator = new VoteCountAggregator(db.bookRepository, mock(SentenceVoteCountRepository.class),
+                mock(VoteCountReconciler.class), new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                mock(VoteBroadcastPublisher.class), mock(SentenceBookProjection.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(aggregator, "enabled", true);
+        return aggregator;
+    }
+
+    /**
+     * 투표 행 수와 집계 행({like, dislike, reconcile_version})을 보관하는 DB 대역
+     */
+    private static final class FakeVoteDb {
+
+        private final Map<Long, long[]> rows = new HashMap<>();
+        private final BookVoteCountRepository bookRepository = mock(BookVoteCountRepository.class);
+        private long likeVotes;
+
+        FakeVoteDb() {
+            given(bookRepository.findReconcileVersionsForShare(any())).willAnswer(invocation -> {
+                List<Object[]> versions = new ArrayList<>();
+                for (Long id : invocation.<Collection<Long>>getArgument(0)) {
+                    if (rows.containsKey(id)) {
+                        versions.add(new Object[] { id, rows.get(id)[2] });
+                    }
+                }
+                return versions;
+            });
+            willAnswer(invocation -> {
+                Long id = invocation.getArgument(0);
+                long like = invocation.getArgument(1);
+                long dislike = invocation.getArgument(2);
+                long version = invocation.getArgument(3);
+                long[] row = rows.get(id);
+                if (row == null) {
+                    rows.put(id, new long[] { Math.max(like, 0), Math.max(dislike, 0), version });
+                } else if (row[2] == version) {
+                    row[0] = Math.max(row[0] + like, 0);
+                    row[1] = Math.max(row[1] + dislike, 0);
+                }
+                return null;
+            }).given(bookRepository).applyDeltaAtVersion(any(), anyLong(), anyLong(), anyLong());
+            given(bookRepository.findById(any())).willAnswer(invocation -> Optional
+                    .ofNullable(entity(invocation.getArgument(0))));
+            given(bookRepository.findAllById(any())).willAnswer(invocation -> {
+                List<BookVoteCount> counts = new ArrayList<>();
+                for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                    BookVoteCount count = entity(id);
+                    if (count != null) {
+                        counts.add(count);
+                    }
+                }
+                return counts;
+            });
+        }
+
+        /** reconcileRange: 투표 행 기준으로 덮어쓰고 버전 증가 */
+        void reconcile(Long id) {
+            long[] row = rows.get(id);
+            rows.put(id, new long[] { likeVotes, 0, row != null ? row[2] + 1 : 1 });
+        }
+
+        long likeCount(Long id) {
+            return rows.get(id)[0];
+        }
+
+        private BookVoteCount entity(Long id) {
+            long[] row = rows.get(id);
+            if (row == null) {
+                return null;
+            }
+            BookVoteCount count = mock(BookVoteCount.class);
+            given(count.getBookId()).willReturn(id);
+            given(count.getLikeCount()).willReturn(row[0]);
+            given(count.getDislikeCount()).willReturn(row[1]);
+            given(count.getReconcileVersion()).willReturn(row[2]);
+            return count;
+        }
+    }
+}
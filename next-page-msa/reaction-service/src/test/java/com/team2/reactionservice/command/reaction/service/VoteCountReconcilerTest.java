@@ -0,0 +1,93 @@
+package com.team2.reactionservice.command.reaction.service;
+
+import com.team2.reactionservice.command.reaction.repository.BookVoteCountRepository;
+import com.team2.reactionservice.command.reaction.repository.SentenceVoteCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class VoteCountReconcilerTest {
+
+  @Mock
+  private BookVoteCountRepository bookVoteCountRepository;
+
+  @Mock
+  private SentenceVoteCountRepository sentenceVoteCountRepository;
+
+  @Mock
+  private DataSource dataSource;
+
+  @Mock
+  private Connection connection;
+
+  @Mock
+  private PreparedStatement lockStatement;
+
+  @Mock
+  private PreparedStatement releaseStatement;
+
+  @Mock
+  private ResultSet lockResult;
+
+  private VoteCountReconciler reconciler;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    reconciler = new VoteCountReconciler(bookVoteCountRepository, sentenceVoteCountRepository,
+        new TransactionTemplate(mock(PlatformTransactionManager.class)), dataSource);
+    ReflectionTestUtils.setField(reconciler, "chunkSize", 1000L);
+    given(dataSource.getConnection()).willReturn(connection);
+    given(connection.prepareStatement("SELECT GET_LOCK(?, 0)")).willReturn(lockStatement);
+    given(lockStatement.executeQuery()).willReturn(lockResult);
+    given(lockResult.next()).willReturn(true);
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 재계산 잠금을 잡고 있으면 재계산하지 않는다")
+  void skipsWhenLockIsHeldElsewhere() throws Exception {
+    // given
+    given(lockResult.getInt(1)).willReturn(0);
+
+    // when
+    reconciler.reconcile();
+
+    // then
+    verify(bookVoteCountRepository, never()).findMaxBookId();
+    verify(sentenceVoteCountRepository, never()).findMaxSentenceId();
+    verify(connection).close();
+  }
+
+  @Test
+  @DisplayName("잠금을 잡으면 재계산한 뒤 잠금을 푼다")
+  void reconcilesAndReleasesLock() throws Exception {
+    // given
+    given(lockResult.getInt(1)).willReturn(1);
+    given(connection.prepareStatement("SELECT RELEASE_LOCK(?)")).willReturn(releaseStatement);
+
+    // when
+    reconciler.reconcile();
+
+    // then
+    verify(bookVoteCountRepository).findMaxBookId();
+    verify(sentenceVoteCountRepository).findMaxSentenceId();
+    verify(releaseStatement).execute();
+    verify(connection).close();
+  }
+}
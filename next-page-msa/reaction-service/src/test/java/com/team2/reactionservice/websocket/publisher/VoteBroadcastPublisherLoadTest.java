@@ -0,0 +1,96 @@
+package com.team2.reactionservice.websocket.publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team2.commonmodule.websocket.codec.CompactMessagePublisher;
+import com.team2.reactionservice.websocket.dto.VoteUpdateDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 한 소설에 초당 500표가 몰릴 때 /topic/books/{bookId}/votes 로 전송되는 메시지 수와
+ * 구독자 처리 비용(프레임마다 구독자 수만큼 JSON 파싱하는 CPU 시간)을 병합 전(window-ms=0)과 후(100ms)로 비교합니다.
+ */
+class VoteBroadcastPublisherLoadTest {
+
+  private static final long BOOK_ID = 1L;
+  private static final int VOTES_PER_SECOND = 500;
+  private static final int DURATION_SECONDS = 2;
+  private static final int SENTENCES = 20;
+  private static final int SUBSCRIBERS = 50;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("100ms 병합 시 투표 폭주에도 전송 메시지 수와 구독자 CPU가 크게 줄어든다")
+  void coalescingReducesFanOut() throws Exception {
+    // given / when
+    Result immediate = run(0);
+    Result coalesced = run(100);
+
+    // then
+    assertThat(immediate.messages()).isEqualTo((long) VOTES_PER_SECOND * DURATION_SECONDS);
+    // 대상 21개(소설 1 + 문장 20) x 초당 10회 이하
+    assertThat(coalesced.messagesPerSecond()).isLessThanOrEqualTo((SENTENCES + 1) * 10 * 1.2);
+    assertThat(coalesced.messages()).isLessThan(immediate.messages() / 2);
+    assertThat(coalesced.subscriberCpuNanos()).isLessThan(immediate.subscriberCpuNanos());
+  }
+
+  private Result run(long windowMs) throws Exception {
+    AtomicLong messages = new AtomicLong();
+    AtomicLong subscriberCpuNanos = new AtomicLong();
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    CompactMessagePublisher messagePublisher = mock(CompactMessagePublisher.class);
+    willAnswer(invocation -> {
+      byte[] frame = objectMapper.writeValueAsBytes(invocation.getArgument(1));
+      long cpuStart = threads.getCurrentThreadCpuTime();
+      for (int i = 0; i < SUBSCRIBERS; i++) {
+        objectMapper.readTree(frame);
+      }
+      subscriberCpuNanos.addAndGet(threads.getCurrentThreadCpuTime() - cpuStart);
+      messages.incrementAndGet();
+      return null;
+    }).given(messagePublisher).convertAndSend(anyString(), any());
+
+    VoteBroadcastPublisher publisher = new VoteBroadcastPublisher(messagePublisher, new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(publisher, "windowMs", windowMs);
+    publisher.init();
+    try {
+      long intervalNanos = TimeUnit.SECONDS.toNanos(1) / VOTES_PER_SECOND;
+      long started = System.nanoTime();
+      for (int vote = 0; vote < VOTES_PER_SECOND * DURATION_SECONDS; vote++) {
+        long due = started + vote * intervalNanos;
+        while (System.nanoTime() < due) {
+          Thread.onSpinWait();
+        }
+        long targetId = vote % (SENTENCES + 1);
+        VoteUpdateDto update = targetId == 0
+            ? new VoteUpdateDto(BOOK_ID, "BOOK", (long) vote, 0L)
+            : new VoteUpdateDto(targetId, "SENTENCE", (long) vote, 0L);
+        publisher.publish(BOOK_ID, update);
+      }
+      // 마지막 window 전송 대기
+      Thread.sleep(windowMs * 3 + 50);
+      double seconds = (System.nanoTime() - started) / 1e9;
+      return new Result(messages.get(), messages.get() / seconds, subscriberCpuNanos.get());
+    } finally {
+      publisher.shutdown();
+    }
+  }
+
+  private record Result(long messages, double messagesPerSecond, long subscriberCpuNanos) {
+  }
+}
@@ -3,9 +3,11 @@ package com.team2.storyservice.category.controller;
 import com.team2.storyservice.category.entity.Category;
 import com.team2.storyservice.category.repository.CategoryRepository;
 import com.team2.commonmodule.response.ApiResponse;
+import com.team2.commonmodule.response.ResponseCacheControl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -27,9 +29,12 @@ public class CategoryController {
 
     @Operation(summary = "카테고리 목록 조회", description = "소설 생성 및 검색에 사용되는 카테고리 전체 목록을 조회합니다")
     @GetMapping
-    public ApiResponse<List<Category>> getCategories() {
+    public ResponseEntity<ApiResponse<List<Category>>> getCategories() {
         List<Category> categories = categoryRepository.findAll();
-        return ApiResponse.success(categories);
+        // 사용자와 무관한 응답: Gateway 공유 캐시 허용, 브라우저는 ETag로 재검증
+        return ResponseEntity.ok()
+                .cacheControl(ResponseCacheControl.shared())
+                .body(ApiResponse.success(categories));
     }
 
 }
@@ -3,6 +3,7 @@ package com.team2.storyservice.command.book.controller;
 import com.team2.storyservice.command.book.dto.request.CreateBookRequest;
 import com.team2.storyservice.command.book.dto.request.SentenceAppendRequest;
 import com.team2.storyservice.command.book.service.BookService;
+import com.team2.storyservice.command.book.service.SentenceAppendPipeline;
 import com.team2.commonmodule.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,6 +34,7 @@ import jakarta.validation.Valid;
 public class BookController {
 
         private final BookService bookService;
+        private final SentenceAppendPipeline appendPipeline;
 
         /**
          * 소설 생성 API
@@ -65,7 +67,10 @@ public class BookController {
         public ResponseEntity<com.team2.commonmodule.response.ApiResponse<Long>> append(@PathVariable Long bookId,
                         @RequestBody @Valid SentenceAppendRequest request) {
                 Long writerId = SecurityUtil.getCurrentUserId();
-                Long sentenceId = bookService.appendSentence(bookId, writerId, request);
+                // 파이프라인은 트랜잭션 밖에서 배치 커밋을 기다려야 하므로 서비스 트랜잭션을 거치지 않음
+                Long sentenceId = appendPipeline.isEnabled()
+                                ? appendPipeline.append(bookId, writerId, SecurityUtil.isAdmin(), request.getContent())
+                                : bookService.appendSentence(bookId, writerId, request);
                 return ResponseEntity.ok(com.team2.commonmodule.response.ApiResponse.success(sentenceId));
         }
 
@@ -52,6 +52,13 @@ public class Book extends BaseEntity {
     @Column(name = "last_writer_user_id")
     private Long lastWriterUserId;
 
+    /**
+     * 낙관적 락 버전 (인스턴스 간 동시 문장 작성 충돌 감지용)
+     */
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     @Builder.Default
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL)
     private List<Sentence> sentences = new ArrayList<>();
@@ -0,0 +1,176 @@
+package com.team2.storyservice.command.book.service;
+
+import com.team2.commonmodule.error.BusinessException;
+import com.team2.commonmodule.error.ErrorCode;
+import com.team2.storyservice.command.book.entity.Book;
+import com.team2.storyservice.command.book.entity.BookStatus;
+import com.team2.storyservice.command.book.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 소설별 문장 순서 중재자 (In-Memory Sequence Arbiter)
+ *
+ * <p>
+ * 소설마다 현재 순서(currentSequence)와 마지막 작성자(lastWriterUserId)를 메모리에 보관하고,
+ * CAS로 "이번 순서의 작성 권한"을 한 명에게만 부여합니다.
+ * 연속 작성(CONSECUTIVE_WRITING_NOT_ALLOWED)이나 동시 작성 경쟁(SEQUENCE_MISMATCH)은
+ * DB 락 없이 여기서 즉시 거절되며, 권한을 얻은 요청만 DB에 반영됩니다.
+ * </p>
+ *
+ * <p>
+ * 이 상태는 인스턴스 로컬 캐시일 뿐이며, 최종 정합성은 {@link Book}의 {@code @Version}
+ * 낙관적 락과 (book_id, sequence_no) 유니크 키가 보장합니다.
+ * DB 반영에 실패하면 해당 소설의 상태를 버리고 다음 요청에서 DB로부터 다시 적재합니다.
+ * </p>
+ *
+ * @author 정진호
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSequenceArbiter {
+
+    private final BookRepository bookRepository;
+
+    private final Map<Long, AtomicReference<SequenceState>> states = new ConcurrentHashMap<>();
+
+    @Value("${story.append.arbiter.max-books:10000}")
+    private int maxBooks;
+
+    /**
+     * 다음 문장의 작성 권한을 획득합니다.
+     * 권한은 트랜잭션 종료 시 {@link #release(Ticket, boolean)}로 반드시 반납해야 합니다.
+     *
+     * @param bookId   소설 ID
+     * @param writerId 작성 시도하는 사용자 ID
+     * @param isAdmin  관리자 여부 (true: 연속 작성 제한 우회)
+     * @return 부여된 순서 정보
+     * @throws BusinessException 규칙 위반 또는 다른 작성자와 경쟁에서 진 경우
+     */
+    public Ticket acquire(Long bookId, Long writerId, boolean isAdmin) {
+        AtomicReference<SequenceState> ref = stateOf(bookId);
+
+        while (true) {
+            SequenceState current = ref.get();
+            current.validate(writerId, isAdmin);
+
+            if (ref.compareAndSet(current, current.reserve())) {
+                return new Ticket(bookId, writerId, current.currentSequence(), ref);
+            }
+        }
+    }
+
+    /**
+     * 작성 권한을 반납합니다.
+     *
+     * @param ticket    {@link #acquire}로 받은 권한
+     * @param committed DB 반영(커밋) 성공 여부
+     */
+    public void release(Ticket ticket, boolean committed) {
+        AtomicReference<SequenceState> ref = ticket.ref();
+
+        if (!committed) {
+            // 실패 원인을 알 수 없으므로 메모리 상태를 버리고 DB에서 다시 적재
+            states.remove(ticket.bookId(), ref);
+            return;
+        }
+
+        while (true) {
+            SequenceState current = ref.get();
+            if (ref.compareAndSet(current, current.advance(ticket.writerId()))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 순서 상태에 영향을 주는 변경(문장 삭제, 완결, 소설 삭제 등) 이후 메모리 상태를 무효화합니다.
+     *
+     * @param bookId 소설 ID
+     */
+    public void evict(Long bookId) {
+        states.remove(bookId);
+    }
+
+    private AtomicReference<SequenceState> stateOf(Long bookId) {
+        AtomicReference<SequenceState> ref = states.get(bookId);
+        if (ref != null) {
+            return ref;
+        }
+
+        // Cold miss: DB에서 한 번만 적재 (락 없이 일반 조회)
+        Book book = bookRepository.findById(bookId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+
+        AtomicReference<SequenceState> loaded = new AtomicReference<>(SequenceState.of(book));
+        AtomicReference<SequenceState> existing = states.putIfAbsent(bookId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+
+        trimIfNecessary();
+        return loaded;
+    }
+
+    /**
+     * 보관 중인 소설 수가 상한을 넘으면 작성 중이 아닌 항목부터 제거합니다.
+     */
+    private void trimIfNecessary() {
+        if (states.size() <= maxBooks) {
+            return;
+        }
+        states.entrySet().removeIf(entry -> states.size() > maxBooks && !entry.getValue().get().inFlight());
+        log.debug("Sequence arbiter trimmed to {} books", states.size());
+    }
+
+    /**
+     * 작성 권한 (부여된 순서 번호)
+     */
+    public record Ticket(Long bookId, Long writerId, int sequenceNo, AtomicReference<SequenceState> ref) {
+    }
+
+    /**
+     * 소설 순서 상태 (불변 객체, CAS 교체 단위)
+     */
+    record SequenceState(int currentSequence, int maxSequence, Long lastWriterUserId, boolean completed,
+            boolean inFlight) {
+
+        static SequenceState of(Book book) {
+            return new SequenceState(
+                    book.getCurrentSequence(),
+                    book.getMaxSequence(),
+                    book.getLastWriterUserId(),
+                    book.getStatus() != BookStatus.WRITING,
+                    false);
+        }
+
+        void validate(Long writerId, boolean isAdmin) {
+            if (completed) {
+                throw new BusinessException(ErrorCode.ALREADY_COMPLETED);
+            }
+            if (!isAdmin && writerId.equals(lastWriterUserId)) {
+                throw new BusinessException(ErrorCode.CONSECUTIVE_WRITING_NOT_ALLOWED);
+            }
+            // 같은 순서를 다른 작성자가 이미 선점한 경우
+            if (inFlight) {
+                throw new BusinessException(ErrorCode.SEQUENCE_MISMATCH);
+            }
+        }
+
+        SequenceState reserve() {
+            return new SequenceState(currentSequence, maxSequence, lastWriterUserId, completed, true);
+        }
+
+        SequenceState advance(Long writerId) {
+            int next = currentSequence + 1;
+            return new SequenceState(next, maxSequence, writerId, next > maxSequence, false);
+        }
+    }
+}
@@ -9,12 +9,19 @@ import com.team2.storyservice.command.book.repository.SentenceRepository;
 import com.team2.commonmodule.error.BusinessException;
 import com.team2.commonmodule.error.ErrorCode;
 import com.team2.commonmodule.util.SecurityUtil;
+import com.team2.storyservice.search.event.BookChangedEvent;
 import com.team2.storyservice.websocket.dto.BookCreatedEvent;
 import com.team2.storyservice.websocket.dto.SentenceCreatedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import com.team2.storyservice.command.book.entity.BookStatus;
 import com.team2.storyservice.category.repository.CategoryRepository;
 
@@ -31,9 +38,14 @@ public class BookService {
         private final BookRepository bookRepository;
         private final SentenceRepository sentenceRepository;
         private final SimpMessagingTemplate messagingTemplate;
-        // Circuit Breaker 적용된 서비스 사용
-        private final MemberIntegrationService memberIntegrationService;
+        private final ApplicationEventPublisher eventPublisher;
         private final CategoryRepository categoryRepository;
+        private final BookSequenceArbiter sequenceArbiter;
+        private final SentenceAppendPipeline appendPipeline;
+
+        // false: 기존 비관적 락(SELECT ... FOR UPDATE) 경로 사용
+        @Value("${story.append.arbiter.enabled:true}")
+        private boolean arbiterEnabled;
 
         /**
          * 소설 방 생성
@@ -64,18 +76,18 @@ public class BookService {
                 // 3. 상태 업데이트 (1번 문장 작성 완료 처리 -> 다음은 2번)
                 savedBook.updateStateAfterWriting(writerId);
 
-                // 4. WebSocket 이벤트 발행 (새 챕터 생성)
-                // Circuit Breaker 적용: 에러 발생 시 "Unknown Writer" 반환
-                String writerNickname = memberIntegrationService.getUserNickname(writerId);
+                // 4. WebSocket 이벤트 발행 (새 챕터 생성) - 커밋 이후 StoryEventBroadcaster가 전송
                 String categoryName = categoryRepository.findById(savedBook.getCategoryId())
                                 .map(c -> c.getCategoryName()).orElse("카테고리");
 
-                messagingTemplate.convertAndSend("/topic/books/new",
+                eventPublisher.publishEvent(
                                 new BookCreatedEvent(
                                                 savedBook.getBookId(),
                                                 savedBook.getTitle(),
                                                 categoryName,
-                                                writerNickname));
+                                                SecurityUtil.getCurrentUserNickname(),
+                                                writerId));
+                eventPublisher.publishEvent(new BookChangedEvent(savedBook.getBookId()));
 
                 return savedBook.getBookId();
         }
@@ -85,6 +97,58 @@ public class BookService {
          * 관리자는 연속 작성 제한이 적용되지 않습니다.
          */
         public Long appendSentence(Long bookId, Long writerId, SentenceAppendRequest request) {
+                if (!arbiterEnabled) {
+                        return appendSentenceWithLock(bookId, writerId, request);
+                }
+
+                boolean isAdmin = SecurityUtil.isAdmin();
+
+                // 1. 메모리 중재자에서 작성 권한 획득 (연속 작성/동시 작성 경쟁은 DB 접근 없이 거절)
+                BookSequenceArbiter.Ticket ticket = sequenceArbiter.acquire(bookId, writerId, isAdmin);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                                sequenceArbiter.release(ticket, status == STATUS_COMMITTED);
+                        }
+                });
+
+                // 2. 소설 조회 (락 없음, @Version 낙관적 락으로 최종 검증)
+                Book book = bookRepository.findById(bookId)
+                                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+
+                // 메모리 상태가 DB와 어긋난 경우 (다른 인스턴스에서 작성 등)
+                if (book.getCurrentSequence() != ticket.sequenceNo()) {
+                        throw new BusinessException(ErrorCode.SEQUENCE_MISMATCH);
+                }
+                book.validateWritingPossible(writerId, isAdmin);
+
+                // 3. 문장 생성 및 소설 상태 업데이트
+                Sentence sentence = Sentence.builder()
+                                .book(book)
+                                .writerId(writerId)
+                                .content(request.getContent())
+                                .sequenceNo(ticket.sequenceNo())
+                                .build();
+
+                try {
+                        sentenceRepository.save(sentence);
+                        book.updateStateAfterWriting(writerId);
+                        bookRepository.flush();
+                } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException e) {
+                        throw new BusinessException(ErrorCode.SEQUENCE_MISMATCH);
+                }
+
+                // 4. WebSocket 이벤트 발행 (새 문장 작성)
+                broadcastSentenceCreated(bookId, sentence, writerId);
+
+                return sentence.getSentenceId();
+        }
+
+        /**
+         * 문장 이어 쓰기 (비관적 락 경로)
+         * story.append.arbiter.enabled=false 일 때 사용됩니다.
+         */
+        private Long appendSentenceWithLock(Long bookId, Long writerId, SentenceAppendRequest request) {
                 // 1. 소설 조회 (비관적 락 적용)
                 Book book = bookRepository.findByIdForUpdate(bookId)
                                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
@@ -106,16 +170,39 @@ public class BookService {
                 book.updateStateAfterWriting(writerId);
 
                 // 5. WebSocket 이벤트 발행 (새 문장 작성)
-                String writerNickname = memberIntegrationService.getUserNickname(writerId);
-                messagingTemplate.convertAndSend("/topic/sentences/" + bookId,
+                broadcastSentenceCreated(bookId, sentence, writerId);
+
+                return sentence.getSentenceId();
+        }
+
+        /**
+         * 새 문장 이벤트를 발행합니다.
+         * 닉네임은 Gateway 헤더 값을 사용하며, 전송은 커밋 이후 StoryEventBroadcaster가 수행합니다.
+         */
+        private void broadcastSentenceCreated(Long bookId, Sentence sentence, Long writerId) {
+                eventPublisher.publishEvent(
                                 new SentenceCreatedEvent(
                                                 bookId,
                                                 sentence.getSentenceId(),
                                                 sentence.getContent(),
                                                 sentence.getSequenceNo(),
-                                                writerNickname));
+                                                SecurityUtil.getCurrentUserNickname(),
+                                                writerId));
+                eventPublisher.publishEvent(new BookChangedEvent(bookId));
+        }
 
-                return sentence.getSentenceId();
+        /**
+         * 커밋 이후 순서 중재자의 메모리 상태를 무효화합니다.
+         * 문장 삭제/완결/소설 삭제처럼 순서나 상태를 바꾸는 변경에서 호출합니다.
+         */
+        private void evictSequenceStateAfterCommit(Long bookId) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                                sequenceArbiter.evict(bookId);
+                                appendPipeline.evict(bookId);
+                        }
+                });
         }
 
         /**
@@ -126,6 +213,8 @@ public class BookService {
                                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
 
                 book.completeManually(requesterId);
+                evictSequenceStateAfterCommit(bookId);
+                eventPublisher.publishEvent(new BookChangedEvent(bookId));
 
                 // WebSocket 이벤트 발행 (완결 상태 브로드캐스트)
                 messagingTemplate.convertAndSend("/topic/books/" + bookId + "/status",
@@ -143,6 +232,7 @@ public class BookService {
                 }
 
                 book.updateTitle(title);
+                eventPublisher.publishEvent(new BookChangedEvent(bookId));
         }
 
         public void updateSentence(Long bookId, Long sentenceId, Long requesterId, String content) {
@@ -163,6 +253,7 @@ public class BookService {
                 }
 
                 sentence.updateContent(content);
+                eventPublisher.publishEvent(new BookChangedEvent(bookId));
         }
 
         public void deleteSentence(Long bookId, Long sentenceId, Long requesterId) {
@@ -183,6 +274,9 @@ public class BookService {
                         throw new BusinessException(ErrorCode.SEQUENCE_MISMATCH); // Only last sentence can be deleted
                 }
 
+                evictSequenceStateAfterCommit(bookId);
+                eventPublisher.publishEvent(new BookChangedEvent(bookId));
+
                 int deletedSequence = sentence.getSequenceNo();
                 boolean isLast = (deletedSequence == book.getCurrentSequence() - 1);
 
@@ -216,5 +310,7 @@ public class BookService {
                 }
 
                 bookRepository.delete(book);
+                evictSequenceStateAfterCommit(bookId);
+                eventPublisher.publishEvent(new BookChangedEvent(bookId));
         }
 }
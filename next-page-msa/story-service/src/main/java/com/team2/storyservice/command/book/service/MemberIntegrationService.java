@@ -1,8 +1,6 @@
 package com.team2.storyservice.command.book.service;
 
-import com.team2.commonmodule.feign.MemberServiceClient;
-import com.team2.commonmodule.feign.dto.MemberInfoDto;
-import com.team2.commonmodule.response.ApiResponse;
+import com.team2.commonmodule.feign.cache.MemberInfoCache;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,15 +14,12 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MemberIntegrationService {
 
-    private final MemberServiceClient memberServiceClient;
+    private final MemberInfoCache memberInfoCache;
 
     @CircuitBreaker(name = "default", fallbackMethod = "getNicknameFallback")
     public String getUserNickname(Long userId) {
-        ApiResponse<MemberInfoDto> response = memberServiceClient.getMemberInfo(userId);
-        if (response != null && response.getData() != null) {
-            return response.getData().getUserNicknm();
-        }
-        return "Unknown Writer";
+        String nickname = memberInfoCache.getNickname(userId);
+        return nickname != null ? nickname : "Unknown Writer";
     }
 
     public String getNicknameFallback(Long userId, Throwable t) {
@@ -0,0 +1,454 @@
+package com.team2.storyservice.command.book.service;
+
+import com.team2.commonmodule.error.BusinessException;
+import com.team2.commonmodule.error.ErrorCode;
+import com.team2.commonmodule.util.SecurityUtil;
+import com.team2.storyservice.command.book.entity.Book;
+import com.team2.storyservice.command.book.entity.BookStatus;
+import com.team2.storyservice.command.book.repository.BookRepository;
+import com.team2.storyservice.search.event.BookChangedEvent;
+import com.team2.storyservice.websocket.dto.SentenceCreatedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 문장 이어쓰기 Write-Behind 파이프라인 (Group Commit)
+ *
+ * <p>
+ * story.append.pipeline.enabled=true 일 때만 사용됩니다.
+ * 검증을 통과한 문장은 소설별 대기열(Lane)에 쌓이고, batch-size 만큼 모이거나
+ * max-linger 시간이 지나면 한 트랜잭션으로 묶어 반영됩니다.
+ * (sentences JDBC 배치 INSERT + books UPDATE 1회)
+ * 클라이언트는 해당 배치가 커밋된 뒤에 응답을 받습니다.
+ * </p>
+ *
+ * <p>
+ * ack-timeout-ms 안에 응답하지 못하면, 문장이 아직 대기열에 있는 경우(커밋 전) 그 문장만 대기열에서 빼고
+ * APPEND_QUEUE_TIMEOUT(503)으로 실패 처리하여 재시도해도 중복되지 않게 합니다.
+ * 뒤에 대기 중인 문장은 순서를 하나씩 당겨 그대로 반영됩니다.
+ * 이미 반영 중인 배치에 포함된 경우에는 그 트랜잭션의 결과를 flush-timeout-ms 동안 기다려 그대로 돌려줍니다.
+ * 그 안에도 결과가 없으면(비정상 상황) INTERNAL_SERVER_ERROR로 응답하며, 이때만 저장 여부를 보장하지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 소설별 순서/마지막 작성자 상태는 Lane이 메모리에서 관리하며,
+ * books UPDATE의 current_sequence 조건으로 다른 인스턴스와의 충돌을 감지합니다.
+ * 충돌 시 해당 Lane의 대기 문장은 모두 SEQUENCE_MISMATCH로 실패 처리되고 상태는 다시 적재됩니다.
+ * </p>
+ *
+ * @author 정진호
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SentenceAppendPipeline {
+
+    private static final String INSERT_SENTENCE_SQL = "INSERT INTO sentences "
+            + "(book_id, writer_id, content, sequence_no, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_BOOK_SQL = "UPDATE books SET current_sequence = ?, last_writer_user_id = ?, "
+            + "status = ?, version = version + 1, updated_at = ? WHERE book_id = ? AND current_sequence = ?";
+
+    private static final String SELECT_SENTENCE_IDS_SQL = "SELECT sentence_id, sequence_no FROM sentences "
+            + "WHERE book_id = ? AND sequence_no BETWEEN ? AND ?";
+
+    private final BookRepository bookRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    @Value("${story.append.pipeline.enabled:false}")
+    private boolean enabled;
+
+    @Value("${story.append.pipeline.batch-size:32}")
+    private int batchSize;
+
+    @Value("${story.append.pipeline.max-linger-ms:20}")
+    private long maxLingerMs;
+
+    @Value("${story.append.pipeline.ack-timeout-ms:5000}")
+    private long ackTimeoutMs;
+
+    @Value("${story.append.pipeline.flush-timeout-ms:10000}")
+    private long flushTimeoutMs;
+
+    @Value("${story.append.pipeline.flush-threads:4}")
+    private int flushThreads;
+
+    private ScheduledExecutorService flushExecutor;
+    private TransactionTemplate flushTransaction;
+    private DistributionSummary batchSizeSummary;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        flushExecutor = Executors.newScheduledThreadPool(flushThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sentence-append-flush-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 배치 트랜잭션 시간을 제한하여, 반영 중인 문장의 결과를 기다리는 요청도 유한한 시간 안에 끝나도록 함
+        PlatformTransactionManager transactionManager = transactionTemplate.getTransactionManager();
+        flushTransaction = new TransactionTemplate(transactionManager);
+        flushTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(flushTimeoutMs)));
+        Gauge.builder("story.append.pipeline.queue.depth", queueDepth, AtomicInteger::get)
+                .description("그룹 커밋 대기 중인 문장 수")
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("story.append.pipeline.batch.size")
+                .description("한 번의 커밋으로 반영된 문장 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 문장을 대기열에 넣고, 해당 배치가 커밋될 때까지 기다립니다.
+     *
+     * @return 생성된 문장 ID
+     * @throws BusinessException 규칙 위반, 순서 충돌 또는 대기 시간 초과 (모두 저장되지 않은 경우)
+     */
+    public Long append(Long bookId, Long writerId, boolean isAdmin, String content) {
+        Lane lane = laneOf(bookId);
+        PendingSentence pending = submit(lane, writerId, isAdmin, content);
+        try {
+            try {
+                return pending.ack().get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                return awaitAfterTimeout(lane, pending);
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            log.error("Sentence append pipeline failed for book {}: {}", bookId, e.getCause().getMessage());
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * ack-timeout-ms가 지난 문장 처리
+     * 아직 대기열에 있으면(커밋 전) 그 문장만 실패 처리하고, 반영 중인 배치에 포함되었으면 그 결과를 기다립니다.
+     */
+    private Long awaitAfterTimeout(Lane lane, PendingSentence pending)
+            throws ExecutionException, InterruptedException {
+        if (withdraw(lane, pending)) {
+            log.warn("Sentence append for book {} queued longer than {} ms, failing it", lane.bookId, ackTimeoutMs);
+            throw new BusinessException(ErrorCode.APPEND_QUEUE_TIMEOUT);
+        }
+        // 반영 중인 배치는 flushTransaction 타임아웃(flush-timeout-ms) 안에 커밋 또는 롤백됨
+        try {
+            return pending.ack().get(flushTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.error("Sentence append batch for book {} did not finish within {} ms", lane.bookId, flushTimeoutMs);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 아직 배치에 포함되지 않은 문장을 대기열에서 뺍니다.
+     * 뒤에 대기 중인 문장은 순서를 하나씩 당기며, 빠진 문장 때문에 같은 작성자가 연속하게 된 문장만
+     * CONSECUTIVE_WRITING_NOT_ALLOWED로 함께 실패 처리합니다.
+     *
+     * @return 대기열에서 뺐으면 true, 이미 배치에 포함되어 반영 중이면 false
+     */
+    private boolean withdraw(Lane lane, PendingSentence withdrawn) {
+        List<PendingSentence> rejected = new ArrayList<>();
+        synchronized (lane) {
+            if (lane.queue.stream().noneMatch(queued -> queued.ack() == withdrawn.ack())) {
+                return false;
+            }
+            Deque<PendingSentence> kept = new ArrayDeque<>(lane.queue.size());
+            Long previousWriter = lane.dispatchedWriterUserId;
+            int sequence = lane.queue.peekFirst().sequenceNo();
+            for (PendingSentence queued : lane.queue) {
+                if (queued.ack() == withdrawn.ack()) {
+                    continue;
+                }
+                if (!queued.admin() && queued.writerId().equals(previousWriter)) {
+                    rejected.add(queued);
+                    continue;
+                }
+                kept.addLast(queued.withSequenceNo(sequence++));
+                previousWriter = queued.writerId();
+            }
+            lane.queue.clear();
+            lane.queue.addAll(kept);
+            lane.nextSequence = sequence;
+            lane.lastWriterUserId = previousWriter;
+            lane.completed = lane.nextSequence > lane.maxSequence;
+            queueDepth.addAndGet(-1 - rejected.size());
+        }
+        withdrawn.ack().completeExceptionally(new BusinessException(ErrorCode.APPEND_QUEUE_TIMEOUT));
+        BusinessException consecutive = new BusinessException(ErrorCode.CONSECUTIVE_WRITING_NOT_ALLOWED);
+        rejected.forEach(pending -> pending.ack().completeExceptionally(consecutive));
+        return true;
+    }
+
+    /**
+     * 순서 상태를 바꾸는 다른 변경(문장 삭제, 완결 등) 이후 Lane을 버립니다.
+     * 이미 대기 중인 문장은 books UPDATE 조건 검사에서 걸러집니다.
+     */
+    public void evict(Long bookId) {
+        lanes.remove(bookId);
+    }
+
+    private PendingSentence submit(Lane lane, Long writerId, boolean isAdmin, String content) {
+        PendingSentence pending;
+
+        synchronized (lane) {
+            if (flushExecutor.isShutdown()) {
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+            }
+            if (lane.stale) {
+                throw new BusinessException(ErrorCode.SEQUENCE_MISMATCH);
+            }
+            if (lane.completed) {
+                throw new BusinessException(ErrorCode.ALREADY_COMPLETED);
+            }
+            if (!isAdmin && writerId.equals(lane.lastWriterUserId)) {
+                throw new BusinessException(ErrorCode.CONSECUTIVE_WRITING_NOT_ALLOWED);
+            }
+
+            pending = new PendingSentence(writerId, isAdmin, SecurityUtil.getCurrentUserNickname(), content,
+                    lane.nextSequence, new CompletableFuture<>());
+            lane.nextSequence++;
+            lane.lastWriterUserId = writerId;
+            lane.completed = lane.nextSequence > lane.maxSequence;
+            lane.queue.addLast(pending);
+            queueDepth.incrementAndGet();
+
+            if (!lane.flushScheduled) {
+                lane.flushScheduled = true;
+                long delay = lane.queue.size() >= batchSize ? 0 : maxLingerMs;
+                try {
+                    flushExecutor.schedule(() -> flush(lane), delay, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    lane.flushScheduled = false;
+                    abandonLane(lane, new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR));
+                }
+            }
+        }
+        return pending;
+    }
+
+    private Lane laneOf(Long bookId) {
+        Lane lane = lanes.get(bookId);
+        if (lane != null) {
+            return lane;
+        }
+        Book book = bookRepository.findById(bookId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+        Lane loaded = new Lane(book);
+        Lane existing = lanes.putIfAbsent(bookId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private void flush(Lane lane) {
+        List<PendingSentence> batch = new ArrayList<>(batchSize);
+        int committedSequence;
+        synchronized (lane) {
+            while (!lane.queue.isEmpty() && batch.size() < batchSize) {
+                batch.add(lane.queue.pollFirst());
+            }
+            if (!batch.isEmpty()) {
+                lane.dispatchedWriterUserId = batch.get(batch.size() - 1).writerId();
+            }
+            committedSequence = lane.committedSequence;
+        }
+        queueDepth.addAndGet(-batch.size());
+
+        try {
+            Map<Integer, Long> sentenceIds = flushTransaction
+                    .execute(status -> writeBatch(lane, committedSequence, batch));
+            batchSizeSummary.record(batch.size());
+
+            synchronized (lane) {
+                lane.committedSequence = committedSequence + batch.size();
+            }
+            for (PendingSentence pending : batch) {
+                pending.ack().complete(sentenceIds.get(pending.sequenceNo()));
+            }
+            broadcast(lane.bookId, batch, sentenceIds);
+        } catch (RuntimeException e) {
+            failLane(lane, batch, e);
+        } finally {
+            rescheduleIfPending(lane);
+        }
+    }
+
+    private Map<Integer, Long> writeBatch(Lane lane, int expectedSequence, List<PendingSentence> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SENTENCE_SQL, batch, batch.size(), (ps, pending) -> {
+            ps.setLong(1, lane.bookId);
+            ps.setLong(2, pending.writerId());
+            ps.setString(3, pending.content());
+            ps.setInt(4, pending.sequenceNo());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+
+        PendingSentence last = batch.get(batch.size() - 1);
+        int nextSequence = last.sequenceNo() + 1;
+        String status = nextSequence > lane.maxSequence ? BookStatus.COMPLETED.name() : BookStatus.WRITING.name();
+
+        int updated = jdbcTemplate.update(UPDATE_BOOK_SQL,
+                nextSequence, last.writerId(), status, now, lane.bookId, expectedSequence);
+        if (updated != 1) {
+            // 다른 인스턴스나 경로에서 순서가 바뀐 경우
+            throw new BusinessException(ErrorCode.SEQUENCE_MISMATCH);
+        }
+
+        Map<Integer, Long> sentenceIds = new HashMap<>();
+        jdbcTemplate.query(SELECT_SENTENCE_IDS_SQL,
+                rs -> {
+                    sentenceIds.put(rs.getInt("sequence_no"), rs.getLong("sentence_id"));
+                },
+                lane.bookId, batch.get(0).sequenceNo(), last.sequenceNo());
+        return sentenceIds;
+    }
+
+    /**
+     * 배치 반영 실패 시 이후 순서를 예약한 대기 문장까지 모두 실패 처리하고 Lane을 버립니다.
+     */
+    private void failLane(Lane lane, List<PendingSentence> batch, RuntimeException cause) {
+        BusinessException error = cause instanceof BusinessException businessException
+                ? businessException
+                : new BusinessException(ErrorCode.SEQUENCE_MISMATCH);
+        if (!(cause instanceof BusinessException)) {
+            log.warn("Sentence append batch failed for book {}: {}", lane.bookId, cause.getMessage());
+        }
+        batch.forEach(pending -> pending.ack().completeExceptionally(error));
+        abandonLane(lane, error);
+    }
+
+    /**
+     * 대기열에 남은(아직 배치에 포함되지 않은) 문장을 모두 실패 처리하고 Lane을 버립니다.
+     */
+    private void abandonLane(Lane lane, BusinessException error) {
+        List<PendingSentence> failed;
+        synchronized (lane) {
+            lane.stale = true;
+            failed = new ArrayList<>(lane.queue);
+            queueDepth.addAndGet(-lane.queue.size());
+            lane.queue.clear();
+        }
+        lanes.remove(lane.bookId, lane);
+        failed.forEach(pending -> pending.ack().completeExceptionally(error));
+    }
+
+    private void rescheduleIfPending(Lane lane) {
+        synchronized (lane) {
+            if (lane.queue.isEmpty()) {
+                lane.flushScheduled = false;
+                return;
+            }
+            long delay = lane.queue.size() >= batchSize ? 0 : maxLingerMs;
+            try {
+                flushExecutor.schedule(() -> flush(lane), delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // 종료 중: 남은 문장은 반영되지 않으므로 바로 실패 처리
+                lane.flushScheduled = false;
+                abandonLane(lane, new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR));
+            }
+        }
+    }
+
+    private void broadcast(Long bookId, List<PendingSentence> batch, Map<Integer, Long> sentenceIds) {
+        // 트랜잭션 밖에서 발행되므로 StoryEventBroadcaster가 즉시(비동기) 전송
+        for (PendingSentence pending : batch) {
+            eventPublisher.publishEvent(
+                    new SentenceCreatedEvent(
+                            bookId,
+                            sentenceIds.get(pending.sequenceNo()),
+                            pending.content(),
+                            pending.sequenceNo(),
+                            pending.writerNickname(),
+                            pending.writerId()));
+        }
+        eventPublisher.publishEvent(new BookChangedEvent(bookId));
+    }
+
+    /**
+     * 소설별 대기열과 메모리 순서 상태
+     */
+    private static final class Lane {
+        private final Long bookId;
+        private final int maxSequence;
+        private final Deque<PendingSentence> queue = new ArrayDeque<>();
+
+        private int committedSequence; // DB에 반영된 current_sequence
+        private int nextSequence; // 다음 대기 문장에 부여할 순서
+        private Long lastWriterUserId; // 마지막 대기 문장의 작성자
+        private Long dispatchedWriterUserId; // 대기열 맨 앞 문장 직전(배치에 포함된) 문장의 작성자
+        private boolean completed;
+        private boolean flushScheduled;
+        private boolean stale;
+
+        private Lane(Book book) {
+            this.bookId = book.getBookId();
+            this.maxSequence = book.getMaxSequence();
+            this.committedSequence = book.getCurrentSequence();
+            this.nextSequence = book.getCurrentSequence();
+            this.lastWriterUserId = book.getLastWriterUserId();
+            this.dispatchedWriterUserId = book.getLastWriterUserId();
+            this.completed = book.getStatus() != BookStatus.WRITING;
+        }
+    }
+
+    private record PendingSentence(Long writerId, boolean admin, String writerNickname, String content,
+            int sequenceNo, CompletableFuture<Long> ack) {
+
+        private PendingSentence withSequenceNo(int sequenceNo) {
+            return new PendingSentence(writerId, admin, writerNickname, content, sequenceNo, ack);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.team2.storyservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 실행 설정
+ *
+ * <p>
+ * 커밋 이후 WebSocket 브로드캐스트(닉네임 조회 포함)를 요청 스레드와 분리합니다.
+ * 큐가 가득 차면 호출 스레드에서 실행되며, 이 시점에는 이미 트랜잭션과 락이 해제된 상태입니다.
+ * </p>
+ *
+ * @author 정진호
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String BROADCAST_EXECUTOR = "broadcastExecutor";
+
+    @Bean(name = BROADCAST_EXECUTOR)
+    public ThreadPoolTaskExecutor broadcastExecutor(
+            @Value("${story.broadcast.executor.core-size:2}") int coreSize,
+            @Value("${story.broadcast.executor.max-size:4}") int maxSize,
+            @Value("${story.broadcast.executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("story-broadcast-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        executor.initialize();
+        return executor;
+    }
+}
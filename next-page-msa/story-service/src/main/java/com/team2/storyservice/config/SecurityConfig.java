@@ -61,6 +61,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/books").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/books/{bookId}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/books/{bookId}/view").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/books/{bookId}/sentences").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/books/live").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/books/{bookId}/readers").permitAll()
 
                         // 카테고리 조회 API - GET 요청만 누구나 접근 가능
                         .requestMatchers(HttpMethod.GET, "/api/categories/**").permitAll()
@@ -1,35 +1,135 @@
 package com.team2.storyservice.config;
 
+import com.team2.commonmodule.websocket.codec.CompactFormatNegotiator;
+import com.team2.commonmodule.websocket.transport.SlowConsumerGuard;
+import com.team2.commonmodule.websocket.transport.StompChannelExecutors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
- * WebSocket ?ㅼ젙
- * ?ㅼ떆媛??낅젰 ?곹깭 ?뚮┝???꾪븳 STOMP ?꾨줈?좎퐳 ?ㅼ젙
+ * WebSocket 설정
+ * 실시간 입력 상태/문장 알림을 위한 STOMP 프로토콜 설정
  *
- * @author ?뺤쭊??
+ * <p>
+ * websocket.broker.mode로 브로커를 선택합니다.
+ * </p>
+ * <ul>
+ * <li>simple (기본): 인스턴스 내장 브로커. 같은 인스턴스에 연결된 구독자에게만 전달됩니다.</li>
+ * <li>relay: 외부 STOMP 브로커(ActiveMQ 등)로 중계. story-service/reaction-service의 모든 인스턴스가
+ * 같은 브로커를 사용하므로, 어느 인스턴스에 연결된 구독자도 다른 인스턴스/서비스가 보낸 메시지
+ * (예: reaction-service의 /topic/books/{bookId}/votes)를 받습니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 인바운드/아웃바운드 채널은 {@link StompChannelExecutors}의 크기가 제한된 실행기를 사용하고,
+ * 세션별 송신 시간/버퍼 제한과 {@link SlowConsumerGuard}로 느린 클라이언트가 다른 구독자의 전송을 막지 않도록 합니다.
+ * 구독 시 content-type으로 Compact 형식을 요청하면 {@link CompactFormatNegotiator}가 해당 구독에 Compact 본문을 보냅니다.
+ * </p>
+ *
+ * @author 정진호
  */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompChannelExecutors channelExecutors;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final CompactFormatNegotiator compactFormatNegotiator;
+
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${websocket.broker.relay.heartbeat-ms:10000}")
+    private long relayHeartbeatMs;
+
+    @Value("${websocket.transport.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.transport.send-buffer-size-limit:262144}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // ?대씪?댁뼵?몃줈 硫붿떆吏瑜??꾨떖??prefix: /topic
-        config.enableSimpleBroker("/topic");
+        // 클라이언트로 메시지를 전달할 prefix: /topic
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    // 클라이언트 세션과 서버 발행용(System) 세션 모두 같은 계정 사용
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setSystemHeartbeatSendInterval(relayHeartbeatMs)
+                    .setSystemHeartbeatReceiveInterval(relayHeartbeatMs);
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+            log.info("STOMP broker relay enabled: {}:{}", relayHost, relayPort);
+        } else {
+            config.enableSimpleBroker("/topic");
+        }
 
-        // ?대씪?댁뼵?몄뿉???쒕쾭濡?硫붿떆吏瑜?蹂대궪 ???ъ슜??prefix: /app
+        // 클라이언트에서 서버로 메시지를 보낼 때 사용할 prefix: /app
         config.setApplicationDestinationPrefixes("/app");
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
-        // WebSocket ?곌껐 endpoint: /ws
+        // WebSocket 연결 endpoint: /ws
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
-                .withSockJS(); // SockJS fallback 吏??
+                .withSockJS(); // SockJS fallback 지원
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(channelExecutors.inbound());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(channelExecutors.outbound())
+                // 느린 세션 프레임을 먼저 버린 뒤, 남은 메시지만 구독별 형식(JSON/Compact)으로 변환
+                .interceptors(slowConsumerGuard, compactFormatNegotiator);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 세션별 송신 제한: 한 프레임 전송이 send-time-limit-ms를 넘기거나
+        // 밀린 프레임이 send-buffer-size-limit를 넘으면 해당 세션만 종료
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(slowConsumerGuard);
     }
 }
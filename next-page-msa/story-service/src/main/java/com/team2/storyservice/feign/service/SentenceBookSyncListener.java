@@ -0,0 +1,44 @@
+package com.team2.storyservice.feign.service;
+
+import com.team2.commonmodule.feign.ReactionServiceClient;
+import com.team2.storyservice.config.AsyncConfig;
+import com.team2.storyservice.websocket.dto.SentenceCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+/**
+ * 문장-소설 매핑 전달기 (story-service → reaction-service)
+ *
+ * <p>
+ * 문장 생성이 커밋되면 reaction-service에 sentenceId → bookId 매핑을 전달합니다.
+ * reaction-service는 이 매핑을 로컬에 보관하여 문장 투표 알림 채널을 계산할 때
+ * {@code GET /api/sentences/{sentenceId}/book-id}를 호출하지 않습니다.
+ * 전달에 실패해도 reaction-service가 필요할 때 직접 조회하므로 로그만 남깁니다.
+ * </p>
+ *
+ * @author 정진호
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SentenceBookSyncListener {
+
+    private final ReactionServiceClient reactionServiceClient;
+
+    @Async(AsyncConfig.BROADCAST_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSentenceCreated(SentenceCreatedEvent event) {
+        try {
+            reactionServiceClient.registerSentenceBooks(Map.of(event.getSentenceId(), event.getBookId()));
+        } catch (Exception e) {
+            log.warn("Failed to register sentence {} of book {} to reaction-service: {}",
+                    event.getSentenceId(), event.getBookId(), e.getMessage());
+        }
+    }
+}
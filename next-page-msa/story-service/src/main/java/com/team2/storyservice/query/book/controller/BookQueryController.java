@@ -12,8 +12,10 @@ import com.team2.storyservice.query.book.dto.response.BookDto;
 import com.team2.storyservice.query.book.dto.response.BookPageResponse;
 import com.team2.storyservice.query.book.dto.response.SentenceDto;
 import com.team2.storyservice.query.book.dto.response.SentencePageResponse;
+import com.team2.storyservice.query.book.dto.response.SentenceWindowResponse;
 import com.team2.storyservice.query.book.service.BookQueryService;
 import com.team2.commonmodule.response.ApiResponse;
+import com.team2.commonmodule.response.ResponseCacheControl;
 import com.team2.commonmodule.util.SecurityUtil;
 import com.team2.commonmodule.error.BusinessException;
 import com.team2.commonmodule.error.ErrorCode;
@@ -57,10 +59,10 @@ public class BookQueryController {
         if (result.getContent() != null) {
             for (BookDto book : result.getContent()) {
                 book.add(linkTo(methodOn(BookQueryController.class).detail(book.getBookId())).withSelfRel());
-                book.add(linkTo(methodOn(BookQueryController.class).view(book.getBookId())).withRel("view"));
+                book.add(linkTo(methodOn(BookQueryController.class).view(book.getBookId(), true, null)).withRel("view"));
             }
         }
-        return ResponseEntity.ok(ApiResponse.success(result));
+        return ResponseEntity.ok().cacheControl(ResponseCacheControl.shared()).body(ApiResponse.success(result));
     }
 
     /**
@@ -77,7 +79,7 @@ public class BookQueryController {
 
         // HATEOAS Links (cross-service links removed for MSA)
         book.add(linkTo(methodOn(BookQueryController.class).detail(bookId)).withSelfRel());
-        book.add(linkTo(methodOn(BookQueryController.class).view(bookId)).withRel("view"));
+        book.add(linkTo(methodOn(BookQueryController.class).view(bookId, true, null)).withRel("view"));
         // Cross-service links (e.g. to reactions) are handled by API Gateway or
         // Frontend
 
@@ -88,17 +90,27 @@ public class BookQueryController {
      * 소설 뷰어 모드 조회 API (문장 목록 포함)
      * GET /api/books/{bookId}/view
      *
-     * @param bookId 소설 ID
+     * @param bookId           소설 ID
+     * @param includeSentences false면 문장 목록 제외 (문장은 /sentences 구간 조회 사용)
+     * @param personal         false면 myVote 없는 공유 응답 (Gateway/브라우저 캐시 가능, 기본 true)
      * @return 소설 상세 정보 (문장 목록, 투표 통계 포함)
      */
-    @Operation(summary = "소설 뷰어 조회", description = "소설의 전체 문장을 포함하여 읽기 모드로 조회합니다.")
+    @Operation(summary = "소설 뷰어 조회", description = "소설의 전체 문장을 포함하여 읽기 모드로 조회합니다. "
+            + "includeSentences=false면 문장 목록 없이 조회합니다. "
+            + "personal=false면 내 투표 상태 없이 공유 응답을 반환합니다. (내 투표는 GET /api/reactions/me/votes)")
     @GetMapping("/{bookId}/view")
-    public ResponseEntity<ApiResponse<BookDetailDto>> view(@PathVariable Long bookId) {
-        BookDetailDto bookDetail = bookQueryService.getBookForViewer(bookId);
+    public ResponseEntity<ApiResponse<BookDetailDto>> view(@PathVariable Long bookId,
+            @RequestParam(defaultValue = "true") boolean includeSentences,
+            @RequestParam(required = false) Boolean personal) {
+        boolean shared = Boolean.FALSE.equals(personal);
+        BookDetailDto bookDetail = bookQueryService.getBookForViewer(bookId, includeSentences, !shared);
 
         // HATEOAS Links (cross-service links removed for MSA)
-        bookDetail.add(linkTo(methodOn(BookQueryController.class).view(bookId)).withSelfRel());
+        bookDetail.add(linkTo(methodOn(BookQueryController.class).view(bookId, includeSentences, personal))
+                .withSelfRel());
         bookDetail.add(linkTo(methodOn(BookQueryController.class).detail(bookId)).withRel("detail"));
+        bookDetail.add(linkTo(methodOn(BookQueryController.class).sentences(bookId, 0, 50, personal))
+                .withRel("sentences"));
         // Cross-service links handled by API Gateway
 
         if ("IN_PROGRESS".equals(bookDetail.getStatus())) {
@@ -107,7 +119,29 @@ public class BookQueryController {
 
         // Sentence vote links are handled by API Gateway or Frontend
 
-        return ResponseEntity.ok().body(ApiResponse.success(bookDetail));
+        return ResponseEntity.ok().cacheControl(ResponseCacheControl.viewer(shared)).body(ApiResponse.success(bookDetail));
+    }
+
+    /**
+     * 소설 문장 구간 조회 API (Keyset 페이징)
+     * GET /api/books/{bookId}/sentences?afterSeq=0&limit=50
+     *
+     * @param bookId   소설 ID
+     * @param afterSeq 이 순서 이후의 문장부터 조회 (처음이면 0)
+     * @param limit    조회할 문장 수
+     * @param personal false면 myVote 없는 공유 응답 (기본 true)
+     * @return 문장 구간 (작성자 닉네임, 투표 통계 포함)과 다음 커서
+     */
+    @Operation(summary = "소설 문장 구간 조회", description = "sequence_no 기준으로 afterSeq 이후의 문장을 limit 개씩 조회합니다. "
+            + "personal=false면 내 투표 상태 없이 공유 응답을 반환합니다.")
+    @GetMapping("/{bookId}/sentences")
+    public ResponseEntity<ApiResponse<SentenceWindowResponse>> sentences(@PathVariable Long bookId,
+            @RequestParam(defaultValue = "0") int afterSeq,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) Boolean personal) {
+        boolean shared = Boolean.FALSE.equals(personal);
+        SentenceWindowResponse response = bookQueryService.getSentenceWindow(bookId, afterSeq, limit, !shared);
+        return ResponseEntity.ok().cacheControl(ResponseCacheControl.viewer(shared)).body(ApiResponse.success(response));
     }
 
     /**
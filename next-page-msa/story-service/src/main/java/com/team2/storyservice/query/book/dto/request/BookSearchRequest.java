@@ -1,9 +1,12 @@
 package com.team2.storyservice.query.book.dto.request;
 
+import com.team2.commonmodule.util.KeysetCursor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 /**
  * 소설 검색 요청 DTO (페이지, 정렬, 필터링)
  *
@@ -25,13 +28,69 @@ public class BookSearchRequest {
     // 필터링
     private String status; // 상태 필터 (WRITING, COMPLETED)
     private String categoryId; // 카테고리 필터
-    private String keyword; // 제목 검색 키워드
+    private String keyword; // 제목/본문 검색 키워드 (전문 검색 색인 사용 시 관련도 순)
     private Long writerId; // 작성자 ID 필터
 
+    // 커서 페이징 (이전 응답의 nextCursor, 있으면 page/OFFSET 대신 Keyset 조건으로 조회)
+    private String cursor;
+
+    // 전체 개수 계산 방식 (잘못된 값은 400 응답)
+    private TotalMode totalMode = TotalMode.EXACT;
+
+    /**
+     * 전체 개수 계산 방식
+     */
+    public enum TotalMode {
+        EXACT, // 매번 COUNT
+        CACHED, // 필터별 캐시된 COUNT
+        NONE // 계산하지 않음
+    }
+
     /**
      * 페이지 오프셋 계산
      */
     public Integer getOffset() {
         return page * size;
     }
+
+    /**
+     * 조회 건수 (다음 페이지 존재 여부 확인용으로 1건 더 조회)
+     */
+    public Integer getFetchSize() {
+        return size + 1;
+    }
+
+    public boolean isTitleSort() {
+        return "title".equals(sortBy);
+    }
+
+    public boolean isAscending() {
+        return "ASC".equals(sortOrder);
+    }
+
+    public boolean isTotalRequired() {
+        return totalMode != TotalMode.NONE;
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    /**
+     * 커서의 정렬 키 값 (title 정렬이면 제목, 그 외에는 created_at)
+     */
+    public String getCursorValue() {
+        return hasCursor() ? KeysetCursor.decode(cursor).sortValue() : null;
+    }
+
+    public LocalDateTime getCursorCreatedAt() {
+        return hasCursor() && !isTitleSort() ? LocalDateTime.parse(getCursorValue()) : null;
+    }
+
+    /**
+     * 커서의 동률 구분 키 (book_id)
+     */
+    public Long getCursorBookId() {
+        return hasCursor() ? KeysetCursor.decode(cursor).id() : null;
+    }
 }
@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.hateoas.RepresentationModel;
@@ -36,4 +37,27 @@ public class BookDetailDto extends RepresentationModel<BookDetailDto> {
     private Integer likeCount; // 좋아요 수
     private Integer dislikeCount; // 싫어요 수
     private String myVote; // 내 투표 상태 (LIKE/DISLIKE/null)
+
+    /**
+     * 링크를 제외한 필드 복사본 (문장 목록도 각각 복사)
+     */
+    public BookDetailDto copy() {
+        BookDetailDto copy = new BookDetailDto();
+        copy.bookId = bookId;
+        copy.writerId = writerId;
+        copy.writerNicknm = writerNicknm;
+        copy.categoryId = categoryId;
+        copy.title = title;
+        copy.status = status;
+        copy.currentSequence = currentSequence;
+        copy.maxSequence = maxSequence;
+        copy.lastWriterUserId = lastWriterUserId;
+        copy.createdAt = createdAt;
+        copy.sentences = sentences != null ? new ArrayList<>(sentences.stream().map(SentenceDto::copy).toList())
+                : null;
+        copy.likeCount = likeCount;
+        copy.dislikeCount = dislikeCount;
+        copy.myVote = myVote;
+        return copy;
+    }
 }
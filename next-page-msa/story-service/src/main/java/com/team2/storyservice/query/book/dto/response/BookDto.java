@@ -25,4 +25,6 @@ public class BookDto extends RepresentationModel<BookDto> {
     private Integer currentSequence;
     private Integer maxSequence;
     private LocalDateTime createdAt;
+    private String titleHighlight; // 전문 검색 시 일치 부분 강조 (<b>...</b>)
+    private String contentHighlight; // 전문 검색 시 본문 일치 구간 발췌
 }
@@ -17,10 +17,11 @@ public class BookPageResponse {
     private List<BookDto> content; // 소설 목록
     private Integer page; // 현재 페이지 번호
     private Integer size; // 페이지 크기
-    private Long totalElements; // 전체 요소 수
+    private Long totalElements; // 전체 요소 수 (totalMode=NONE이면 null, CACHED면 근사값)
     private Integer totalPages; // 전체 페이지 수
     private Boolean hasNext; // 다음 페이지 존재 여부
     private Boolean hasPrevious; // 이전 페이지 존재 여부
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
 
     public BookPageResponse(List<BookDto> content, Integer page, Integer size, Long totalElements) {
         this.content = content;
@@ -31,4 +32,19 @@ public class BookPageResponse {
         this.hasNext = page < totalPages - 1;
         this.hasPrevious = page > 0;
     }
+
+    /**
+     * 실제 조회 결과로 다음 페이지 여부를 판단하는 생성자 (커서 페이징/근사 개수용)
+     */
+    public BookPageResponse(List<BookDto> content, Integer page, Integer size, Long totalElements,
+            boolean hasNext, boolean hasPrevious, String nextCursor) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalElements != null ? (int) Math.ceil((double) totalElements / size) : null;
+        this.hasNext = hasNext;
+        this.hasPrevious = hasPrevious;
+        this.nextCursor = nextCursor;
+    }
 }
@@ -27,4 +27,23 @@ public class SentenceDto extends RepresentationModel<SentenceDto> {
     private String myVote; // 내 투표 상태 (LIKE/DISLIKE/null)
     private Long bookId; // 소설 ID
     private String bookTitle; // 소설 제목
+
+    /**
+     * 링크를 제외한 필드 복사본
+     */
+    public SentenceDto copy() {
+        SentenceDto copy = new SentenceDto();
+        copy.sentenceId = sentenceId;
+        copy.sequenceNo = sequenceNo;
+        copy.content = content;
+        copy.writerId = writerId;
+        copy.writerNicknm = writerNicknm;
+        copy.createdAt = createdAt;
+        copy.likeCount = likeCount;
+        copy.dislikeCount = dislikeCount;
+        copy.myVote = myVote;
+        copy.bookId = bookId;
+        copy.bookTitle = bookTitle;
+        return copy;
+    }
 }
@@ -0,0 +1,28 @@
+package com.team2.storyservice.query.book.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.util.List;
+
+/**
+ * 문장 구간 조회 응답 (sequence_no 기준 Keyset 페이징)
+ *
+ * @author 정진호
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SentenceWindowResponse {
+    private List<SentenceDto> content;
+    private Integer afterSeq; // 요청한 커서
+    private Integer nextAfterSeq; // 다음 요청에 사용할 커서 (마지막 문장의 순서)
+    private Boolean hasNext;
+
+    public SentenceWindowResponse(List<SentenceDto> content, Integer afterSeq, Boolean hasNext) {
+        this.content = content;
+        this.afterSeq = afterSeq;
+        this.nextAfterSeq = content.isEmpty() ? afterSeq : content.get(content.size() - 1).getSequenceNo();
+        this.hasNext = hasNext;
+    }
+}
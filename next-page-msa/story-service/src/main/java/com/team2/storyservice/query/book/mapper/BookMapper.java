@@ -41,6 +41,28 @@ public interface BookMapper {
      */
     List<SentenceDto> findSentencesByBookId(@Param("bookId") Long bookId, @Param("userId") Long userId);
 
+    /**
+     * 소설의 문장 구간 조회 (sequence_no 기준 Keyset 페이징)
+     *
+     * @param afterSeq 이 순서 이후의 문장부터 조회 (처음이면 0)
+     * @param limit    조회할 최대 문장 수
+     */
+    List<SentenceDto> findSentenceWindow(@Param("bookId") Long bookId, @Param("afterSeq") int afterSeq,
+            @Param("limit") int limit);
+
+    /**
+     * 여러 소설 기본 정보 일괄 조회 (검색 색인 결과 조회용, 순서 보장 안 함)
+     */
+    List<BookDto> findBooksByIds(@Param("bookIds") List<Long> bookIds);
+
+    /**
+     * 소설 ID 목록 조회 (book_id 기준 Keyset 페이징, 색인 재구축용)
+     *
+     * @param afterId 이 ID 이후의 소설부터 조회 (처음이면 0)
+     * @param limit   조회할 최대 개수
+     */
+    List<Long> findBookIdsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
     /**
      * 기존 메서드 (하위 호환용)
      */
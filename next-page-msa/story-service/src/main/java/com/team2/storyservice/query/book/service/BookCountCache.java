@@ -0,0 +1,44 @@
+package com.team2.storyservice.query.book.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team2.storyservice.query.book.dto.request.BookSearchRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 소설 검색 결과 개수 캐시 (totalMode=CACHED)
+ *
+ * <p>
+ * 필터 조합(status, categoryId, keyword, writerId)별 COUNT(*) 결과를 짧게 보관합니다.
+ * 페이지를 넘길 때마다 같은 COUNT를 반복 실행하지 않도록 하며, 값은 TTL 동안 근사값입니다.
+ * </p>
+ *
+ * @author 정진호
+ */
+@Component
+public class BookCountCache {
+
+    private final Cache<String, Long> cache;
+
+    public BookCountCache(
+            @Value("${story.book-search.count-cache.max-size:1000}") long maxSize,
+            @Value("${story.book-search.count-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Long get(BookSearchRequest request, Supplier<Long> counter) {
+        return cache.get(keyOf(request), key -> counter.get());
+    }
+
+    private String keyOf(BookSearchRequest request) {
+        return request.getStatus() + "|" + request.getCategoryId() + "|" + request.getWriterId() + "|"
+                + request.getKeyword();
+    }
+}
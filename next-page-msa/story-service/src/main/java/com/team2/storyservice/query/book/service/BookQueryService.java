@@ -1,28 +1,40 @@
 package com.team2.storyservice.query.book.service;
 
-import com.team2.commonmodule.feign.MemberServiceClient;
 import com.team2.commonmodule.feign.ReactionServiceClient;
-import com.team2.commonmodule.feign.dto.MemberBatchInfoDto;
-import com.team2.commonmodule.feign.dto.MemberInfoDto;
+import com.team2.commonmodule.feign.cache.MemberInfoCache;
+import com.team2.commonmodule.feign.dto.BookReactionInfoDto;
+import com.team2.commonmodule.feign.dto.MyVotesDto;
 import com.team2.commonmodule.feign.dto.SentenceReactionInfoDto;
 import com.team2.commonmodule.response.ApiResponse;
 import com.team2.commonmodule.util.SecurityUtil;
+import com.team2.commonmodule.util.KeysetCursor;
 import com.team2.storyservice.query.book.dto.request.BookSearchRequest;
+import com.team2.storyservice.query.book.dto.request.BookSearchRequest.TotalMode;
 import com.team2.storyservice.query.book.dto.response.BookDetailDto;
 import com.team2.storyservice.query.book.dto.response.BookDto;
 import com.team2.storyservice.query.book.dto.response.BookPageResponse;
 import com.team2.storyservice.query.book.dto.response.SentenceDto;
 import com.team2.storyservice.query.book.dto.response.SentencePageResponse;
+import com.team2.storyservice.query.book.dto.response.SentenceWindowResponse;
 import com.team2.storyservice.query.book.mapper.BookMapper;
+import com.team2.storyservice.search.dto.BookSearchHit;
+import com.team2.storyservice.search.dto.BookSearchResult;
+import com.team2.storyservice.search.service.BookSearchIndex;
 import com.team2.commonmodule.error.BusinessException;
 import com.team2.commonmodule.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -37,19 +49,101 @@ import java.util.stream.Collectors;
 public class BookQueryService {
 
     private final BookMapper bookMapper;
-    private final MemberServiceClient memberServiceClient;
+    private final MemberInfoCache memberInfoCache;
     private final ReactionServiceClient reactionServiceClient;
+    private final ViewerEnrichmentExecutor enrichmentExecutor;
+    private final BookCountCache bookCountCache;
+    private final BookSearchIndex searchIndex;
+    private final ViewerLoadCoalescer viewerLoadCoalescer;
+
+    // 문장 구간 조회 시 한 번에 내려줄 최대 문장 수
+    @Value("${story.viewer.window.max-size:100}")
+    private int maxWindowSize;
 
     /**
      * 소설 검색/목록 조회 (페이징/정렬/필터링)
      *
-     * @param request 검색 조건 (페이지, 정렬, 필터)
-     * @return 페이징된 소설 목록
+     * <p>
+     * cursor가 있으면 OFFSET 대신 (정렬 키, book_id) Keyset 조건으로 조회하므로
+     * 깊은 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+     * totalMode로 전체 개수 계산 방식(EXACT/CACHED/NONE)을 선택할 수 있습니다.
+     * </p>
+     *
+     * @param request 검색 조건 (페이지 또는 커서, 정렬, 필터)
+     * @return 페이징된 소설 목록 (nextCursor 포함)
      */
     public BookPageResponse searchBooks(BookSearchRequest request) {
-        // 검색 조건에 맞는 소설 목록 조회
-        List<BookDto> books = bookMapper.findBooks(request);
+        // 키워드 검색은 전문 검색 색인 사용 (관련도 순, 2글자 미만이면 LIKE 검색으로 대체)
+        if (request.getKeyword() != null && !request.getKeyword().isBlank() && searchIndex.isAvailable()) {
+            BookPageResponse response = searchBooksByIndex(request);
+            if (response != null) {
+                return response;
+            }
+        }
+
+        validateCursor(request);
+
+        // 검색 조건에 맞는 소설 목록 조회 (size + 1건)
+        List<BookDto> rows = bookMapper.findBooks(request);
+        boolean hasNext = rows.size() > request.getSize();
+        List<BookDto> books = hasNext ? new ArrayList<>(rows.subList(0, request.getSize())) : rows;
+
+        populateWriterNicknames(books);
+
+        // 전체 개수 조회 (페이징 정보용)
+        Long totalElements = switch (request.getTotalMode() == null ? TotalMode.EXACT : request.getTotalMode()) {
+            case NONE -> null;
+            case CACHED -> bookCountCache.get(request, () -> bookMapper.countBooks(request));
+            case EXACT -> bookMapper.countBooks(request);
+        };
+
+        String nextCursor = null;
+        if (hasNext) {
+            BookDto last = books.get(books.size() - 1);
+            String sortValue = request.isTitleSort() ? last.getTitle() : last.getCreatedAt().toString();
+            nextCursor = KeysetCursor.encode(sortValue, last.getBookId());
+        }
+
+        boolean hasPrevious = request.hasCursor() || request.getPage() > 0;
+        return new BookPageResponse(books, request.getPage(), request.getSize(), totalElements,
+                hasNext, hasPrevious, nextCursor);
+    }
+
+    /**
+     * 전문 검색 색인으로 소설 검색 (관련도 순, page 기반 페이징, cursor/정렬 조건은 무시)
+     *
+     * @return 검색 결과, 색인으로 검색할 수 없는 키워드면 null
+     */
+    private BookPageResponse searchBooksByIndex(BookSearchRequest request) {
+        BookSearchResult result = searchIndex.search(request, request.isTotalRequired());
+        if (result == null) {
+            return null;
+        }
+
+        // 색인 결과 순서대로 DB에서 최신 정보 조회 (색인 반영 전 삭제된 소설은 제외)
+        List<BookDto> books = new ArrayList<>(result.hits().size());
+        if (!result.hits().isEmpty()) {
+            Map<Long, BookDto> bookMap = bookMapper.findBooksByIds(
+                    result.hits().stream().map(BookSearchHit::bookId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(BookDto::getBookId, book -> book));
+            for (BookSearchHit hit : result.hits()) {
+                BookDto book = bookMap.get(hit.bookId());
+                if (book != null) {
+                    book.setTitleHighlight(hit.titleHighlight());
+                    book.setContentHighlight(hit.contentHighlight());
+                    books.add(book);
+                }
+            }
+        }
+
+        populateWriterNicknames(books);
+
+        return new BookPageResponse(books, request.getPage(), request.getSize(), result.totalHits(),
+                result.hasNext(), request.getPage() > 0, null);
+    }
 
+    private void populateWriterNicknames(List<BookDto> books) {
         // MSA: 작가 정보 조회 (Feign Client)
         if (!books.isEmpty()) {
             // 작성자 ID 목록 수집 (중복 제거)
@@ -60,26 +154,28 @@ public class BookQueryService {
 
             // 일괄 조회로 N+1 문제 방지
             try {
-                ApiResponse<MemberBatchInfoDto> response = memberServiceClient.getMembersBatch(writerIds);
-                if (response != null && response.getData() != null) {
-                    Map<Long, String> memberMap = response.getData().getMembers().stream()
-                            .collect(Collectors.toMap(
-                                    MemberInfoDto::getUserId,
-                                    MemberInfoDto::getUserNicknm));
-
-                    // 각 소설의 작성자 닉네임 설정
-                    books.forEach(book -> book.setWriterNicknm(memberMap.get(book.getWriterId())));
-                }
+                // Near Cache: 캐시에 없는 회원만 일괄 조회
+                Map<Long, String> memberMap = memberInfoCache.getNicknames(writerIds);
+
+                // 각 소설의 작성자 닉네임 설정
+                books.forEach(book -> book.setWriterNicknm(memberMap.get(book.getWriterId())));
             } catch (Exception e) {
                 log.warn("Failed to fetch member info from member-service: {}", e.getMessage());
                 // Feign 호출 실패 시에도 계속 진행 (닉네임은 null로 남음)
             }
         }
+    }
 
-        // 전체 개수 조회 (페이징 정보용)
-        Long totalElements = bookMapper.countBooks(request);
-
-        return new BookPageResponse(books, request.getPage(), request.getSize(), totalElements);
+    private void validateCursor(BookSearchRequest request) {
+        if (!request.hasCursor()) {
+            return;
+        }
+        try {
+            request.getCursorBookId();
+            request.getCursorCreatedAt();
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
     }
 
     /**
@@ -109,10 +205,7 @@ public class BookQueryService {
         // MSA: 작가 정보 조회 (Feign Client)
         if (book.getWriterId() != null) {
             try {
-                ApiResponse<MemberInfoDto> response = memberServiceClient.getMemberInfo(book.getWriterId());
-                if (response != null && response.getData() != null) {
-                    book.setWriterNicknm(response.getData().getUserNicknm());
-                }
+                book.setWriterNicknm(memberInfoCache.getNickname(book.getWriterId()));
             } catch (Exception e) {
                 log.warn("Failed to fetch member info from member-service: {}", e.getMessage());
             }
@@ -128,78 +221,217 @@ public class BookQueryService {
      * @return 소설 상세 정보 (문장 목록, 투표 카운트 포함)
      * @throws BusinessException 소설을 찾을 수 없는 경우
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BookDetailDto getBookForViewer(Long bookId) {
+        return getBookForViewer(bookId, true);
+    }
+
+    /**
+     * 소설 뷰어 모드 조회
+     *
+     * <p>
+     * 같은 소설의 동시 조회는 {@link ViewerLoadCoalescer}로 합쳐 DB 조회와 원격 보강을 한 번만 수행하고,
+     * 로그인 사용자의 투표 상태(myVote)만 요청별로 덮어씁니다.
+     * 기다리는 요청이 DB 커넥션을 붙잡지 않도록 트랜잭션 없이 실행합니다. (조회 쿼리는 각각 자동 커밋)
+     * </p>
+     *
+     * @param bookId           소설 ID
+     * @param includeSentences false면 문장 목록 없이(sentences = null) 소설 정보와 투표 카운트만 조회
+     *                         (문장은 {@link #getSentenceWindow}로 구간별 조회)
+     * @return 소설 상세 정보
+     * @throws BusinessException 소설을 찾을 수 없는 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookDetailDto getBookForViewer(Long bookId, boolean includeSentences) {
+        return getBookForViewer(bookId, includeSentences, true);
+    }
+
+    /**
+     * 소설 뷰어 모드 조회
+     *
+     * @param personal false면 로그인 여부와 관계없이 myVote 없는 공유 응답 (사용자별 투표는
+     *                 reaction-service의 /api/reactions/me/votes로 따로 조회)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookDetailDto getBookForViewer(Long bookId, boolean includeSentences, boolean personal) {
         Long userId = null;
         try {
-            userId = SecurityUtil.getCurrentUserId();
+            userId = personal ? SecurityUtil.getCurrentUserId() : null;
         } catch (Exception e) {
             // 비로그인 사용자
         }
 
+        // 내 투표 상태는 소설/문장 ID만 있으면 되므로 공유 조회와 병렬로 한 번에 조회
+        Long viewerId = userId;
+        CompletableFuture<MyVotesDto> myVotesFuture = viewerId == null
+                ? CompletableFuture.completedFuture(null)
+                : enrichmentExecutor.submit("votes of viewer from reaction-service",
+                        () -> fetchMyVotes(bookId, viewerId));
+
+        BookDetailDto book = viewerLoadCoalescer.load(bookId, includeSentences,
+                () -> loadBookForViewer(bookId, includeSentences));
+        applyMyVotes(book, myVotesFuture.join());
+        return book;
+    }
+
+    /**
+     * 사용자 정보 없이 소설 뷰어 정보를 조회합니다. (myVote는 모두 null)
+     */
+    private BookDetailDto loadBookForViewer(Long bookId, boolean includeSentences) {
         // 1. 소설 기본 정보 조회
-        BookDetailDto book = bookMapper.findBookForViewer(bookId, userId);
+        BookDetailDto book = bookMapper.findBookForViewer(bookId, null);
         if (book == null) {
             throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
         }
 
         // 2. 문장 목록 조회
-        List<SentenceDto> sentences = bookMapper.findSentencesByBookId(bookId, userId);
-
-        // 3. MSA: 소설 투표 정보 조회 (Feign Client)
-        try {
-            ApiResponse<com.team2.commonmodule.feign.dto.BookReactionInfoDto> bookReactionResponse = reactionServiceClient
-                    .getBookReactionStats(bookId, userId);
-            if (bookReactionResponse != null && bookReactionResponse.getData() != null) {
-                var bookStats = bookReactionResponse.getData();
-                book.setLikeCount((int) bookStats.getLikeCount());
-                book.setDislikeCount((int) bookStats.getDislikeCount());
-                book.setMyVote(bookStats.getMyVote());
-            }
-        } catch (Exception e) {
-            log.warn("Failed to fetch book reaction stats from reaction-service: {}", e.getMessage());
-            book.setLikeCount(0);
-            book.setDislikeCount(0);
-        }
+        List<SentenceDto> sentences = includeSentences
+                ? bookMapper.findSentencesByBookId(bookId, null)
+                : new ArrayList<>();
 
-        // 4. MSA: 회원 정보 조회 (Feign Client)
-        // 작성자 ID 목록 수집 (중복 제거)
+        // 3. MSA: 원격 보강 호출 병렬 실행 (소설 투표, 회원 정보, 문장 투표)
+        // 작성자 ID 목록 수집 (중복 제거, 소설 작성자 포함)
         List<Long> writerIds = sentences.stream()
                 .map(SentenceDto::getWriterId)
                 .distinct()
                 .collect(Collectors.toList());
-
-        // 소설 작성자 ID도 추가
         if (book.getWriterId() != null && !writerIds.contains(book.getWriterId())) {
             writerIds.add(book.getWriterId());
         }
+        List<Long> sentenceIds = sentences.stream()
+                .map(SentenceDto::getSentenceId)
+                .collect(Collectors.toList());
+
+        CompletableFuture<BookReactionInfoDto> bookStatsFuture = enrichmentExecutor.submit(
+                "book reaction stats from reaction-service",
+                () -> fetchBookReactionStats(bookId, null));
+        // Near Cache: 캐시에 없는 회원만 일괄 조회
+        CompletableFuture<Map<Long, String>> nicknamesFuture = writerIds.isEmpty()
+                ? CompletableFuture.completedFuture(Map.of())
+                : enrichmentExecutor.submit("member info from member-service",
+                        () -> memberInfoCache.getNicknames(writerIds));
+        CompletableFuture<Map<Long, SentenceReactionInfoDto>> sentenceStatsFuture = sentenceIds.isEmpty()
+                ? CompletableFuture.completedFuture(Map.of())
+                : enrichmentExecutor.submit("sentence reaction stats from reaction-service",
+                        () -> fetchSentenceReactionStats(sentenceIds, null));
+
+        // 모든 호출이 끝나거나 마감 시간이 지나면 조립 (실패한 항목은 기본값 유지)
+        CompletableFuture.allOf(bookStatsFuture, nicknamesFuture, sentenceStatsFuture).join();
+
+        // 4. 소설 투표 정보 반영
+        BookReactionInfoDto bookStats = bookStatsFuture.join();
+        if (bookStats != null) {
+            book.setLikeCount((int) bookStats.getLikeCount());
+            book.setDislikeCount((int) bookStats.getDislikeCount());
+        } else {
+            book.setLikeCount(0);
+            book.setDislikeCount(0);
+        }
+
+        // 5. 작성자 닉네임 반영 (실패 시 null로 남음)
+        Map<Long, String> memberMap = nicknamesFuture.join();
+        if (memberMap != null) {
+            book.setWriterNicknm(memberMap.get(book.getWriterId()));
+            sentences.forEach(sentence -> sentence.setWriterNicknm(memberMap.get(sentence.getWriterId())));
+        }
+
+        // 6. 문장 투표 정보 반영
+        applyReactionStats(sentences, sentenceStatsFuture.join());
+
+        book.setSentences(includeSentences ? sentences : null);
+        return book;
+    }
+
+    /**
+     * 로그인 사용자의 소설/문장 투표 상태를 덮어씁니다. (투표 수는 공유 조회 결과 유지, 조회 실패 시 null 유지)
+     */
+    private void applyMyVotes(BookDetailDto book, MyVotesDto myVotes) {
+        if (myVotes == null) {
+            return;
+        }
+        book.setMyVote(myVotes.getBookVote());
+        if (book.getSentences() == null) {
+            return;
+        }
+        Set<Long> liked = toSet(myVotes.getLikedSentenceIds());
+        Set<Long> disliked = toSet(myVotes.getDislikedSentenceIds());
+        for (SentenceDto sentence : book.getSentences()) {
+            if (liked.contains(sentence.getSentenceId())) {
+                sentence.setMyVote("LIKE");
+            } else if (disliked.contains(sentence.getSentenceId())) {
+                sentence.setMyVote("DISLIKE");
+            }
+        }
+    }
+
+    /**
+     * 소설 문장 구간 조회 (sequence_no 기준 Keyset 페이징)
+     *
+     * <p>
+     * 긴 소설을 한 번에 내려주지 않고, afterSeq 이후의 문장을 limit 개씩 조회합니다.
+     * 작성자 닉네임과 투표 정보 보강도 조회한 구간의 문장에 대해서만 수행됩니다.
+     * </p>
+     *
+     * @param bookId   소설 ID
+     * @param afterSeq 이 순서 이후의 문장부터 조회 (처음이면 0)
+     * @param limit    조회할 문장 수 (최대 story.viewer.window.max-size)
+     * @return 문장 구간과 다음 커서
+     * @throws BusinessException 소설을 찾을 수 없는 경우
+     */
+    public SentenceWindowResponse getSentenceWindow(Long bookId, int afterSeq, int limit) {
+        return getSentenceWindow(bookId, afterSeq, limit, true);
+    }
+
+    /**
+     * 소설 문장 구간 조회
+     *
+     * @param personal false면 myVote 없는 공유 응답
+     */
+    public SentenceWindowResponse getSentenceWindow(Long bookId, int afterSeq, int limit, boolean personal) {
+        int cursor = Math.max(0, afterSeq);
+        int windowSize = Math.max(1, Math.min(limit, maxWindowSize));
+
+        // 다음 구간 존재 여부 확인을 위해 1건 더 조회
+        List<SentenceDto> rows = bookMapper.findSentenceWindow(bookId, cursor, windowSize + 1);
+        if (rows.isEmpty() && bookMapper.findBookDetail(bookId) == null) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
+        }
+
+        boolean hasNext = rows.size() > windowSize;
+        List<SentenceDto> sentences = hasNext ? new ArrayList<>(rows.subList(0, windowSize)) : rows;
 
-        // 일괄 조회로 N+1 문제 방지
-        if (!writerIds.isEmpty()) {
+        if (!sentences.isEmpty()) {
+            Long userId = null;
             try {
-                ApiResponse<MemberBatchInfoDto> response = memberServiceClient.getMembersBatch(writerIds);
-                if (response != null && response.getData() != null) {
-                    Map<Long, String> memberMap = response.getData().getMembers().stream()
-                            .collect(Collectors.toMap(
-                                    MemberInfoDto::getUserId,
-                                    MemberInfoDto::getUserNicknm));
-
-                    // 소설 작성자 닉네임 설정
-                    book.setWriterNicknm(memberMap.get(book.getWriterId()));
-
-                    // 각 문장 작성자 닉네임 설정
-                    sentences.forEach(sentence -> sentence.setWriterNicknm(memberMap.get(sentence.getWriterId())));
-                }
+                userId = personal ? SecurityUtil.getCurrentUserId() : null;
             } catch (Exception e) {
-                log.warn("Failed to fetch member info from member-service: {}", e.getMessage());
-                // Feign 호출 실패 시에도 계속 진행 (닉네임은 null로 남음)
+                // 비로그인 사용자
             }
-        }
 
-        // 5. MSA: 문장 반응(투표) 정보 조회 (Feign Client)
-        populateReactionStats(sentences);
+            List<Long> writerIds = sentences.stream()
+                    .map(SentenceDto::getWriterId)
+                    .distinct()
+                    .collect(Collectors.toList());
+            List<Long> sentenceIds = sentences.stream()
+                    .map(SentenceDto::getSentenceId)
+                    .collect(Collectors.toList());
 
-        book.setSentences(sentences);
-        return book;
+            Long viewerId = userId;
+            CompletableFuture<Map<Long, String>> nicknamesFuture = enrichmentExecutor.submit(
+                    "member info from member-service", () -> memberInfoCache.getNicknames(writerIds));
+            CompletableFuture<Map<Long, SentenceReactionInfoDto>> sentenceStatsFuture = enrichmentExecutor.submit(
+                    "sentence reaction stats from reaction-service",
+                    () -> fetchSentenceReactionStats(sentenceIds, viewerId));
+            CompletableFuture.allOf(nicknamesFuture, sentenceStatsFuture).join();
+
+            Map<Long, String> memberMap = nicknamesFuture.join();
+            if (memberMap != null) {
+                sentences.forEach(sentence -> sentence.setWriterNicknm(memberMap.get(sentence.getWriterId())));
+            }
+            applyReactionStats(sentences, sentenceStatsFuture.join());
+        }
+
+        return new SentenceWindowResponse(sentences, cursor, hasNext);
     }
 
     /**
@@ -213,11 +445,8 @@ public class BookQueryService {
         // MSA: 회원 정보 조회 (Feign Client)
         if (!sentences.isEmpty()) {
             try {
-                ApiResponse<MemberInfoDto> response = memberServiceClient.getMemberInfo(userId);
-                if (response != null && response.getData() != null) {
-                    String nicknm = response.getData().getUserNicknm();
-                    sentences.forEach(sentence -> sentence.setWriterNicknm(nicknm));
-                }
+                String nicknm = memberInfoCache.getNickname(userId);
+                sentences.forEach(sentence -> sentence.setWriterNicknm(nicknm));
             } catch (Exception e) {
                 log.warn("Failed to fetch member info from member-service: {}", e.getMessage());
             }
@@ -245,22 +474,43 @@ public class BookQueryService {
         }
 
         try {
-            ApiResponse<Map<Long, SentenceReactionInfoDto>> response = reactionServiceClient
-                    .getSentenceReactions(sentenceIds, currentUserId);
-            if (response != null && response.getData() != null) {
-                Map<Long, SentenceReactionInfoDto> statsMap = response.getData();
-                for (SentenceDto sentence : sentences) {
-                    SentenceReactionInfoDto stats = statsMap
-                            .get(sentence.getSentenceId());
-                    if (stats != null) {
-                        sentence.setLikeCount((int) stats.getLikeCount());
-                        sentence.setDislikeCount((int) stats.getDislikeCount());
-                        sentence.setMyVote(stats.getMyVote());
-                    }
-                }
-            }
+            applyReactionStats(sentences, fetchSentenceReactionStats(sentenceIds, currentUserId));
         } catch (Exception e) {
             log.warn("Failed to fetch reaction stats: {}", e.getMessage());
         }
     }
+
+    private BookReactionInfoDto fetchBookReactionStats(Long bookId, Long userId) {
+        ApiResponse<BookReactionInfoDto> response = reactionServiceClient.getBookReactionStats(bookId, userId);
+        return response != null ? response.getData() : null;
+    }
+
+    private static Set<Long> toSet(List<Long> ids) {
+        return ids != null ? new HashSet<>(ids) : Set.of();
+    }
+
+    private MyVotesDto fetchMyVotes(Long bookId, Long userId) {
+        ApiResponse<MyVotesDto> response = reactionServiceClient.getMyVotes(bookId, userId);
+        return response != null ? response.getData() : null;
+    }
+
+    private Map<Long, SentenceReactionInfoDto> fetchSentenceReactionStats(List<Long> sentenceIds, Long userId) {
+        ApiResponse<Map<Long, SentenceReactionInfoDto>> response = reactionServiceClient
+                .getSentenceReactions(sentenceIds, userId);
+        return response != null ? response.getData() : null;
+    }
+
+    private void applyReactionStats(List<SentenceDto> sentences, Map<Long, SentenceReactionInfoDto> statsMap) {
+        if (statsMap == null) {
+            return;
+        }
+        for (SentenceDto sentence : sentences) {
+            SentenceReactionInfoDto stats = statsMap.get(sentence.getSentenceId());
+            if (stats != null) {
+                sentence.setLikeCount((int) stats.getLikeCount());
+                sentence.setDislikeCount((int) stats.getDislikeCount());
+                sentence.setMyVote(stats.getMyVote());
+            }
+        }
+    }
 }
@@ -0,0 +1,106 @@
+package com.team2.storyservice.query.book.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 뷰어 조회 시 원격 보강(Feign) 호출을 병렬로 실행하는 실행기
+ *
+ * <p>
+ * 각 호출은 제한된 스레드 풀에서 실행되며 호출별 마감 시간(story.viewer.enrichment.timeout-ms)을 넘기면
+ * 결과 없이(null) 완료되고 실행 중인 작업은 인터럽트됩니다.
+ * 마감 시간은 뷰어 응답에만 적용되며 Feign 클라이언트 설정은 바꾸지 않으므로, 다른 경로의 같은 클라이언트 호출에는 영향이 없습니다.
+ * (블로킹 소켓 읽기는 인터럽트로 중단되지 않아, 이 경우 풀 스레드는 Feign 기본 read-timeout까지 사용될 수 있습니다.)
+ * 요청 스레드의 RequestAttributes와 SecurityContext를 그대로 전달하므로
+ * 작업 내부에서도 {@code SecurityUtil}을 사용할 수 있습니다.
+ * 풀이 가득 차면 요청 스레드에서 직접 실행됩니다.
+ * </p>
+ *
+ * @author 정진호
+ */
+@Slf4j
+@Component
+public class ViewerEnrichmentExecutor {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMs;
+
+    public ViewerEnrichmentExecutor(
+            @Value("${story.viewer.enrichment.pool-size:16}") int poolSize,
+            @Value("${story.viewer.enrichment.queue-capacity:200}") int queueCapacity,
+            @Value("${story.viewer.enrichment.timeout-ms:2000}") long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("viewer-enrich-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(ViewerEnrichmentExecutor::propagateContext);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 원격 호출을 비동기로 실행합니다.
+     *
+     * @param name 로그용 호출 이름
+     * @param call 원격 호출
+     * @return 결과 (실패 또는 마감 시간 초과 시 null로 완료)
+     */
+    public <T> CompletableFuture<T> submit(String name, Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = executor.submit(() -> {
+            try {
+                result.complete(call.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    if (e instanceof TimeoutException) {
+                        // 마감 시간이 지난 호출은 풀 스레드를 계속 점유하지 않도록 중단
+                        task.cancel(true);
+                    }
+                    log.warn("Failed to fetch {}: {}", name, e.getMessage());
+                    return null;
+                });
+    }
+
+    private static Runnable propagateContext(Runnable task) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        return () -> {
+            RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+            SecurityContext previousContext = SecurityContextHolder.getContext();
+            try {
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                SecurityContextHolder.setContext(securityContext);
+                task.run();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previousAttributes);
+                SecurityContextHolder.setContext(previousContext);
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.team2.storyservice.query.book.service;
+
+import com.team2.storyservice.query.book.dto.response.BookDetailDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 뷰어 조회 Single-flight
+ *
+ * <p>
+ * 같은 (소설 ID, 문장 포함 여부)의 뷰어 조회가 동시에 들어오면 먼저 온 요청만 DB 조회와 원격 보강을 수행하고,
+ * 나머지 요청은 그 결과를 기다려 함께 사용합니다. 결과는 보관하지 않으므로(캐시 아님)
+ * 조회가 끝난 뒤 들어온 요청은 다시 최신 상태를 읽습니다.
+ * </p>
+ *
+ * <ul>
+ * <li>공유 결과에는 사용자별 정보(myVote)가 없습니다. 호출자가 복사본에 직접 덮어씁니다.</li>
+ * <li>조회가 예외로 끝나면 기다리던 요청에도 같은 예외가 전달됩니다. (예: 소설 없음)</li>
+ * <li>먼저 온 요청이 wait-timeout-ms 안에 끝나지 않으면 기다리던 요청은 직접 조회합니다. (요청 스레드가 무기한 묶이지 않도록)</li>
+ * <li>지표: story.viewer.load{result=leader|coalesced|timeout}</li>
+ * </ul>
+ *
+ * @author 정진호
+ */
+@Component
+public class ViewerLoadCoalescer {
+
+    private final Map<Key, CompletableFuture<BookDetailDto>> inflight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long waitTimeoutMs;
+    private final Counter leaderCounter;
+    private final Counter coalescedCounter;
+    private final Counter timeoutCounter;
+
+    public ViewerLoadCoalescer(MeterRegistry meterRegistry,
+            @Value("${story.viewer.coalesce.enabled:true}") boolean enabled,
+            @Value("${story.viewer.coalesce.wait-timeout-ms:3000}") long waitTimeoutMs) {
+        this.enabled = enabled;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.leaderCounter = Counter.builder("story.viewer.load")
+                .description("뷰어 조회 시 실제 로드를 수행한 요청 수")
+                .tag("result", "leader")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("story.viewer.load")
+                .description("다른 요청의 로드 결과를 함께 사용한 요청 수")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("story.viewer.load")
+                .description("다른 요청의 로드를 기다리다 시간이 지나 직접 로드한 요청 수 (coalesced에 포함)")
+                .tag("result", "timeout")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 진행 중인 같은 조회가 있으면 그 결과를, 없으면 loader를 직접 실행한 결과를 반환합니다.
+     *
+     * @param bookId           소설 ID
+     * @param includeSentences 문장 포함 여부
+     * @param loader           사용자 정보 없이 소설 뷰어 정보를 조회
+     * @return 호출자 전용 복사본 (링크/myVote를 채워도 다른 요청에 영향 없음)
+     */
+    public BookDetailDto load(Long bookId, boolean includeSentences, Supplier<BookDetailDto> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(bookId, includeSentences);
+        CompletableFuture<BookDetailDto> future = new CompletableFuture<>();
+        CompletableFuture<BookDetailDto> leader = inflight.putIfAbsent(key, future);
+        if (leader != null) {
+            coalescedCounter.increment();
+            BookDetailDto shared = await(leader);
+            if (shared != null) {
+                return shared.copy();
+            }
+            timeoutCounter.increment();
+            return loader.get();
+        }
+
+        leaderCounter.increment();
+        try {
+            BookDetailDto loaded = loader.get();
+            future.complete(loaded);
+            return loaded.copy();
+        } catch (RuntimeException | Error e) {
+            // 기다리는 요청이 멈추지 않도록 어떤 실패든 전달
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(key, future);
+        }
+    }
+
+    /**
+     * @return 먼저 온 요청의 결과 (wait-timeout-ms 안에 끝나지 않으면 null)
+     */
+    private BookDetailDto await(CompletableFuture<BookDetailDto> leader) {
+        try {
+            return leader.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for viewer load", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record Key(Long bookId, boolean includeSentences) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.team2.storyservice.search.controller;
+
+import com.team2.commonmodule.response.ApiResponse;
+import com.team2.storyservice.search.service.BookIndexUpdater;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 검색 색인 운영용 내부 컨트롤러
+ *
+ * <p>
+ * <b>주의:</b> 이 API는 Gateway를 거치지 않고 내부 네트워크에서만 접근 가능해야 합니다.
+ * </p>
+ *
+ * @author 정진호
+ */
+@Hidden
+@RestController
+@RequestMapping("/internal/search")
+@RequiredArgsConstructor
+public class SearchInternalController {
+
+    private final BookIndexUpdater bookIndexUpdater;
+
+    /**
+     * 검색 색인 전체 재구축 (비동기)
+     *
+     * @return 재구축 시작 여부 (false: 이미 진행 중이거나 색인 비활성화)
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Boolean>> rebuild() {
+        return ResponseEntity.ok(ApiResponse.success(bookIndexUpdater.rebuild()));
+    }
+}
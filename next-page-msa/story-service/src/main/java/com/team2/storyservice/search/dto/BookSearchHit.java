@@ -0,0 +1,13 @@
+package com.team2.storyservice.search.dto;
+
+/**
+ * 전문 검색 결과 항목
+ *
+ * @param bookId           소설 ID
+ * @param score            검색 점수 (BM25)
+ * @param titleHighlight   일치 부분을 &lt;b&gt;로 감싼 제목 (일치하지 않으면 null)
+ * @param contentHighlight 일치 부분을 &lt;b&gt;로 감싼 본문 발췌 (일치하지 않으면 null)
+ * @author 정진호
+ */
+public record BookSearchHit(Long bookId, float score, String titleHighlight, String contentHighlight) {
+}
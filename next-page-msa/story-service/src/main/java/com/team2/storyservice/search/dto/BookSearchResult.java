@@ -0,0 +1,14 @@
+package com.team2.storyservice.search.dto;
+
+import java.util.List;
+
+/**
+ * 전문 검색 결과 페이지
+ *
+ * @param hits      현재 페이지 결과 (점수 내림차순)
+ * @param totalHits 전체 일치 건수 (계산하지 않았으면 null)
+ * @param hasNext   다음 페이지 존재 여부
+ * @author 정진호
+ */
+public record BookSearchResult(List<BookSearchHit> hits, Long totalHits, boolean hasNext) {
+}
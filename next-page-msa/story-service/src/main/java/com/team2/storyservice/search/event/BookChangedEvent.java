@@ -0,0 +1,14 @@
+package com.team2.storyservice.search.event;
+
+/**
+ * 소설 내용 변경 이벤트 (생성, 문장 작성/수정/삭제, 제목 수정, 완결, 삭제)
+ *
+ * <p>
+ * 커밋 이후 {@link com.team2.storyservice.search.service.BookIndexUpdater}가 받아 해당 소설을 다시 색인합니다.
+ * </p>
+ *
+ * @param bookId 변경된 소설 ID
+ * @author 정진호
+ */
+public record BookChangedEvent(Long bookId) {
+}
@@ -0,0 +1,166 @@
+package com.team2.storyservice.search.service;
+
+import com.team2.storyservice.query.book.dto.response.BookDto;
+import com.team2.storyservice.query.book.dto.response.SentenceDto;
+import com.team2.storyservice.query.book.mapper.BookMapper;
+import com.team2.storyservice.search.event.BookChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 소설 검색 색인 갱신기
+ *
+ * <p>
+ * 커밋된 {@link BookChangedEvent}를 받아 전용 스레드에서 해당 소설을 DB 기준으로 다시 색인합니다.
+ * 같은 소설에 대한 갱신이 대기 중이면 중복 요청은 합쳐지므로, 문장이 연달아 작성되어도
+ * 색인 작업은 소설당 한 번씩만 수행됩니다.
+ * </p>
+ *
+ * <p>
+ * 전체 재구축은 새 세대 색인에 만든 뒤 전환하므로 재구축 중에도 기존 색인으로 검색됩니다.
+ * 재구축 중 발생한 변경은 같은 스레드에서 대기하다가 전환 이후 새 색인에 반영됩니다.
+ * </p>
+ *
+ * @author 정진호
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookIndexUpdater {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final BookSearchIndex searchIndex;
+    private final BookMapper bookMapper;
+
+    private final Set<Long> pendingBookIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @Value("${story.search.rebuild-on-startup-if-empty:true}")
+    private boolean rebuildOnStartupIfEmpty;
+
+    private ExecutorService indexExecutor;
+
+    @PostConstruct
+    void init() {
+        indexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "book-index-update");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        indexExecutor.shutdown();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (!searchIndex.isAvailable()) {
+            return;
+        }
+        // 이미 대기 중이면 그 작업이 최신 상태를 읽어 색인하므로 합침
+        if (pendingBookIds.add(event.bookId())) {
+            indexExecutor.execute(() -> {
+                pendingBookIds.remove(event.bookId());
+                reindexQuietly(event.bookId());
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (rebuildOnStartupIfEmpty && searchIndex.isEmpty()) {
+            log.info("Book search index is empty, rebuilding from database");
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 색인을 DB 기준으로 다시 만듭니다. (비동기, 이미 진행 중이면 false)
+     */
+    public boolean rebuild() {
+        if (!searchIndex.isAvailable() || !rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        indexExecutor.execute(() -> {
+            try {
+                long started = System.currentTimeMillis();
+                BookSearchIndex.Rebuild rebuild = searchIndex.startRebuild();
+
+                int indexed = 0;
+                long afterId = 0;
+                List<Long> bookIds;
+                try {
+                    do {
+                        bookIds = bookMapper.findBookIdsAfter(afterId, REBUILD_PAGE_SIZE);
+                        for (Long bookId : bookIds) {
+                            indexQuietly(bookId, rebuild);
+                            afterId = bookId;
+                        }
+                        indexed += bookIds.size();
+                    } while (bookIds.size() == REBUILD_PAGE_SIZE);
+                } catch (RuntimeException e) {
+                    rebuild.abort();
+                    throw e;
+                }
+
+                rebuild.publish();
+                log.info("Book search index rebuilt: {} books in {} ms", indexed,
+                        System.currentTimeMillis() - started);
+            } catch (RuntimeException e) {
+                log.error("Book search index rebuild failed: {}", e.getMessage(), e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    private void reindexQuietly(Long bookId) {
+        try {
+            BookDto book = bookMapper.findBookDetail(bookId);
+            if (book == null) {
+                searchIndex.delete(bookId);
+                return;
+            }
+            searchIndex.upsert(book, findSentenceContents(bookId));
+        } catch (RuntimeException e) {
+            // 색인 실패가 쓰기 요청에 영향을 주지 않도록 로그만 남김 (다음 변경 또는 재구축 시 복구)
+            log.warn("Failed to index book {}: {}", bookId, e.getMessage());
+        }
+    }
+
+    private void indexQuietly(Long bookId, BookSearchIndex.Rebuild rebuild) {
+        try {
+            BookDto book = bookMapper.findBookDetail(bookId);
+            if (book != null) {
+                rebuild.upsert(book, findSentenceContents(bookId));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to index book {}: {}", bookId, e.getMessage());
+        }
+    }
+
+    private List<String> findSentenceContents(Long bookId) {
+        return bookMapper.findSentencesByBookId(bookId, null).stream()
+                .map(SentenceDto::getContent)
+                .toList();
+    }
+}
@@ -0,0 +1,455 @@
+package com.team2.storyservice.search.service;
+
+import com.team2.storyservice.query.book.dto.request.BookSearchRequest;
+import com.team2.storyservice.query.book.dto.response.BookDto;
+import com.team2.storyservice.search.dto.BookSearchHit;
+import com.team2.storyservice.search.dto.BookSearchResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 소설 전문 검색 색인 (Lucene, In-Process)
+ *
+ * <p>
+ * 소설 1권을 문서 1개로 색인합니다. (제목 + 전체 문장 본문)
+ * 색인은 story.search.index-dir 디렉터리에 저장되며, 변경 사항은 즉시 검색에 반영되고(NRT)
+ * 디스크 커밋은 story.search.commit-interval-ms 주기로 수행됩니다.
+ * </p>
+ *
+ * <p>
+ * 전체 재구축({@link #startRebuild()})은 새 하위 디렉터리(세대)에 색인을 만든 뒤 커밋이 끝나면
+ * current 파일을 원자적으로 교체하여 전환합니다. 재구축 중에도 검색은 기존 색인으로 계속 처리됩니다.
+ * </p>
+ *
+ * <p>
+ * 색인은 인스턴스 로컬입니다. 여러 인스턴스를 운영하는 경우 다른 인스턴스에서 발생한 변경은
+ * 반영되지 않으므로 주기적으로 {@code POST /internal/search/rebuild}를 호출해야 합니다.
+ * </p>
+ *
+ * @author 정진호
+ */
+@Slf4j
+@Component
+public class BookSearchIndex {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_CATEGORY = "category";
+    private static final String FIELD_WRITER = "writer";
+
+    private static final float TITLE_BOOST = 2.0f;
+
+    private static final String CURRENT_FILE = "current";
+    private static final String GENERATION_PREFIX = "gen-";
+
+    private final Analyzer analyzer = new KoreanBigramAnalyzer();
+
+    @Value("${story.search.enabled:true}")
+    private boolean enabled;
+
+    @Value("${story.search.index-dir:./data/book-index}")
+    private String indexDir;
+
+    @Value("${story.search.commit-interval-ms:5000}")
+    private long commitIntervalMs;
+
+    private volatile Generation live;
+    private ScheduledExecutorService committer;
+    private volatile boolean available;
+
+    @PostConstruct
+    void open() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Path root = Path.of(indexDir);
+            Files.createDirectories(root);
+            Path currentFile = root.resolve(CURRENT_FILE);
+            String name = Files.exists(currentFile)
+                    ? Files.readString(currentFile, StandardCharsets.UTF_8).trim()
+                    : newGenerationName(root);
+            live = Generation.open(root.resolve(name), analyzer, IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            writeCurrent(root, name);
+            // 중단된 재구축 등으로 남은 이전 세대 정리
+            deleteGenerationsExcept(root, name);
+
+            committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "book-index-commit");
+                thread.setDaemon(true);
+                return thread;
+            });
+            committer.scheduleWithFixedDelay(this::commit, commitIntervalMs, commitIntervalMs, TimeUnit.MILLISECONDS);
+
+            available = true;
+            log.info("Book search index opened at {} ({} documents)", live.path(),
+                    live.writer().getDocStats().numDocs);
+        } catch (IOException e) {
+            // 색인을 열 수 없으면 LIKE 검색으로 동작
+            log.error("Failed to open book search index at {}: {}", indexDir, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        if (!available) {
+            return;
+        }
+        available = false;
+        committer.shutdown();
+        synchronized (this) {
+            live.close();
+        }
+    }
+
+    /**
+     * 색인 사용 가능 여부 (비활성화되었거나 열기에 실패하면 false)
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public boolean isEmpty() {
+        return available && live.writer().getDocStats().numDocs == 0;
+    }
+
+    /**
+     * 소설 문서를 추가하거나 교체합니다.
+     *
+     * @param book      소설 기본 정보
+     * @param sentences 문장 본문 (순서대로)
+     */
+    public void upsert(BookDto book, List<String> sentences) {
+        Generation generation = live;
+        try {
+            generation.upsert(book, sentences);
+            generation.searcherManager().maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Long bookId) {
+        Generation generation = live;
+        try {
+            generation.writer().deleteDocuments(new Term(FIELD_ID, bookId.toString()));
+            generation.searcherManager().maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void commit() {
+        if (!available) {
+            return;
+        }
+        try {
+            if (live.writer().hasUncommittedChanges()) {
+                live.writer().commit();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to commit book search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 새 세대 디렉터리에 전체 색인 재구축을 시작합니다.
+     * 반환된 {@link Rebuild}에 모든 소설을 추가한 뒤 {@link Rebuild#publish()}로 전환합니다.
+     * 재구축과 일반 갱신(upsert/delete)은 같은 스레드에서 순서대로 호출해야 합니다.
+     */
+    public Rebuild startRebuild() {
+        Path root = Path.of(indexDir);
+        String name = newGenerationName(root);
+        try {
+            return new Rebuild(root, name,
+                    Generation.open(root.resolve(name), analyzer, IndexWriterConfig.OpenMode.CREATE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 키워드로 소설을 검색합니다. (점수 순, 제목 일치 가중치 2배)
+     *
+     * @param request   검색 조건 (keyword, status/categoryId/writerId 필터, page/size)
+     * @param withTotal 전체 일치 건수 계산 여부
+     * @return 검색 결과, 키워드가 2글자 미만이라 색인으로 검색할 수 없으면 null
+     */
+    public BookSearchResult search(BookSearchRequest request, boolean withTotal) {
+        Query query = buildQuery(request);
+        if (query == null) {
+            return null;
+        }
+
+        int offset = request.getOffset();
+        int size = request.getSize();
+
+        try {
+            SearcherManager searcherManager = live.searcherManager();
+            IndexSearcher searcher;
+            try {
+                searcher = searcherManager.acquire();
+            } catch (AlreadyClosedException e) {
+                // 재구축 전환 직후: 새 세대로 다시 시도
+                searcherManager = live.searcherManager();
+                searcher = searcherManager.acquire();
+            }
+            try {
+                // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+                TopDocs topDocs = searcher.search(query, offset + size + 1);
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                boolean hasNext = scoreDocs.length > offset + size;
+                ScoreDoc[] pageDocs = offset >= scoreDocs.length
+                        ? new ScoreDoc[0]
+                        : Arrays.copyOfRange(scoreDocs, offset, Math.min(offset + size, scoreDocs.length));
+
+                List<BookSearchHit> hits = toHits(searcher, query, new TopDocs(topDocs.totalHits, pageDocs));
+                Long totalHits = withTotal ? (long) searcher.count(query) : null;
+                return new BookSearchResult(hits, totalHits, hasNext);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<BookSearchHit> toHits(IndexSearcher searcher, Query query, TopDocs pageDocs) throws IOException {
+        if (pageDocs.scoreDocs.length == 0) {
+            return List.of();
+        }
+
+        UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+                .withFormatter(new DefaultPassageFormatter("<b>", "</b>", " ... ", true))
+                .build();
+        String[] titles = highlighter.highlight(FIELD_TITLE, query, pageDocs, 1);
+        String[] contents = highlighter.highlight(FIELD_CONTENT, query, pageDocs, 2);
+
+        List<BookSearchHit> hits = new ArrayList<>(pageDocs.scoreDocs.length);
+        for (int i = 0; i < pageDocs.scoreDocs.length; i++) {
+            ScoreDoc scoreDoc = pageDocs.scoreDocs[i];
+            String id = searcher.storedFields().document(scoreDoc.doc, Set.of(FIELD_ID)).get(FIELD_ID);
+            hits.add(new BookSearchHit(Long.valueOf(id), scoreDoc.score, titles[i], contents[i]));
+        }
+        return hits;
+    }
+
+    /**
+     * 키워드의 각 Bigram이 제목 또는 본문에 모두 포함된 소설을 찾는 쿼리
+     */
+    private Query buildQuery(BookSearchRequest request) {
+        Set<String> grams = analyze(request.getKeyword());
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String gram : grams) {
+            Query titleOrContent = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(FIELD_TITLE, gram)), TITLE_BOOST),
+                            BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(FIELD_CONTENT, gram)), BooleanClause.Occur.SHOULD)
+                    .build();
+            builder.add(titleOrContent, BooleanClause.Occur.MUST);
+        }
+
+        if (request.getStatus() != null && !request.getStatus().isEmpty()) {
+            builder.add(new TermQuery(new Term(FIELD_STATUS, request.getStatus())), BooleanClause.Occur.FILTER);
+        }
+        if (request.getCategoryId() != null && !request.getCategoryId().isEmpty()) {
+            builder.add(new TermQuery(new Term(FIELD_CATEGORY, request.getCategoryId())), BooleanClause.Occur.FILTER);
+        }
+        if (request.getWriterId() != null) {
+            builder.add(new TermQuery(new Term(FIELD_WRITER, request.getWriterId().toString())),
+                    BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private Set<String> analyze(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream stream = analyzer.tokenStream(FIELD_CONTENT, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private synchronized void swap(Path root, String name, Generation next) throws IOException {
+        Generation previous = live;
+        live = next;
+        writeCurrent(root, name);
+        previous.close();
+        deleteGenerationsExcept(root, name);
+    }
+
+    private static String newGenerationName(Path root) {
+        long suffix = System.currentTimeMillis();
+        while (Files.exists(root.resolve(GENERATION_PREFIX + suffix))) {
+            suffix++;
+        }
+        return GENERATION_PREFIX + suffix;
+    }
+
+    /**
+     * current 파일 교체 (임시 파일 작성 후 원자적 이동)
+     */
+    private static void writeCurrent(Path root, String name) throws IOException {
+        Path temp = root.resolve(CURRENT_FILE + ".tmp");
+        Files.writeString(temp, name, StandardCharsets.UTF_8);
+        Files.move(temp, root.resolve(CURRENT_FILE), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void deleteGenerationsExcept(Path root, String keep) {
+        try (Stream<Path> children = Files.list(root)) {
+            children.filter(child -> child.getFileName().toString().startsWith(GENERATION_PREFIX))
+                    .filter(child -> !child.getFileName().toString().equals(keep))
+                    .forEach(BookSearchIndex::deleteRecursively);
+        } catch (IOException e) {
+            log.warn("Failed to clean up old book search index generations: {}", e.getMessage());
+        }
+    }
+
+    private static void deleteRecursively(Path path) {
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            // 검색 중인 파일이 남아 있으면 다음 기동 시 정리
+            log.warn("Failed to delete book search index generation {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 진행 중인 전체 재구축 (새 세대 디렉터리)
+     */
+    public final class Rebuild {
+
+        private final Path root;
+        private final String name;
+        private final Generation generation;
+
+        private Rebuild(Path root, String name, Generation generation) {
+            this.root = root;
+            this.name = name;
+            this.generation = generation;
+        }
+
+        public void upsert(BookDto book, List<String> sentences) {
+            try {
+                generation.upsert(book, sentences);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * 새 색인을 커밋하고 검색 대상을 전환합니다. 이전 세대는 닫고 삭제합니다.
+         */
+        public void publish() {
+            try {
+                generation.writer().commit();
+                generation.searcherManager().maybeRefresh();
+                swap(root, name, generation);
+            } catch (IOException e) {
+                abort();
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * 재구축을 취소합니다. (기존 색인은 그대로 유지)
+         */
+        public void abort() {
+            generation.close();
+            deleteRecursively(generation.path());
+        }
+    }
+
+    /**
+     * 색인 세대 (디렉터리 + 쓰기/검색 핸들)
+     */
+    private record Generation(Path path, Directory directory, IndexWriter writer, SearcherManager searcherManager) {
+
+        static Generation open(Path path, Analyzer analyzer, IndexWriterConfig.OpenMode openMode) throws IOException {
+            Directory directory = FSDirectory.open(path);
+            IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(openMode));
+            return new Generation(path, directory, writer, new SearcherManager(writer, null));
+        }
+
+        void upsert(BookDto book, List<String> sentences) throws IOException {
+            Document document = new Document();
+            document.add(new StringField(FIELD_ID, book.getBookId().toString(), Field.Store.YES));
+            document.add(new TextField(FIELD_TITLE, book.getTitle(), Field.Store.YES));
+            document.add(new TextField(FIELD_CONTENT, String.join("\n", sentences), Field.Store.YES));
+            document.add(new StringField(FIELD_STATUS, String.valueOf(book.getStatus()), Field.Store.NO));
+            document.add(new StringField(FIELD_CATEGORY, String.valueOf(book.getCategoryId()), Field.Store.NO));
+            document.add(new StringField(FIELD_WRITER, String.valueOf(book.getWriterId()), Field.Store.NO));
+            writer.updateDocument(new Term(FIELD_ID, book.getBookId().toString()), document);
+        }
+
+        void close() {
+            try {
+                searcherManager.close();
+                writer.close();
+                directory.close();
+            } catch (IOException e) {
+                log.warn("Failed to close book search index at {}: {}", path, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.team2.storyservice.search.service;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+/**
+ * 한글 Bigram 분석기
+ *
+ * <p>
+ * 한국어는 조사/어미가 단어에 붙기 때문에 형태소 분석 없이 단어 단위로 색인하면 부분 일치가 되지 않습니다.
+ * 단어를 2글자 단위(Bigram)로 나누어 색인/검색하여 "사랑" 으로 "사랑했다", "첫사랑은" 등을 찾을 수 있게 합니다.
+ * 색인과 검색에 같은 분석기를 사용하며, 1글자 단어는 색인되지 않습니다.
+ * </p>
+ *
+ * @author 정진호
+ */
+class KoreanBigramAnalyzer extends Analyzer {
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer tokenizer = new StandardTokenizer();
+        TokenStream stream = new LowerCaseFilter(tokenizer);
+        stream = new NGramTokenFilter(stream, 2, 2, false);
+        return new TokenStreamComponents(tokenizer, stream);
+    }
+}
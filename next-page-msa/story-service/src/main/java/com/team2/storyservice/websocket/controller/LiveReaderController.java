@@ -0,0 +1,57 @@
+package com.team2.storyservice.websocket.controller;
+
+import com.team2.commonmodule.response.ApiResponse;
+import com.team2.storyservice.websocket.dto.LiveReadersDto;
+import com.team2.storyservice.websocket.presence.LiveReaderTracker;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 실시간 독자 수 조회 컨트롤러
+ *
+ * <p>
+ * {@link LiveReaderTracker}가 집계한 값을 그대로 반환하므로 DB를 조회하지 않습니다.
+ * </p>
+ *
+ * @author 정진호
+ */
+@Tag(name = "Live Readers", description = "실시간 독자 수 조회 API")
+@RestController
+@RequestMapping("/api/books")
+@RequiredArgsConstructor
+public class LiveReaderController {
+
+    private final LiveReaderTracker liveReaderTracker;
+
+    /**
+     * 지금 독자가 가장 많은 소설 목록
+     *
+     * @param limit 최대 개수 (story.readers.top-k 이하)
+     */
+    @Operation(summary = "실시간 인기 소설", description = "현재 읽고 있는 독자가 많은 순으로 소설 목록을 반환합니다.")
+    @GetMapping("/live")
+    public ResponseEntity<ApiResponse<List<LiveReadersDto>>> getLiveBooks(
+            @RequestParam(defaultValue = "10") int limit) {
+        int size = Math.min(Math.max(limit, 1), liveReaderTracker.getTopK());
+        return ResponseEntity.ok(ApiResponse.success(liveReaderTracker.getTopBooks(size)));
+    }
+
+    /**
+     * 소설의 현재 독자 수
+     */
+    @Operation(summary = "소설 실시간 독자 수", description = "해당 소설을 지금 읽고 있는 독자 수를 반환합니다.")
+    @GetMapping("/{bookId}/readers")
+    public ResponseEntity<ApiResponse<LiveReadersDto>> getReaders(@PathVariable Long bookId) {
+        return ResponseEntity.ok(ApiResponse.success(
+                new LiveReadersDto(bookId, liveReaderTracker.getReaders(bookId))));
+    }
+}
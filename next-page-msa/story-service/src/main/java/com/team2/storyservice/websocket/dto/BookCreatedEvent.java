@@ -1,20 +1,40 @@
 package com.team2.storyservice.websocket.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.team2.commonmodule.websocket.codec.CompactEncodable;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 /**
  * 새 소설 생성 이벤트 DTO
  *
+ * <p>
+ * 커밋 이후 {@link com.team2.storyservice.websocket.listener.StoryEventBroadcaster}가 전송합니다.
+ * writerNickname이 비어 있으면 writerId로 조회해 채웁니다. (writerId는 전송되지 않음)
+ * </p>
+ *
  * @author 정진호
  */
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-public class BookCreatedEvent {
+public class BookCreatedEvent implements CompactEncodable {
     private Long bookId;
     private String title;
     private String categoryName;
+    @Setter
     private String writerNickname;
+
+    @JsonIgnore
+    private Long writerId;
+
+    /**
+     * ["B", bookId, title, categoryName, writerNickname]
+     */
+    @Override
+    public Object[] toCompact() {
+        return new Object[] { "B", bookId, title, categoryName, writerNickname };
+    }
 }
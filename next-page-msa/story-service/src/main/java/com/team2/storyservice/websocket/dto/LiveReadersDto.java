@@ -0,0 +1,31 @@
+package com.team2.storyservice.websocket.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 소설별 실시간 독자 수 (/topic/sentences/{bookId} 구독 수)
+ *
+ * <p>
+ * /topic/books/{bookId}/readers 메시지는 보낸 인스턴스의 구독 수만 담고 source/ttlMs를 붙입니다.
+ * (클라이언트는 출처별 최신 값을 더해서 표시, REST 응답에는 없음)
+ * </p>
+ *
+ * @author 정진호
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LiveReadersDto {
+    private Long bookId;
+    private int readers;
+    private String source; // 보낸 인스턴스
+    private Long ttlMs; // 이 시간 안에 같은 출처의 다음 메시지가 없으면 해당 값 만료
+
+    public LiveReadersDto(Long bookId, int readers) {
+        this(bookId, readers, null, null);
+    }
+}
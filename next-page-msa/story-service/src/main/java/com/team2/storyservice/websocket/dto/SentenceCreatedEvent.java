@@ -1,21 +1,41 @@
 package com.team2.storyservice.websocket.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.team2.commonmodule.websocket.codec.CompactEncodable;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 /**
  * 새 문장 작성 이벤트 DTO
  *
+ * <p>
+ * 커밋 이후 {@link com.team2.storyservice.websocket.listener.StoryEventBroadcaster}가 전송합니다.
+ * writerNickname이 비어 있으면 writerId로 조회해 채웁니다. (writerId는 전송되지 않음)
+ * </p>
+ *
  * @author 정진호
  */
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-public class SentenceCreatedEvent {
+public class SentenceCreatedEvent implements CompactEncodable {
     private Long bookId;
     private Long sentenceId;
     private String content;
     private Integer sequenceNo;
+    @Setter
     private String writerNickname;
+
+    @JsonIgnore
+    private Long writerId;
+
+    /**
+     * ["S", bookId, sentenceId, sequenceNo, writerNickname, content]
+     */
+    @Override
+    public Object[] toCompact() {
+        return new Object[] { "S", bookId, sentenceId, sequenceNo, writerNickname, content };
+    }
 }
@@ -0,0 +1,34 @@
+package com.team2.storyservice.websocket.dto;
+
+import com.team2.commonmodule.websocket.codec.CompactEncodable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 입력 중인 사용자 목록 메시지 DTO (소설별, 인스턴스별 주기 전송)
+ *
+ * @author 정진호
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypingSnapshot implements CompactEncodable {
+
+    private Long bookId;
+    private List<String> typers; // 이 인스턴스에서 입력 중인 사용자 닉네임 (입력 시작 순)
+    private String source; // 보낸 인스턴스 (클라이언트는 출처별 최신 목록을 합쳐서 표시)
+    private long ttlMs; // 이 시간 안에 같은 출처의 다음 스냅샷이 없으면 해당 목록 만료
+
+    /**
+     * ["T", bookId, [typers...], source, ttlMs]
+     */
+    @Override
+    public Object[] toCompact() {
+        return new Object[] { "T", bookId, typers, source, ttlMs };
+    }
+}
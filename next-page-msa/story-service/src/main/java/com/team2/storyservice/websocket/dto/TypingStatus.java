@@ -1,5 +1,6 @@
 package com.team2.storyservice.websocket.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,6 +19,7 @@ public class TypingStatus {
 
     private Long bookId;
     private String userNickname;
+    @JsonProperty("isTyping") // Lombok Getter(isTyping)만으로는 "typing"으로 매핑되어 클라이언트 값이 무시됨
     private boolean isTyping;
 
     public static TypingStatus startTyping(Long bookId, String userNickname) {
@@ -0,0 +1,58 @@
+package com.team2.storyservice.websocket.listener;
+
+import com.team2.commonmodule.websocket.codec.CompactMessagePublisher;
+import com.team2.storyservice.command.book.service.MemberIntegrationService;
+import com.team2.storyservice.config.AsyncConfig;
+import com.team2.storyservice.websocket.dto.BookCreatedEvent;
+import com.team2.storyservice.websocket.dto.SentenceCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 소설/문장 생성 이벤트 WebSocket 전송기
+ *
+ * <p>
+ * 서비스 트랜잭션이 커밋된 뒤에만 전송하므로 롤백된 변경은 구독자에게 알려지지 않습니다.
+ * 닉네임 조회(member-service 호출)와 전송은 별도 스레드에서 수행되어
+ * 트랜잭션 및 락 유지 시간에 영향을 주지 않습니다.
+ * 메시지는 {@link CompactMessagePublisher}로 한 번만 직렬화되어 JSON/Compact 구독자 모두에게 전달됩니다.
+ * </p>
+ *
+ * @author 정진호
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoryEventBroadcaster {
+
+    private final CompactMessagePublisher messagePublisher;
+    private final MemberIntegrationService memberIntegrationService;
+
+    /**
+     * 새 문장 브로드캐스트: /topic/sentences/{bookId}
+     */
+    @Async(AsyncConfig.BROADCAST_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSentenceCreated(SentenceCreatedEvent event) {
+        if (event.getWriterNickname() == null) {
+            event.setWriterNickname(memberIntegrationService.getUserNickname(event.getWriterId()));
+        }
+        messagePublisher.convertAndSend("/topic/sentences/" + event.getBookId(), event);
+    }
+
+    /**
+     * 새 소설 브로드캐스트: /topic/books/new
+     */
+    @Async(AsyncConfig.BROADCAST_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookCreated(BookCreatedEvent event) {
+        if (event.getWriterNickname() == null) {
+            event.setWriterNickname(memberIntegrationService.getUserNickname(event.getWriterId()));
+        }
+        messagePublisher.convertAndSend("/topic/books/new", event);
+    }
+}
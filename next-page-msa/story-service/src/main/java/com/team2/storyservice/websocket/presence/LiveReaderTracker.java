@@ -0,0 +1,257 @@
+package com.team2.storyservice.websocket.presence;
+
+import com.team2.storyservice.websocket.dto.LiveReadersDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 소설별 실시간 독자 추적기
+ *
+ * <p>
+ * STOMP 구독/구독 해제/연결 종료 이벤트로 /topic/sentences/{bookId} 구독 수를 소설별로 셉니다.
+ * 독자 수 조회는 카운터 하나를 읽고(O(1)), 인기 소설 Top-K는 publish-interval-ms마다 미리 계산한
+ * 목록을 그대로 돌려줍니다. 같은 주기에 독자 수가 바뀐 소설만 /topic/books/{bookId}/readers로 알립니다.
+ * </p>
+ *
+ * <ul>
+ * <li>소설 카운터는 0이 되어도 바로 지우지 않고 주기 정리 때 제거하므로, 구독/해제가 반복되어도 새 객체를 만들지 않습니다.</li>
+ * <li>카운터 증감/제거는 모두 ConcurrentHashMap의 compute 계열로 처리하여 정리와 겹쳐도 유실되지 않습니다.</li>
+ * <li>인스턴스 로컬 값입니다. (여러 인스턴스 운영 시 인스턴스별 합계가 전체 독자 수)
+ * relay 모드에서는 인스턴스마다 같은 토픽으로 보내므로 메시지에 출처({@link PresenceSource})와 만료 시간을 붙이고,
+ * 클라이언트가 출처별 최신 값을 더합니다. 독자가 있는 소설은 바뀌지 않아도 만료 시간의 절반마다 다시 보냅니다.</li>
+ * <li>지표: story.readers.sessions, story.readers.books, story.readers.total</li>
+ * </ul>
+ *
+ * @author 정진호
+ */
+@Slf4j
+@Component
+public class LiveReaderTracker {
+
+    private static final String SENTENCES_TOPIC = "/topic/sentences/";
+
+    /** 클라이언트가 출처별 값을 유지하는 시간 (알림 주기의 배수) */
+    private static final int TTL_INTERVALS = 5;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final PresenceSource presenceSource;
+
+    /** 소설 ID → 구독 수 */
+    private final Map<Long, AtomicInteger> readers = new ConcurrentHashMap<>();
+    /** 세션 ID → (구독 ID → 소설 ID) */
+    private final Map<String, Map<String, Long>> sessions = new ConcurrentHashMap<>();
+    /** 마지막 알림 이후 독자 수가 바뀐 소설 */
+    private final Set<Long> changedBookIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger totalReaders = new AtomicInteger();
+
+    @Value("${story.readers.publish-interval-ms:2000}")
+    private long publishIntervalMs;
+
+    @Value("${story.readers.top-k:100}")
+    private int topK;
+
+    private volatile List<LiveReadersDto> topBooks = List.of();
+    private ScheduledExecutorService publishExecutor;
+    private long lastRefreshAt;
+
+    public LiveReaderTracker(SimpMessagingTemplate messagingTemplate, PresenceSource presenceSource,
+            MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.presenceSource = presenceSource;
+        Gauge.builder("story.readers.sessions", sessions, Map::size)
+                .description("소설 문장 토픽을 구독 중인 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("story.readers.books", this, tracker -> tracker.topBooks.size())
+                .description("독자가 있는 소설 수 (Top-K 상한)")
+                .register(meterRegistry);
+        Gauge.builder("story.readers.total", totalReaders, AtomicInteger::get)
+                .description("전체 소설 문장 토픽 구독 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        publishExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-reader-publish");
+            thread.setDaemon(true);
+            return thread;
+        });
+        publishExecutor.scheduleWithFixedDelay(this::publishQuietly, publishIntervalMs, publishIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        publishExecutor.shutdownNow();
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long bookId = bookIdOf(accessor.getDestination());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (bookId == null || sessionId == null || subscriptionId == null) {
+            return;
+        }
+        Long previous = sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>(4))
+                .put(subscriptionId, bookId);
+        if (previous != null) {
+            // 같은 구독 ID로 다시 구독한 경우 이전 구독을 대체
+            decrement(previous);
+        }
+        increment(bookId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> subscriptions = accessor.getSessionId() != null
+                ? sessions.get(accessor.getSessionId())
+                : null;
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Long bookId = subscriptions.remove(accessor.getSubscriptionId());
+        if (bookId != null) {
+            decrement(bookId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    /**
+     * 소설의 현재 독자 수 (O(1))
+     */
+    public int getReaders(Long bookId) {
+        AtomicInteger count = readers.get(bookId);
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * 독자가 많은 소설 목록 (마지막 주기 기준, 최대 top-k개)
+     */
+    public List<LiveReadersDto> getTopBooks(int limit) {
+        List<LiveReadersDto> top = topBooks;
+        return top.size() <= limit ? top : top.subList(0, Math.max(0, limit));
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    private void increment(Long bookId) {
+        readers.compute(bookId, (id, count) -> {
+            AtomicInteger target = count != null ? count : new AtomicInteger();
+            target.incrementAndGet();
+            return target;
+        });
+        totalReaders.incrementAndGet();
+        changedBookIds.add(bookId);
+    }
+
+    void decrement(Long bookId) {
+        AtomicInteger remaining = readers.computeIfPresent(bookId, (id, count) -> {
+            count.decrementAndGet();
+            return count;
+        });
+        // 카운터가 없었으면 증가된 적도 없으므로 전체 합계도 그대로 둠
+        if (remaining != null) {
+            totalReaders.decrementAndGet();
+            changedBookIds.add(bookId);
+        }
+    }
+
+    private void publishQuietly() {
+        try {
+            publish();
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도 (스케줄이 중단되지 않도록)
+            log.warn("Failed to publish live readers: {}", e.getMessage());
+        }
+    }
+
+    void publish() {
+        publish(System.currentTimeMillis());
+    }
+
+    void publish(long now) {
+        long ttlMs = publishIntervalMs * TTL_INTERVALS;
+        boolean refresh = now - lastRefreshAt >= ttlMs / 2;
+        if (refresh) {
+            lastRefreshAt = now;
+        }
+        Set<Long> sent = new HashSet<>();
+        for (Long bookId : changedBookIds) {
+            changedBookIds.remove(bookId);
+            send(bookId, ttlMs);
+            sent.add(bookId);
+        }
+
+        // Top-K: 크기 K의 최소 힙으로 O(N log K), 독자가 없는 카운터는 이때 정리
+        PriorityQueue<LiveReadersDto> heap = new PriorityQueue<>(topK + 1,
+                Comparator.comparingInt(LiveReadersDto::getReaders));
+        for (Long bookId : readers.keySet()) {
+            AtomicInteger remaining = readers.computeIfPresent(bookId, (id, count) -> count.get() <= 0 ? null : count);
+            if (remaining == null) {
+                continue;
+            }
+            if (refresh && !sent.contains(bookId)) {
+                send(bookId, ttlMs);
+            }
+            heap.offer(new LiveReadersDto(bookId, remaining.get()));
+            if (heap.size() > topK) {
+                heap.poll();
+            }
+        }
+        List<LiveReadersDto> top = new ArrayList<>(heap);
+        top.sort(Comparator.comparingInt(LiveReadersDto::getReaders).reversed());
+        topBooks = List.copyOf(top);
+    }
+
+    private void send(Long bookId, long ttlMs) {
+        messagingTemplate.convertAndSend("/topic/books/" + bookId + "/readers",
+                new LiveReadersDto(bookId, getReaders(bookId), presenceSource.id(), ttlMs));
+    }
+
+    private static Long bookIdOf(String destination) {
+        if (destination == null || !destination.startsWith(SENTENCES_TOPIC)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(SENTENCES_TOPIC.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
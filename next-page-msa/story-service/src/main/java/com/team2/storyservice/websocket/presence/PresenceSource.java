@@ -0,0 +1,26 @@
+package com.team2.storyservice.websocket.presence;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 이 인스턴스의 Presence 출처 ID
+ *
+ * <p>
+ * 입력 상태/독자 수는 인스턴스마다 자기에게 연결된 세션만 집계합니다.
+ * relay 모드에서는 모든 인스턴스의 메시지가 같은 토픽으로 전달되므로,
+ * 메시지에 출처 ID를 붙여 클라이언트가 인스턴스별 최신 값을 합치도록 합니다. (프로세스 시작마다 새로 생성)
+ * </p>
+ *
+ * @author 정진호
+ */
+@Component
+public class PresenceSource {
+
+    private final String id = UUID.randomUUID().toString().substring(0, 8);
+
+    public String id() {
+        return id;
+    }
+}
@@ -0,0 +1,212 @@
+package com.team2.storyservice.websocket.presence;
+
+import com.team2.commonmodule.websocket.codec.CompactMessagePublisher;
+import com.team2.storyservice.websocket.dto.TypingSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소설별 입력 상태 집계기
+ *
+ * <p>
+ * 클라이언트가 보내는 입력 시작/종료 프레임을 그대로 중계하지 않고, 소설(채널)별로 입력 중인 사용자와
+ * 만료 시각만 갱신합니다. 전용 스레드가 flush-interval-ms마다 목록이 바뀐 소설에 한해
+ * "현재 입력 중인 사용자" 스냅샷 하나를 /topic/typing/{bookId}(또는 comment-typing)로 전송합니다.
+ * </p>
+ *
+ * <ul>
+ * <li>이미 입력 중인 사용자의 반복 시작 프레임은 만료 시각만 연장하고 전송하지 않습니다.</li>
+ * <li>종료 프레임이 유실되어도 ttl-ms 동안 갱신이 없으면 목록에서 제거됩니다.</li>
+ * <li>소설당 전송은 flush 주기당 최대 1회입니다. (프레임 수는 입력 횟수가 아니라 목록 변경 횟수에 비례)</li>
+ * <li>스냅샷은 이 인스턴스에 들어온 입력만 담고 출처({@link PresenceSource})를 붙입니다. relay 모드에서는 인스턴스마다
+ * 같은 토픽으로 보내므로 클라이언트가 출처별 최신 목록을 합칩니다. 목록이 비어 있지 않으면 바뀌지 않아도
+ * ttl-ms/2마다 다시 보내며, 클라이언트는 ttl-ms 동안 갱신이 없는 출처(종료된 인스턴스)의 목록을 버립니다.</li>
+ * <li>지표: story.typing.frames{direction=in|out}, story.typing.rooms</li>
+ * </ul>
+ *
+ * @author 정진호
+ */
+@Slf4j
+@Component
+public class TypingPresenceAggregator {
+
+    private final CompactMessagePublisher messagePublisher;
+    private final PresenceSource presenceSource;
+    private final Map<RoomKey, Room> rooms = new ConcurrentHashMap<>();
+    private final Counter inboundCounter;
+    private final Counter outboundCounter;
+
+    @Value("${story.typing.flush-interval-ms:300}")
+    private long flushIntervalMs;
+
+    @Value("${story.typing.ttl-ms:5000}")
+    private long ttlMs;
+
+    private ScheduledExecutorService flushExecutor;
+
+    public TypingPresenceAggregator(CompactMessagePublisher messagePublisher, PresenceSource presenceSource,
+            MeterRegistry meterRegistry) {
+        this.messagePublisher = messagePublisher;
+        this.presenceSource = presenceSource;
+        this.inboundCounter = Counter.builder("story.typing.frames")
+                .description("수신한 입력 상태 프레임 수")
+                .tag("direction", "in")
+                .register(meterRegistry);
+        this.outboundCounter = Counter.builder("story.typing.frames")
+                .description("전송한 입력 상태 스냅샷 수")
+                .tag("direction", "out")
+                .register(meterRegistry);
+        Gauge.builder("story.typing.rooms", rooms, Map::size)
+                .description("입력 중인 사용자가 있는 소설(채널) 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "typing-presence-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushExecutor.shutdownNow();
+    }
+
+    /**
+     * 입력 상태 프레임 반영 (전송은 다음 flush에서)
+     *
+     * @param channel  문장/댓글 입력 채널
+     * @param bookId   소설 ID
+     * @param nickname 사용자 닉네임 (없으면 무시)
+     * @param typing   입력 시작(true) / 종료(false)
+     */
+    public void update(Channel channel, Long bookId, String nickname, boolean typing) {
+        inboundCounter.increment();
+        if (bookId == null || nickname == null || nickname.isBlank()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        RoomKey key = new RoomKey(channel, bookId);
+        // compute 안에서 반영해야 flush가 빈 방을 제거하는 것과 겹쳐도 프레임이 유실되지 않음
+        if (typing) {
+            rooms.compute(key, (k, room) -> {
+                Room target = room != null ? room : new Room();
+                target.start(nickname, now + ttlMs);
+                return target;
+            });
+        } else {
+            rooms.computeIfPresent(key, (k, room) -> {
+                room.stop(nickname);
+                return room;
+            });
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도 (스케줄이 중단되지 않도록)
+            log.warn("Failed to flush typing presence: {}", e.getMessage());
+        }
+    }
+
+    void flush(long now) {
+        for (Map.Entry<RoomKey, Room> entry : rooms.entrySet()) {
+            RoomKey key = entry.getKey();
+            Room room = entry.getValue();
+            List<String> typers = room.snapshotIfChanged(now, ttlMs / 2);
+            if (typers != null) {
+                messagePublisher.convertAndSend(key.channel().destination(key.bookId()),
+                        new TypingSnapshot(key.bookId(), typers, presenceSource.id(), ttlMs));
+                outboundCounter.increment();
+            }
+            // 빈 목록까지 전송한 방은 제거 (동시에 시작 프레임이 들어왔으면 남겨 둠)
+            rooms.computeIfPresent(key, (k, r) -> r.isIdle() ? null : r);
+        }
+    }
+
+    /**
+     * 입력 상태 채널
+     */
+    public enum Channel {
+        SENTENCE("/topic/typing/"),
+        COMMENT("/topic/comment-typing/");
+
+        private final String topicPrefix;
+
+        Channel(String topicPrefix) {
+            this.topicPrefix = topicPrefix;
+        }
+
+        String destination(Long bookId) {
+            return topicPrefix + bookId;
+        }
+    }
+
+    private record RoomKey(Channel channel, Long bookId) {
+    }
+
+    /**
+     * 한 소설(채널)의 입력 중인 사용자 (닉네임 → 만료 시각, 입력 시작 순)
+     */
+    private static final class Room {
+
+        private final Map<String, Long> typers = new LinkedHashMap<>();
+        private boolean changed;
+        private long lastSentAt;
+
+        synchronized void start(String nickname, long expiresAt) {
+            if (typers.put(nickname, expiresAt) == null) {
+                changed = true;
+            }
+        }
+
+        synchronized void stop(String nickname) {
+            if (typers.remove(nickname) != null) {
+                changed = true;
+            }
+        }
+
+        /**
+         * 만료된 사용자를 정리하고, 마지막 전송 이후 목록이 바뀌었거나
+         * 비어 있지 않은 목록을 refreshMs 동안 보내지 않았으면 새 목록을 반환합니다.
+         */
+        synchronized List<String> snapshotIfChanged(long now, long refreshMs) {
+            if (typers.values().removeIf(expiresAt -> expiresAt <= now)) {
+                changed = true;
+            }
+            boolean refresh = !typers.isEmpty() && now - lastSentAt >= refreshMs;
+            if (!changed && !refresh) {
+                return null;
+            }
+            changed = false;
+            lastSentAt = now;
+            return new ArrayList<>(typers.keySet());
+        }
+
+        synchronized boolean isIdle() {
+            return typers.isEmpty() && !changed;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.team2.storyservice.command.book.service;
+
+import com.team2.commonmodule.error.BusinessException;
+import com.team2.storyservice.command.book.entity.Book;
+import com.team2.storyservice.command.book.entity.BookStatus;
+import com.team2.storyservice.command.book.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 한 소설에 수백 명의 작성자가 동시에 문장 작성 권한을 요청하는 상황에서
+ * 순서 중복/연속 작성 없이 권한이 부여되는지 검증하고, 기존 비관적 락 경로와 처리량/p99 지연을 비교합니다.
+ * 테스트 환경에는 DB가 없으므로 두 경로 모두 같은 트랜잭션 시간(TRANSACTION_NANOS)을 흉내 내며,
+ * 비관적 락 경로의 행 잠금(SELECT ... FOR UPDATE)은 공정 락으로 대신합니다.
+ * (Java 17 툴체인이므로 플랫폼 스레드 사용)
+ */
+@ExtendWith(MockitoExtension.class)
+class BookSequenceArbiterConcurrencyTest {
+
+    private static final long BOOK_ID = 1L;
+    private static final int WRITERS = 300;
+    private static final int ATTEMPTS_PER_WRITER = 200;
+    private static final int COMPARE_WRITERS = 100;
+    private static final int COMPARE_ATTEMPTS_PER_WRITER = 20;
+    private static final long TRANSACTION_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    @Mock
+    private BookRepository bookRepository;
+
+    private BookSequenceArbiter arbiter;
+
+    @BeforeEach
+    void setUp() {
+        arbiter = new BookSequenceArbiter(bookRepository);
+        ReflectionTestUtils.setField(arbiter, "maxBooks", 10000);
+
+        given(bookRepository.findById(BOOK_ID)).willReturn(Optional.of(book()));
+    }
+
+    @Test
+    @DisplayName("동시 작성자 수백 명: 순서당 한 명만 권한을 얻고, 같은 작성자가 연속으로 작성하지 않는다")
+    void hammerOneBook() throws InterruptedException {
+        Map<Integer, Long> writerBySequence = new ConcurrentHashMap<>();
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(WRITERS);
+        AtomicLong failures = new AtomicLong();
+
+        for (int w = 0; w < WRITERS; w++) {
+            long writerId = w + 1;
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < ATTEMPTS_PER_WRITER; i++) {
+                        try {
+                            BookSequenceArbiter.Ticket ticket = arbiter.acquire(BOOK_ID, writerId, false);
+                            if (writerBySequence.putIfAbsent(ticket.sequenceNo(), writerId) != null) {
+                                duplicated.incrementAndGet();
+                            }
+                            arbiter.release(ticket, true);
+                            committed.incrementAndGet();
+                        } catch (BusinessException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                } catch (Throwable t) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            }, "arbiter-writer-" + w).start();
+        }
+
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+
+        // then: 예외 없이 끝났고, 부여된 순서는 1..committed로 빈틈/중복이 없음
+        assertThat(failures.get()).isZero();
+        assertThat(duplicated.get()).isZero();
+        assertThat(committed.get()).isPositive();
+        assertThat(writerBySequence).hasSize(committed.get());
+        for (int sequence = 1; sequence <= committed.get(); sequence++) {
+            assertThat(writerBySequence).containsKey(sequence);
+            if (sequence > 1) {
+                assertThat(writerBySequence.get(sequence)).isNotEqualTo(writerBySequence.get(sequence - 1));
+            }
+        }
+        // 다음 권한은 마지막으로 부여된 순서의 다음 번호
+        BookSequenceArbiter.Ticket next = arbiter.acquire(BOOK_ID, -1L, false);
+        assertThat(next.sequenceNo()).isEqualTo(committed.get() + 1);
+
+        assertThat(committed.get() + rejected.get()).isEqualTo(WRITERS * ATTEMPTS_PER_WRITER);
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션 시간에서 중재자 경로는 비관적 락 경로보다 시도 처리량이 높고 p99 지연이 낮다")
+    void compareWithPessimisticLock() throws InterruptedException {
+        // given: 비관적 락 경로 - 행 잠금을 기다린 뒤 검증, 트랜잭션, 상태 갱신
+        Book lockedBook = book();
+        ReentrantLock rowLock = new ReentrantLock(true);
+        Attempt pessimistic = writerId -> {
+            rowLock.lock();
+            try {
+                lockedBook.validateWritingPossible(writerId, false);
+                LockSupport.parkNanos(TRANSACTION_NANOS);
+                lockedBook.updateStateAfterWriting(writerId);
+            } finally {
+                rowLock.unlock();
+            }
+        };
+        // 중재자 경로 - 경쟁/연속 작성은 메모리에서 바로 거절, 권한을 얻은 경우에만 트랜잭션
+        Attempt arbitrated = writerId -> {
+            BookSequenceArbiter.Ticket ticket = arbiter.acquire(BOOK_ID, writerId, false);
+            LockSupport.parkNanos(TRANSACTION_NANOS);
+            arbiter.release(ticket, true);
+        };
+
+        // when
+        RunResult lockResult = run(pessimistic);
+        RunResult arbiterResult = run(arbitrated);
+
+        // then
+        assertThat(lockResult.committed()).isPositive();
+        assertThat(arbiterResult.committed()).isPositive();
+        assertThat(arbiterResult.attemptsPerSecond()).isGreaterThan(lockResult.attemptsPerSecond());
+        assertThat(arbiterResult.p99Nanos()).isLessThan(lockResult.p99Nanos());
+    }
+
+    private RunResult run(Attempt attempt) throws InterruptedException {
+        AtomicInteger committed = new AtomicInteger();
+        AtomicLong failures = new AtomicLong();
+        long[][] latencies = new long[COMPARE_WRITERS][COMPARE_ATTEMPTS_PER_WRITER];
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(COMPARE_WRITERS);
+
+        for (int w = 0; w < COMPARE_WRITERS; w++) {
+            long writerId = w + 1;
+            long[] writerLatencies = latencies[w];
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < COMPARE_ATTEMPTS_PER_WRITER; i++) {
+                        long started = System.nanoTime();
+                        try {
+                            attempt.run(writerId);
+                            committed.incrementAndGet();
+                        } catch (BusinessException e) {
+                            // 연속 작성/동시 작성 경쟁으로 거절
+                        }
+                        writerLatencies[i] = System.nanoTime() - started;
+                    }
+                } catch (Throwable t) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            }, "compare-writer-" + w).start();
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        long elapsedNanos = System.nanoTime() - started;
+        assertThat(failures.get()).isZero();
+
+        long[] all = new long[COMPARE_WRITERS * COMPARE_ATTEMPTS_PER_WRITER];
+        for (int w = 0; w < COMPARE_WRITERS; w++) {
+            System.arraycopy(latencies[w], 0, all, w * COMPARE_ATTEMPTS_PER_WRITER, COMPARE_ATTEMPTS_PER_WRITER);
+        }
+        Arrays.sort(all);
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new RunResult(committed.get(), all.length / seconds, all[(int) (all.length * 0.99) - 1]);
+    }
+
+    private static Book book() {
+        return Book.builder()
+                .bookId(BOOK_ID)
+                .writerId(0L)
+                .categoryId("FANTASY")
+                .title("동시 작성 테스트")
+                .status(BookStatus.WRITING)
+                .currentSequence(1)
+                .maxSequence(Integer.MAX_VALUE - 1)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Attempt {
+        void run(long writerId);
+    }
+
+    private record RunResult(int committed, double attemptsPerSecond, long p99Nanos) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.team2.storyservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.apache.tomcat.websocket.server.WsSci;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * websocket.broker.mode=relay에서 한 인스턴스가 보낸 메시지를 다른 인스턴스에 연결된 구독자가 받는지 검증합니다.
+ * (내장 Artemis STOMP 브로커 + WebSocketConfig만 올린 story-service 인스턴스 2개)
+ */
+class WebSocketBrokerRelayIntegrationTest {
+
+    private static final String DESTINATION = "/topic/sentences/1";
+
+    private EmbeddedActiveMQ broker;
+    private AnnotationConfigServletWebServerApplicationContext nodeA;
+    private AnnotationConfigServletWebServerApplicationContext nodeB;
+    private WebSocketStompClient stompClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int stompPort = freePort();
+        broker = new EmbeddedActiveMQ().setConfiguration(new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + stompPort + "?protocols=STOMP"));
+        broker.start();
+
+        nodeA = startNode(stompPort);
+        nodeB = startNode(stompPort);
+
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (broker != null) {
+            broker.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("relay 모드에서는 다른 인스턴스가 보낸 메시지도 구독자에게 전달된다")
+    void crossNodeDelivery() throws Exception {
+        // given: A 인스턴스에 연결한 구독자
+        BlockingQueue<Map<?, ?>> received = new LinkedBlockingQueue<>();
+        StompSession session = stompClient
+                .connectAsync("ws://localhost:" + nodeA.getWebServer().getPort() + "/ws/websocket",
+                        new StompSessionHandlerAdapter() {
+                        })
+                .get(5, TimeUnit.SECONDS);
+        session.subscribe(DESTINATION, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((Map<?, ?>) payload);
+            }
+        });
+
+        // when: B 인스턴스에서 발행 (구독이 브로커에 등록될 때까지 재시도)
+        SimpMessagingTemplate publisherOnB = nodeB.getBean("brokerMessagingTemplate", SimpMessagingTemplate.class);
+        Map<?, ?> message = null;
+        for (int attempt = 0; attempt < 50 && message == null; attempt++) {
+            publisherOnB.convertAndSend(DESTINATION, Map.of("bookId", 1, "content", "다른 노드의 문장"));
+            message = received.poll(100, TimeUnit.MILLISECONDS);
+        }
+
+        // then
+        assertThat(message).isNotNull();
+        assertThat(message.get("content")).isEqualTo("다른 노드의 문장");
+        session.disconnect();
+    }
+
+    private static AnnotationConfigServletWebServerApplicationContext startNode(int stompPort)
+            throws InterruptedException {
+        AnnotationConfigServletWebServerApplicationContext context = new AnnotationConfigServletWebServerApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("relay", Map.of(
+                "websocket.broker.mode", "relay",
+                "websocket.broker.relay.host", "127.0.0.1",
+                "websocket.broker.relay.port", String.valueOf(stompPort))));
+        context.register(NodeConfig.class);
+        context.refresh();
+
+        StompBrokerRelayMessageHandler relay = context.getBean(StompBrokerRelayMessageHandler.class);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!relay.isBrokerAvailable() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(relay.isBrokerAvailable()).isTrue();
+        return context;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Configuration
+    @Import({ WebSocketConfig.class, WebSocketTransportConfig.class })
+    static class NodeConfig {
+
+        @Bean
+        TomcatServletWebServerFactory webServerFactory() {
+            TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+            // JSR-356 ServerContainer 등록 (Spring Boot WebSocket 자동 구성과 동일)
+            factory.addContextCustomizers(context -> context.addServletContainerInitializer(new WsSci(), null));
+            return factory;
+        }
+
+        @Bean
+        DispatcherServlet dispatcherServlet() {
+            return new DispatcherServlet();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.team2.storyservice.query.book.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 뷰어 보강 호출(소설 통계, 닉네임, 문장 통계)을 지연이 있는 스텁으로 대체하여
+ * 순차 호출 대비 병렬 호출의 지연(p50/p99)을 비교하고, 마감 시간 초과 시 작업이 중단되는지 검증합니다.
+ */
+class ViewerEnrichmentExecutorBenchmarkTest {
+
+    private static final long REMOTE_LATENCY_MS = 50;
+    private static final long TIMEOUT_MS = 300;
+    private static final int ITERATIONS = 40;
+
+    private ViewerEnrichmentExecutor enrichmentExecutor;
+
+    @BeforeEach
+    void setUp() {
+        enrichmentExecutor = new ViewerEnrichmentExecutor(16, 200, TIMEOUT_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        enrichmentExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("세 원격 호출을 병렬로 실행하면 뷰어 지연이 가장 느린 호출 수준으로 줄어든다")
+    void parallelEnrichmentLatency() {
+        // given
+        Supplier<String> remoteCall = () -> {
+            sleep(REMOTE_LATENCY_MS);
+            return "ok";
+        };
+
+        // when
+        long[] sequential = new long[ITERATIONS];
+        long[] parallel = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            remoteCall.get();
+            remoteCall.get();
+            remoteCall.get();
+            sequential[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            CompletableFuture<String> bookStats = enrichmentExecutor.submit("book stats", remoteCall);
+            CompletableFuture<String> nicknames = enrichmentExecutor.submit("nicknames", remoteCall);
+            CompletableFuture<String> sentenceStats = enrichmentExecutor.submit("sentence stats", remoteCall);
+            CompletableFuture.allOf(bookStats, nicknames, sentenceStats).join();
+            parallel[i] = System.nanoTime() - start;
+
+            assertThat(bookStats.join()).isEqualTo("ok");
+            assertThat(sentenceStats.join()).isEqualTo("ok");
+        }
+
+        // then
+        assertThat(percentileMs(sequential, 50)).isGreaterThanOrEqualTo(REMOTE_LATENCY_MS * 3);
+        assertThat(percentileMs(parallel, 50)).isLessThan(REMOTE_LATENCY_MS * 2);
+        assertThat(percentileMs(parallel, 99)).isLessThan(percentileMs(sequential, 50));
+    }
+
+    @Test
+    @DisplayName("마감 시간을 넘긴 호출은 null로 완료되고 실행 중인 작업은 인터럽트된다")
+    void timedOutCallIsCancelled() throws Exception {
+        // given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Supplier<String> hangingCall = () -> {
+            try {
+                Thread.sleep(TIMEOUT_MS * 20);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        };
+
+        // when
+        long start = System.nanoTime();
+        String result = enrichmentExecutor.submit("hanging call", hangingCall).join();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertThat(result).isNull();
+        assertThat(elapsedMs).isLessThan(TIMEOUT_MS * 3);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static long percentileMs(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(index, 0)]);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
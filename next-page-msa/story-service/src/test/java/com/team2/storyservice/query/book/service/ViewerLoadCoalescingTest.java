@@ -0,0 +1,196 @@
+package com.team2.storyservice.query.book.service;
+
+import com.team2.commonmodule.feign.ReactionServiceClient;
+import com.team2.commonmodule.feign.cache.MemberInfoCache;
+import com.team2.commonmodule.feign.dto.BookReactionInfoDto;
+import com.team2.commonmodule.feign.dto.MyVotesDto;
+import com.team2.commonmodule.feign.dto.SentenceReactionInfoDto;
+import com.team2.commonmodule.response.ApiResponse;
+import com.team2.storyservice.query.book.dto.response.BookDetailDto;
+import com.team2.storyservice.query.book.dto.response.SentenceDto;
+import com.team2.storyservice.query.book.mapper.BookMapper;
+import com.team2.storyservice.search.service.BookSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 같은 소설의 뷰어 조회가 동시에 몰려도 DB 조회와 원격 보강 호출이 한 번만 수행되고,
+ * 로그인 사용자의 투표 상태는 공유 조회와 병렬로 한 번의 호출로 덮어써지는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ViewerLoadCoalescingTest {
+
+    private static final Long BOOK_ID = 1L;
+    private static final int CONCURRENT_VIEWERS = 20;
+
+    @Mock
+    private BookMapper bookMapper;
+
+    @Mock
+    private MemberInfoCache memberInfoCache;
+
+    @Mock
+    private ReactionServiceClient reactionServiceClient;
+
+    @Mock
+    private BookCountCache bookCountCache;
+
+    @Mock
+    private BookSearchIndex searchIndex;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ViewerEnrichmentExecutor enrichmentExecutor;
+    private BookQueryService bookQueryService;
+
+    @BeforeEach
+    void setUp() {
+        enrichmentExecutor = new ViewerEnrichmentExecutor(8, 100, 2000);
+        ViewerLoadCoalescer coalescer = new ViewerLoadCoalescer(meterRegistry, true, 3000);
+        bookQueryService = new BookQueryService(bookMapper, memberInfoCache, reactionServiceClient,
+                enrichmentExecutor, bookCountCache, searchIndex, coalescer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        enrichmentExecutor.shutdown();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("동시 뷰어 조회 N건은 DB 조회 1번과 원격 보강 호출 1세트로 처리된다")
+    void concurrentViewersShareOneLoad() throws Exception {
+        // given: 나머지 요청이 모두 대기열에 합류할 때까지 첫 조회를 붙잡아 둠
+        willAnswer(invocation -> {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalescedCount() < CONCURRENT_VIEWERS - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            return book();
+        }).given(bookMapper).findBookForViewer(BOOK_ID, null);
+        given(bookMapper.findSentencesByBookId(BOOK_ID, null)).willReturn(sentences());
+        given(reactionServiceClient.getBookReactionStats(BOOK_ID, null))
+                .willReturn(ApiResponse.success(new BookReactionInfoDto(BOOK_ID, 3, 1, null)));
+        given(reactionServiceClient.getSentenceReactions(anyList(), isNull()))
+                .willReturn(ApiResponse.success(Map.of(10L, new SentenceReactionInfoDto(10L, 5, 0, null))));
+        given(memberInfoCache.getNicknames(anyList())).willReturn(Map.of(7L, "작가"));
+
+        // when
+        ExecutorService viewers = Executors.newFixedThreadPool(CONCURRENT_VIEWERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<BookDetailDto>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_VIEWERS; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(start);
+                    return bookQueryService.getBookForViewer(BOOK_ID, true, false);
+                }, viewers));
+            }
+            start.countDown();
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        } finally {
+            viewers.shutdownNow();
+        }
+
+        // then
+        assertThat(coalescedCount()).isEqualTo(CONCURRENT_VIEWERS - 1);
+        verify(bookMapper, times(1)).findBookForViewer(BOOK_ID, null);
+        verify(bookMapper, times(1)).findSentencesByBookId(BOOK_ID, null);
+        verify(reactionServiceClient, times(1)).getBookReactionStats(BOOK_ID, null);
+        verify(reactionServiceClient, times(1)).getSentenceReactions(anyList(), isNull());
+        verify(memberInfoCache, times(1)).getNicknames(anyList());
+        for (CompletableFuture<BookDetailDto> result : results) {
+            BookDetailDto book = result.join();
+            assertThat(book.getLikeCount()).isEqualTo(3);
+            assertThat(book.getSentences()).singleElement()
+                    .satisfies(sentence -> assertThat(sentence.getWriterNicknm()).isEqualTo("작가"));
+        }
+    }
+
+    @Test
+    @DisplayName("로그인 사용자의 투표 상태는 한 번의 호출로 조회되어 공유 결과 복사본에만 반영된다")
+    void myVotesFetchedInSingleCall() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-User-Id", "42");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        given(bookMapper.findBookForViewer(BOOK_ID, null)).willReturn(book());
+        given(bookMapper.findSentencesByBookId(BOOK_ID, null)).willReturn(sentences());
+        given(reactionServiceClient.getBookReactionStats(BOOK_ID, null))
+                .willReturn(ApiResponse.success(new BookReactionInfoDto(BOOK_ID, 3, 1, null)));
+        given(reactionServiceClient.getSentenceReactions(anyList(), isNull()))
+                .willReturn(ApiResponse.success(Map.of()));
+        given(memberInfoCache.getNicknames(anyList())).willReturn(Map.of());
+        given(reactionServiceClient.getMyVotes(BOOK_ID, 42L))
+                .willReturn(ApiResponse.success(new MyVotesDto(BOOK_ID, "LIKE", List.of(10L), List.of())));
+
+        // when
+        BookDetailDto book = bookQueryService.getBookForViewer(BOOK_ID, true);
+
+        // then
+        assertThat(book.getMyVote()).isEqualTo("LIKE");
+        assertThat(book.getSentences().get(0).getMyVote()).isEqualTo("LIKE");
+        verify(reactionServiceClient, times(1)).getMyVotes(BOOK_ID, 42L);
+        verify(reactionServiceClient, never()).getBookReactionStats(eq(BOOK_ID), eq(42L));
+        verify(reactionServiceClient, never()).getSentenceReactions(anyList(), any(Long.class));
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.get("story.viewer.load").tag("result", "coalesced").counter().count();
+    }
+
+    private static BookDetailDto book() {
+        BookDetailDto book = new BookDetailDto();
+        book.setBookId(BOOK_ID);
+        book.setWriterId(7L);
+        book.setTitle("용사의 모험");
+        return book;
+    }
+
+    private static List<SentenceDto> sentences() {
+        SentenceDto sentence = new SentenceDto();
+        sentence.setSentenceId(10L);
+        sentence.setSequenceNo(1);
+        sentence.setWriterId(7L);
+        sentence.setContent("용사는 길을 떠났다");
+        return new ArrayList<>(List.of(sentence));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.team2.storyservice.search.service;
+
+import com.team2.storyservice.query.book.dto.request.BookSearchRequest;
+import com.team2.storyservice.query.book.dto.response.BookDto;
+import com.team2.storyservice.search.dto.BookSearchHit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 재구축 중에도 기존 색인으로 검색되고, 전환 이후에는 새 색인만 사용되는지 검증합니다.
+ */
+class BookSearchIndexRebuildTest {
+
+    @TempDir
+    Path indexDir;
+
+    private BookSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = openIndex();
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchIndex.close();
+    }
+
+    @Test
+    @DisplayName("재구축이 전환되기 전까지는 기존 색인으로 검색된다")
+    void searchServedFromLiveIndexDuringRebuild() {
+        // given
+        searchIndex.upsert(book(1L, "용사의 모험"), List.of("용사는 길을 떠났다"));
+
+        // when
+        BookSearchIndex.Rebuild rebuild = searchIndex.startRebuild();
+        rebuild.upsert(book(2L, "마법사의 탑"), List.of("탑 꼭대기에는 마법사가 살았다"));
+
+        // then
+        assertThat(searchIds("용사")).containsExactly(1L);
+        assertThat(searchIds("마법사")).isEmpty();
+
+        rebuild.publish();
+
+        assertThat(searchIds("용사")).isEmpty();
+        assertThat(searchIds("마법사")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("전환된 색인은 재시작 후에도 유지되고 이전 세대 디렉터리는 삭제된다")
+    void publishedGenerationSurvivesRestart() throws Exception {
+        // given
+        searchIndex.upsert(book(1L, "용사의 모험"), List.of("용사는 길을 떠났다"));
+        searchIndex.commit();
+
+        // when
+        BookSearchIndex.Rebuild rebuild = searchIndex.startRebuild();
+        rebuild.upsert(book(2L, "마법사의 탑"), List.of("탑 꼭대기에는 마법사가 살았다"));
+        rebuild.publish();
+        searchIndex.close();
+        searchIndex = openIndex();
+
+        // then
+        assertThat(searchIds("마법사")).containsExactly(2L);
+        try (Stream<Path> children = Files.list(indexDir)) {
+            assertThat(children.filter(Files::isDirectory)).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("취소된 재구축은 기존 색인에 영향을 주지 않는다")
+    void abortedRebuildKeepsLiveIndex() {
+        // given
+        searchIndex.upsert(book(1L, "용사의 모험"), List.of("용사는 길을 떠났다"));
+
+        // when
+        BookSearchIndex.Rebuild rebuild = searchIndex.startRebuild();
+        rebuild.upsert(book(2L, "마법사의 탑"), List.of("탑 꼭대기에는 마법사가 살았다"));
+        rebuild.abort();
+
+        // then
+        assertThat(searchIds("용사")).containsExactly(1L);
+        assertThat(searchIds("마법사")).isEmpty();
+    }
+
+    private BookSearchIndex openIndex() {
+        BookSearchIndex index = new BookSearchIndex();
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "indexDir", indexDir.toString());
+        ReflectionTestUtils.setField(index, "commitIntervalMs", 60_000L);
+        index.open();
+        assertThat(index.isAvailable()).isTrue();
+        return index;
+    }
+
+    private List<Long> searchIds(String keyword) {
+        BookSearchRequest request = new BookSearchRequest();
+        request.setKeyword(keyword);
+        return searchIndex.search(request, false).hits().stream()
+                .map(BookSearchHit::bookId)
+                .toList();
+    }
+
+    private static BookDto book(Long bookId, String title) {
+        BookDto book = new BookDto();
+        book.setBookId(bookId);
+        book.setWriterId(1L);
+        book.setCategoryId("FANTASY");
+        book.setTitle(title);
+        book.setStatus("WRITING");
+        return book;
+    }
+}
@@ -0,0 +1,128 @@
+package com.team2.storyservice.websocket.listener;
+
+import com.team2.commonmodule.websocket.codec.CompactMessagePublisher;
+import com.team2.storyservice.command.book.service.MemberIntegrationService;
+import com.team2.storyservice.config.AsyncConfig;
+import com.team2.storyservice.websocket.dto.SentenceCreatedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * member-service 응답이 느려도 문장 작성 트랜잭션의 락 유지 시간이 늘어나지 않는지 검증합니다.
+ * (닉네임 조회와 전송은 커밋 이후 broadcastExecutor에서 수행)
+ */
+@SpringJUnitConfig(StoryEventBroadcasterLockHoldTest.TestConfig.class)
+class StoryEventBroadcasterLockHoldTest {
+
+    private static final long MEMBER_SERVICE_DELAY_MS = 1000;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MemberIntegrationService memberIntegrationService;
+
+    @Autowired
+    private CompactMessagePublisher messagePublisher;
+
+    @Test
+    @DisplayName("member-service 지연은 커밋 이후에만 발생하여 락 유지 시간에 포함되지 않는다")
+    void lockHoldTimeIndependentOfMemberService() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            Thread.sleep(MEMBER_SERVICE_DELAY_MS);
+            return "느린작가";
+        }).given(memberIntegrationService).getUserNickname(7L);
+
+        ReentrantLock bookLock = new ReentrantLock();
+
+        // when: 락을 잡은 채로 트랜잭션 실행 (이벤트 발행 -> 커밋 -> 커밋 후 리스너 호출까지 포함)
+        bookLock.lock();
+        long lockedAt = System.nanoTime();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> eventPublisher
+                    .publishEvent(new SentenceCreatedEvent(1L, 10L, "문장", 2, null, 7L)));
+        } finally {
+            bookLock.unlock();
+        }
+        long holdMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lockedAt);
+
+        // then
+        assertThat(holdMs).isLessThan(MEMBER_SERVICE_DELAY_MS / 4);
+
+        ArgumentCaptor<SentenceCreatedEvent> payload = ArgumentCaptor.forClass(SentenceCreatedEvent.class);
+        verify(messagePublisher, timeout(MEMBER_SERVICE_DELAY_MS * 3))
+                .convertAndSend(eq("/topic/sentences/1"), payload.capture());
+        assertThat(payload.getValue().getWriterNickname()).isEqualTo("느린작가");
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({ AsyncConfig.class, StoryEventBroadcaster.class })
+    static class TestConfig {
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new NoOpTransactionManager();
+        }
+
+        @Bean
+        MemberIntegrationService memberIntegrationService() {
+            return mock(MemberIntegrationService.class);
+        }
+
+        @Bean
+        CompactMessagePublisher compactMessagePublisher() {
+            return mock(CompactMessagePublisher.class);
+        }
+    }
+
+    /**
+     * 트랜잭션 동기화 콜백만 제공하는 트랜잭션 매니저 (DB 없음)
+     */
+    static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.team2.storyservice.websocket.presence;
+
+import com.team2.storyservice.websocket.dto.LiveReadersDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 구독/해제/연결 종료에 따른 독자 수 집계, 출처가 붙은 주기 알림, 동시 변경 시 합계 일관성을 검증합니다.
+ */
+class LiveReaderTrackerTest {
+
+    private static final long PUBLISH_INTERVAL_MS = 2000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SimpMessagingTemplate messagingTemplate;
+    private LiveReaderTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        tracker = new LiveReaderTracker(messagingTemplate, new PresenceSource(), meterRegistry);
+        ReflectionTestUtils.setField(tracker, "publishIntervalMs", PUBLISH_INTERVAL_MS);
+        ReflectionTestUtils.setField(tracker, "topK", 10);
+    }
+
+    @Test
+    @DisplayName("구독/해제/연결 종료에 따라 소설별 독자 수와 Top-K가 갱신된다")
+    void countsSubscriptionsPerBook() {
+        // given
+        tracker.onSubscribe(subscribe("s1", "sub-1", "/topic/sentences/1"));
+        tracker.onSubscribe(subscribe("s2", "sub-1", "/topic/sentences/1"));
+        tracker.onSubscribe(subscribe("s2", "sub-2", "/topic/sentences/2"));
+        tracker.onSubscribe(subscribe("s3", "sub-1", "/topic/typing/1"));
+
+        // when
+        tracker.onUnsubscribe(unsubscribe("s1", "sub-1"));
+        tracker.onDisconnect(disconnect("s2"));
+        tracker.onSubscribe(subscribe("s4", "sub-1", "/topic/sentences/2"));
+        tracker.publish(0);
+
+        // then
+        assertThat(tracker.getReaders(1L)).isZero();
+        assertThat(tracker.getReaders(2L)).isEqualTo(1);
+        assertThat(totalReaders()).isEqualTo(1);
+        assertThat(tracker.getTopBooks(10)).extracting(LiveReadersDto::getBookId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("카운터가 없는 소설의 감소는 전체 독자 수를 줄이지 않는다")
+    void decrementWithoutCounterKeepsTotal() {
+        // given
+        tracker.onSubscribe(subscribe("s1", "sub-1", "/topic/sentences/1"));
+
+        // when
+        tracker.decrement(99L);
+
+        // then
+        assertThat(totalReaders()).isEqualTo(1);
+        assertThat(tracker.getReaders(99L)).isZero();
+    }
+
+    @Test
+    @DisplayName("독자 수 알림에는 출처와 만료 시간이 붙고, 독자가 있으면 바뀌지 않아도 주기적으로 다시 보낸다")
+    void publishesTaggedCountsAndRefreshes() {
+        // given
+        tracker.onSubscribe(subscribe("s1", "sub-1", "/topic/sentences/1"));
+        long ttlMs = PUBLISH_INTERVAL_MS * 5;
+
+        // when
+        tracker.publish(ttlMs);
+        tracker.publish(ttlMs + PUBLISH_INTERVAL_MS);
+        tracker.publish(ttlMs + ttlMs / 2);
+
+        // then: 변경 알림 1회 + 갱신 알림 1회 (중간 주기는 변경/갱신 없음)
+        ArgumentCaptor<LiveReadersDto> messages = ArgumentCaptor.forClass(LiveReadersDto.class);
+        verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/books/1/readers"), messages.capture());
+        assertThat(messages.getAllValues()).allSatisfy(message -> {
+            assertThat(message.getReaders()).isEqualTo(1);
+            assertThat(message.getSource()).isNotBlank();
+            assertThat(message.getTtlMs()).isEqualTo(ttlMs);
+        });
+    }
+
+    @Test
+    @DisplayName("구독/해제와 주기 정리가 동시에 일어나도 소설별 합계와 전체 합계가 어긋나지 않는다")
+    void concurrentChurnKeepsTotalsConsistent() throws Exception {
+        // given
+        int threads = 8;
+        int iterations = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // when
+        List<Future<?>> workers = new ArrayList<>();
+        try {
+            Future<?> publisher = executor.submit(() -> {
+                while (running.get()) {
+                    tracker.publish();
+                }
+            });
+            for (int t = 0; t < threads; t++) {
+                String sessionId = "s" + t;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        String destination = "/topic/sentences/" + (i % 3);
+                        tracker.onSubscribe(subscribe(sessionId, "sub-" + (i % 2), destination));
+                        if (i % 5 == 0) {
+                            tracker.onDisconnect(disconnect(sessionId));
+                        } else {
+                            tracker.onUnsubscribe(unsubscribe(sessionId, "sub-" + (i % 2)));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+            running.set(false);
+            publisher.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        tracker.publish();
+
+        // then
+        assertThat(totalReaders()).isZero();
+        for (long bookId = 0; bookId < 3; bookId++) {
+            assertThat(tracker.getReaders(bookId)).isZero();
+        }
+        assertThat(tracker.getTopBooks(10)).isEmpty();
+        verify(messagingTemplate, atLeastOnce()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private double totalReaders() {
+        return meterRegistry.get("story.readers.total").gauge().value();
+    }
+
+    private static SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(LiveReaderTrackerTest.class, message(accessor));
+    }
+
+    private static SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(LiveReaderTrackerTest.class, message(accessor));
+    }
+
+    private static SessionDisconnectEvent disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return new SessionDisconnectEvent(LiveReaderTrackerTest.class, message(accessor), sessionId,
+                CloseStatus.NORMAL);
+    }
+
+    private static Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
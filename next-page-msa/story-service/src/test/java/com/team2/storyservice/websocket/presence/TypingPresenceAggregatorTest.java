@@ -0,0 +1,102 @@
+package com.team2.storyservice.websocket.presence;
+
+import com.team2.commonmodule.websocket.codec.CompactMessagePublisher;
+import com.team2.storyservice.websocket.dto.TypingSnapshot;
+import com.team2.storyservice.websocket.presence.TypingPresenceAggregator.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * relay 모드에서 인스턴스별 입력 상태 스냅샷이 서로를 덮어쓰지 않도록 출처와 만료 시간을 붙여 보내는지 검증합니다.
+ */
+class TypingPresenceAggregatorTest {
+
+    private static final long TTL_MS = 5000;
+    private static final String DESTINATION = "/topic/typing/1";
+
+    @Test
+    @DisplayName("인스턴스마다 자기 입력만 담은 스냅샷에 서로 다른 출처를 붙여 보낸다")
+    void snapshotsAreTaggedPerInstance() {
+        // given
+        CompactMessagePublisher publisher = mock(CompactMessagePublisher.class);
+        TypingPresenceAggregator nodeA = aggregator(publisher);
+        TypingPresenceAggregator nodeB = aggregator(publisher);
+
+        // when
+        nodeA.update(Channel.SENTENCE, 1L, "작가A", true);
+        nodeB.update(Channel.SENTENCE, 1L, "작가B", true);
+        nodeA.flush(1_000);
+        nodeB.flush(1_000);
+
+        // then
+        ArgumentCaptor<TypingSnapshot> snapshots = ArgumentCaptor.forClass(TypingSnapshot.class);
+        verify(publisher, times(2)).convertAndSend(eq(DESTINATION), snapshots.capture());
+        TypingSnapshot fromA = snapshots.getAllValues().get(0);
+        TypingSnapshot fromB = snapshots.getAllValues().get(1);
+        assertThat(fromA.getTypers()).containsExactly("작가A");
+        assertThat(fromB.getTypers()).containsExactly("작가B");
+        assertThat(fromA.getSource()).isNotEqualTo(fromB.getSource());
+        assertThat(fromA.getTtlMs()).isEqualTo(TTL_MS);
+    }
+
+    @Test
+    @DisplayName("입력 중인 사용자가 있으면 목록이 그대로여도 ttl-ms/2마다 다시 보낸다")
+    void nonEmptySnapshotIsRefreshed() {
+        // given
+        CompactMessagePublisher publisher = mock(CompactMessagePublisher.class);
+        TypingPresenceAggregator aggregator = aggregator(publisher);
+        long now = System.currentTimeMillis();
+        aggregator.update(Channel.SENTENCE, 1L, "작가A", true);
+        aggregator.flush(now);
+
+        // when: 변경 없이 ttl/2 전후로 flush (시작 프레임 반복으로 만료 시각만 연장)
+        aggregator.flush(now + TTL_MS / 2 - 1);
+        aggregator.update(Channel.SENTENCE, 1L, "작가A", true);
+        aggregator.flush(now + TTL_MS / 2);
+
+        // then
+        ArgumentCaptor<TypingSnapshot> snapshots = ArgumentCaptor.forClass(TypingSnapshot.class);
+        verify(publisher, times(2)).convertAndSend(eq(DESTINATION), snapshots.capture());
+        assertThat(snapshots.getAllValues()).extracting(TypingSnapshot::getTypers)
+                .containsExactly(List.of("작가A"), List.of("작가A"));
+    }
+
+    @Test
+    @DisplayName("빈 목록은 한 번만 보내고 다시 보내지 않는다")
+    void emptySnapshotIsNotRefreshed() {
+        // given
+        CompactMessagePublisher publisher = mock(CompactMessagePublisher.class);
+        TypingPresenceAggregator aggregator = aggregator(publisher);
+        aggregator.update(Channel.SENTENCE, 1L, "작가A", true);
+        aggregator.update(Channel.SENTENCE, 1L, "작가A", false);
+
+        // when
+        aggregator.flush(1_000);
+        aggregator.flush(1_000 + TTL_MS);
+
+        // then
+        ArgumentCaptor<TypingSnapshot> snapshots = ArgumentCaptor.forClass(TypingSnapshot.class);
+        verify(publisher, times(1)).convertAndSend(eq(DESTINATION), snapshots.capture());
+        assertThat(snapshots.getValue().getTypers()).isEmpty();
+        verify(publisher, never()).convertAndSend(eq("/topic/comment-typing/1"), snapshots.capture());
+    }
+
+    private static TypingPresenceAggregator aggregator(CompactMessagePublisher publisher) {
+        TypingPresenceAggregator aggregator = new TypingPresenceAggregator(publisher, new PresenceSource(),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(aggregator, "ttlMs", TTL_MS);
+        return aggregator;
+    }
+}
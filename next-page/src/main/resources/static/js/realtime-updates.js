@@ -6,6 +6,19 @@
     let isPulling = false;
     let stompClient = null;
 
+    // 서버가 지원하면 필드 이름 없는 배열(Compact) 형식으로 수신 (지원하지 않으면 JSON 그대로)
+    const COMPACT_TYPE = 'application/vnd.nextpage.compact+json';
+
+    // 새 소설 메시지 디코딩: ["B", bookId, title, categoryName, writerNickname]
+    function decodeBookEvent(message) {
+        const body = JSON.parse(message.body);
+        const contentType = message.headers['content-type'] || '';
+        if (contentType.indexOf(COMPACT_TYPE) !== 0 || !Array.isArray(body) || body[0] !== 'B') {
+            return body;
+        }
+        return { bookId: body[1], title: body[2], categoryName: body[3], writerNickname: body[4] };
+    }
+
     // Pull-to-Refresh 초기화
     function initPullToRefresh() {
         const container = document.querySelector('main.container');
@@ -60,12 +73,12 @@
 
             stompClient.connect({}, function (frame) {
                 stompClient.subscribe('/topic/books/new', function (message) {
-                    const bookEvent = JSON.parse(message.body);
+                    const bookEvent = decodeBookEvent(message);
                     addNewBookToList(bookEvent);
                     if (typeof showToast === 'function') {
                         showToast(`새로운 소설 "${bookEvent.title}"이 등록되었습니다!`, 'success');
                     }
-                });
+                }, { 'content-type': COMPACT_TYPE });
             }, function (error) {
                 // Connection error handling
             });